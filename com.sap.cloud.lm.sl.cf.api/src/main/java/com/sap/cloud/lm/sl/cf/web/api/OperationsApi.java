@@ -97,8 +97,9 @@ public class OperationsApi {
         }) }, tags = {})
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK", response = String.class) })
     public Response getMtaOperationLogContent(@ApiParam(value = "", required = true) @PathParam("operationId") String operationId,
-        @ApiParam(value = "", required = true) @PathParam("logId") String logId) {
-        return delegate.getMtaOperationLogContent(operationId, logId, securityContext, spaceGuid);
+        @ApiParam(value = "", required = true) @PathParam("logId") String logId,
+        @ApiParam(value = "Skips the specified number of bytes from the beginning of the log ") @QueryParam("offset") Long offset) {
+        return delegate.getMtaOperationLogContent(operationId, logId, offset, securityContext, spaceGuid);
     }
 
     @GET
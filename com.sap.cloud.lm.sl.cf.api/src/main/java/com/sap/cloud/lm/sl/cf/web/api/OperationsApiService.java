@@ -15,7 +15,8 @@ public interface OperationsApiService {
 
     public Response getMtaOperationLogs(String operationId, SecurityContext securityContext, String spaceGuid);
     
-    public Response getMtaOperationLogContent(String operationId, String logId, SecurityContext securityContext, String spaceGuid);
+    public Response getMtaOperationLogContent(String operationId, String logId, Long offset, SecurityContext securityContext,
+        String spaceGuid);
 
     public Response getMtaOperations(Integer last, List<String> state, SecurityContext securityContext, String spaceGuid);
 
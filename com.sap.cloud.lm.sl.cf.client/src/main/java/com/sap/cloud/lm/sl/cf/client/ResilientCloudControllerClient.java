@@ -51,15 +51,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.web.client.ResponseErrorHandler;
 
+import com.sap.cloud.lm.sl.cf.client.util.CircuitBreaker;
 import com.sap.cloud.lm.sl.cf.client.util.ExecutionRetrier;
+import com.sap.cloud.lm.sl.cf.client.util.RetryBudget;
 
 public class ResilientCloudControllerClient implements CloudControllerClient {
 
-    private final ExecutionRetrier retrier = new ExecutionRetrier();
+    private final ExecutionRetrier retrier;
     private final CloudControllerClientImpl cc;
 
     public ResilientCloudControllerClient(CloudControllerRestClient cc) {
         this.cc = new CloudControllerClientImpl(cc);
+        String endpoint = String.valueOf(this.cc.getCloudControllerUrl());
+        this.retrier = new ExecutionRetrier().withCircuitBreaker(CircuitBreaker.forEndpoint(endpoint))
+            .withRetryBudget(RetryBudget.forEndpoint(endpoint));
     }
 
     @Override
@@ -0,0 +1,54 @@
+package com.sap.cloud.lm.sl.cf.client.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the consecutive failures of the requests to an endpoint. When they reach a threshold, the circuit opens and the requests to the
+ * endpoint are not retried until a given time passes without new failures. A successful request closes the circuit.
+ */
+public class CircuitBreaker {
+
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final long DEFAULT_OPEN_TIME_IN_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private static final Map<String, CircuitBreaker> CIRCUIT_BREAKERS = new ConcurrentHashMap<>();
+
+    private final int failureThreshold;
+    private final long openTimeInMillis;
+    private final Supplier<Long> currentTimeSupplier;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long lastFailureTime;
+
+    public CircuitBreaker(int failureThreshold, long openTimeInMillis) {
+        this(failureThreshold, openTimeInMillis, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int failureThreshold, long openTimeInMillis, Supplier<Long> currentTimeSupplier) {
+        this.failureThreshold = failureThreshold;
+        this.openTimeInMillis = openTimeInMillis;
+        this.currentTimeSupplier = currentTimeSupplier;
+    }
+
+    public static CircuitBreaker forEndpoint(String endpoint) {
+        return CIRCUIT_BREAKERS.computeIfAbsent(endpoint,
+            key -> new CircuitBreaker(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_TIME_IN_MILLIS));
+    }
+
+    public boolean isOpen() {
+        return consecutiveFailures.get() >= failureThreshold && currentTimeSupplier.get() - lastFailureTime < openTimeInMillis;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    public void recordFailure() {
+        lastFailureTime = currentTimeSupplier.get();
+        consecutiveFailures.incrementAndGet();
+    }
+
+}
@@ -1,22 +1,39 @@
 package com.sap.cloud.lm.sl.cf.client.util;
 
+import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 
+import org.cloudfoundry.client.lib.CloudOperationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.client.ResourceAccessException;
 
 import com.sap.cloud.lm.sl.common.util.CommonUtil;
 
+/**
+ * Executes requests and retries the ones that fail. The time between the retries grows exponentially with the number of the retry and is
+ * randomized (full jitter), so that clients that failed at the same time do not retry at the same time. Optionally, the retries can be
+ * limited by a {@link CircuitBreaker} and a {@link RetryBudget} of the endpoint to which the requests are sent.
+ */
 public class ExecutionRetrier {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionRetrier.class);
+
     private static final long DEFAULT_RETRY_COUNT = 3;
     private static final long DEFAULT_WAIT_TIME_BETWEEN_RETRIES_IN_MILLIS = 5000;
+    private static final long DEFAULT_MAX_WAIT_TIME_BETWEEN_RETRIES_IN_MILLIS = 60000;
 
     private boolean failSafe;
     private long retryCount = DEFAULT_RETRY_COUNT;
     private long waitTimeBetweenRetriesInMillis = DEFAULT_WAIT_TIME_BETWEEN_RETRIES_IN_MILLIS;
+    private long maxWaitTimeBetweenRetriesInMillis = DEFAULT_MAX_WAIT_TIME_BETWEEN_RETRIES_IN_MILLIS;
+    private CircuitBreaker circuitBreaker;
+    private RetryBudget retryBudget;
 
     public ExecutionRetrier failSafe() {
         this.failSafe = true;
@@ -28,30 +45,58 @@ public class ExecutionRetrier {
         return this;
     }
 
+    /**
+     * @param waitTimeBetweenRetriesInMillis the upper bound of the wait time before the first retry, which is doubled for every next retry
+     */
     public ExecutionRetrier withWaitTimeBetweenRetriesInMillis(long waitTimeBetweenRetriesInMillis) {
         this.waitTimeBetweenRetriesInMillis = waitTimeBetweenRetriesInMillis;
         return this;
     }
 
+    public ExecutionRetrier withMaxWaitTimeBetweenRetriesInMillis(long maxWaitTimeBetweenRetriesInMillis) {
+        this.maxWaitTimeBetweenRetriesInMillis = maxWaitTimeBetweenRetriesInMillis;
+        return this;
+    }
+
+    public ExecutionRetrier withCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    public ExecutionRetrier withRetryBudget(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+        return this;
+    }
+
     public <T> T executeWithRetry(Supplier<T> supplier, HttpStatus... httpStatusesToIgnore) {
         Set<HttpStatus> httpStatuses = new HashSet<>();
         httpStatuses.addAll(Arrays.asList(httpStatusesToIgnore));
         for (int i = 1; i < retryCount; i++) {
             try {
-                return supplier.get();
+                T result = supplier.get();
+                recordSuccess();
+                return result;
             } catch (Exception e) {
+                recordFailure(e);
                 new ExceptionHandlerFactory().geExceptionHandler(e, httpStatuses, failSafe)
                     .handleException(e);
+                if (!canRetry()) {
+                    new GenericExceptionHandler(failSafe).handleException(e);
+                    return null;
+                }
             }
-            CommonUtil.sleep(waitTimeBetweenRetriesInMillis);
+            CommonUtil.sleep(getWaitTimeBeforeRetry(i));
         }
         return executeWithGenericExceptionHandler(supplier);
     }
 
     private <T> T executeWithGenericExceptionHandler(Supplier<T> supplier) {
         try {
-            return supplier.get();
+            T result = supplier.get();
+            recordSuccess();
+            return result;
         } catch (Exception e) {
+            recordFailure(e);
             new GenericExceptionHandler(failSafe).handleException(e);
         }
         return null;
@@ -64,4 +109,50 @@ public class ExecutionRetrier {
         }, httpStatusesToIgnore);
     }
 
+    long getWaitTimeBeforeRetry(int retry) {
+        long maxWaitTime = waitTimeBetweenRetriesInMillis;
+        for (int i = 1; i < retry && maxWaitTime < maxWaitTimeBetweenRetriesInMillis; i++) {
+            maxWaitTime *= 2;
+        }
+        maxWaitTime = Math.min(maxWaitTime, maxWaitTimeBetweenRetriesInMillis);
+        return ThreadLocalRandom.current()
+            .nextLong(maxWaitTime + 1);
+    }
+
+    private boolean canRetry() {
+        if (circuitBreaker != null && circuitBreaker.isOpen()) {
+            LOGGER.warn("Not retrying failed request, because the circuit breaker of the endpoint is open");
+            return false;
+        }
+        if (retryBudget != null && !retryBudget.tryAcquire()) {
+            LOGGER.warn("Not retrying failed request, because the retry budget of the endpoint is exhausted");
+            return false;
+        }
+        return true;
+    }
+
+    private void recordSuccess() {
+        if (circuitBreaker != null) {
+            circuitBreaker.recordSuccess();
+        }
+        if (retryBudget != null) {
+            retryBudget.recordSuccess();
+        }
+    }
+
+    private void recordFailure(Exception e) {
+        if (circuitBreaker != null && isEndpointFailure(e)) {
+            LOGGER.debug(MessageFormat.format("Recording failure of request to the endpoint: {0}", e.getMessage()));
+            circuitBreaker.recordFailure();
+        }
+    }
+
+    private boolean isEndpointFailure(Exception e) {
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        return e instanceof CloudOperationException && ((CloudOperationException) e).getStatusCode()
+            .is5xxServerError();
+    }
+
 }
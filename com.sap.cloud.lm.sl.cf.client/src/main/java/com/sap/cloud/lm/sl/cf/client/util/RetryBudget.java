@@ -0,0 +1,44 @@
+package com.sap.cloud.lm.sl.cf.client.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits the number of retries to an endpoint relative to the number of successful requests to it. Every retry takes one token from the
+ * budget and every successful request adds a fraction of a token to it, up to a maximum. When the budget is empty, failed requests are not
+ * retried.
+ */
+public class RetryBudget {
+
+    private static final double DEFAULT_MAX_TOKENS = 100;
+    private static final double DEFAULT_TOKENS_PER_SUCCESS = 0.1;
+
+    private static final Map<String, RetryBudget> RETRY_BUDGETS = new ConcurrentHashMap<>();
+
+    private final double maxTokens;
+    private final double tokensPerSuccess;
+    private double tokens;
+
+    public RetryBudget(double maxTokens, double tokensPerSuccess) {
+        this.maxTokens = maxTokens;
+        this.tokensPerSuccess = tokensPerSuccess;
+        this.tokens = maxTokens;
+    }
+
+    public static RetryBudget forEndpoint(String endpoint) {
+        return RETRY_BUDGETS.computeIfAbsent(endpoint, key -> new RetryBudget(DEFAULT_MAX_TOKENS, DEFAULT_TOKENS_PER_SUCCESS));
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    public synchronized void recordSuccess() {
+        tokens = Math.min(maxTokens, tokens + tokensPerSuccess);
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.sap.cloud.lm.sl.cf.client.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.cloudfoundry.client.lib.CloudOperationException;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+public class ExecutionRetrierTest {
+
+    private static final long RETRY_COUNT = 4;
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    public void testRetriesServerErrors() {
+        ExecutionRetrier retrier = createRetrier();
+
+        assertEquals("ok", retrier.executeWithRetry(failTimes(2, HttpStatus.SERVICE_UNAVAILABLE)));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testDoesNotRetryClientErrors() {
+        ExecutionRetrier retrier = createRetrier();
+
+        try {
+            retrier.executeWithRetry(failTimes(1, HttpStatus.BAD_REQUEST));
+            fail();
+        } catch (CloudOperationException e) {
+            assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        }
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testDoesNotRetryWhenCircuitBreakerIsOpen() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 60000);
+        ExecutionRetrier retrier = createRetrier().withCircuitBreaker(circuitBreaker);
+
+        try {
+            retrier.executeWithRetry(failTimes(2, HttpStatus.BAD_GATEWAY));
+            fail();
+        } catch (CloudOperationException e) {
+            assertEquals(HttpStatus.BAD_GATEWAY, e.getStatusCode());
+        }
+        assertEquals(1, attempts.get());
+        assertTrue(circuitBreaker.isOpen());
+    }
+
+    @Test
+    public void testSuccessClosesCircuitBreaker() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, 60000);
+        ExecutionRetrier retrier = createRetrier().withCircuitBreaker(circuitBreaker);
+
+        assertEquals("ok", retrier.executeWithRetry(failTimes(1, HttpStatus.BAD_GATEWAY)));
+        circuitBreaker.recordFailure();
+        assertFalse(circuitBreaker.isOpen());
+    }
+
+    @Test
+    public void testCircuitBreakerClosesAfterOpenTime() {
+        AtomicInteger currentTime = new AtomicInteger();
+        Supplier<Long> currentTimeSupplier = () -> (long) currentTime.get();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 1000, currentTimeSupplier);
+
+        circuitBreaker.recordFailure();
+        assertTrue(circuitBreaker.isOpen());
+        currentTime.set(1000);
+        assertFalse(circuitBreaker.isOpen());
+    }
+
+    @Test
+    public void testDoesNotRetryWhenRetryBudgetIsExhausted() {
+        ExecutionRetrier retrier = createRetrier().withRetryBudget(new RetryBudget(1, 0));
+
+        try {
+            retrier.executeWithRetry(failTimes(3, HttpStatus.INTERNAL_SERVER_ERROR));
+            fail();
+        } catch (CloudOperationException e) {
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, e.getStatusCode());
+        }
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testFailSafeRetrierReturnsNullWhenRetryBudgetIsExhausted() {
+        ExecutionRetrier retrier = createRetrier().withRetryBudget(new RetryBudget(0, 0))
+            .failSafe();
+
+        assertEquals(null, retrier.executeWithRetry(failTimes(3, HttpStatus.BAD_REQUEST)));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testWaitTimeBeforeRetry() {
+        ExecutionRetrier retrier = new ExecutionRetrier().withWaitTimeBetweenRetriesInMillis(100)
+            .withMaxWaitTimeBetweenRetriesInMillis(1000);
+
+        for (int i = 0; i < 100; i++) {
+            assertBetween(0, 100, retrier.getWaitTimeBeforeRetry(1));
+            assertBetween(0, 200, retrier.getWaitTimeBeforeRetry(2));
+            assertBetween(0, 400, retrier.getWaitTimeBeforeRetry(3));
+            assertBetween(0, 1000, retrier.getWaitTimeBeforeRetry(10));
+            assertBetween(0, 1000, retrier.getWaitTimeBeforeRetry(100));
+        }
+    }
+
+    private ExecutionRetrier createRetrier() {
+        return new ExecutionRetrier().withRetryCount(RETRY_COUNT)
+            .withWaitTimeBetweenRetriesInMillis(1);
+    }
+
+    private Supplier<String> failTimes(int failures, HttpStatus status) {
+        return () -> {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new CloudOperationException(status);
+            }
+            return "ok";
+        };
+    }
+
+    private void assertBetween(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max);
+    }
+
+}
@@ -3,6 +3,8 @@ package com.sap.cloud.lm.sl.cf.core.auditlogging.impl;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.sql.DataSource;
 
@@ -21,7 +23,7 @@ class AuditLogManager {
         @Override
         public void eventToStatement(String category, LoggingEvent event, UserInfo userInfo, PreparedStatement stmt) throws SQLException {
             stmt.setString(1, userInfo == null ? null : userInfo.getName());
-            stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+            stmt.setTimestamp(2, new Timestamp(event.getTimeStamp()));
             stmt.setString(3, category);
             stmt.setString(4, event.getLevel()
                 .toString());
@@ -38,6 +40,8 @@ class AuditLogManager {
 
     private Logger actionLogger;
 
+    private final List<DBAppender> appenders = new ArrayList<>();
+
     Logger getSecurityLogger() {
         return securityLogger;
     }
@@ -55,18 +59,36 @@ class AuditLogManager {
     }
 
     AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider) {
-        securityLogger = setUpLogger(dataSource, userInfoProvider, "SECURITY");
-        configLogger = setUpLogger(dataSource, userInfoProvider, "CONFIG");
-        actionLogger = setUpLogger(dataSource, userInfoProvider, "ACTION");
+        this(dataSource, userInfoProvider, DBAppender.DEFAULT_QUEUE_CAPACITY, DBAppender.DEFAULT_FLUSH_INTERVAL_IN_MILLIS);
+    }
+
+    AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider, int queueCapacity, long flushIntervalInMillis) {
+        securityLogger = setUpLogger(dataSource, userInfoProvider, "SECURITY", queueCapacity, flushIntervalInMillis);
+        configLogger = setUpLogger(dataSource, userInfoProvider, "CONFIG", queueCapacity, flushIntervalInMillis);
+        actionLogger = setUpLogger(dataSource, userInfoProvider, "ACTION", queueCapacity, flushIntervalInMillis);
     }
 
-    private Logger setUpLogger(DataSource dataSource, UserInfoProvider userInfoProvider, String name) {
+    private Logger setUpLogger(DataSource dataSource, UserInfoProvider userInfoProvider, String name, int queueCapacity,
+        long flushIntervalInMillis) {
         Logger logger = Logger.getLogger(name);
         DBAppender auditLogAppender = new DBAppender(dataSource, AUDIT_LOG_INSERT_STATEMENT, EVENT_ADAPTER, exceptionHandler,
-            userInfoProvider);
+            userInfoProvider, queueCapacity, flushIntervalInMillis);
         auditLogAppender.setName(name);
         logger.addAppender(auditLogAppender);
+        appenders.add(auditLogAppender);
         return logger;
     }
 
+    void flush() {
+        appenders.forEach(DBAppender::flush);
+    }
+
+    void shutdown() {
+        for (DBAppender appender : appenders) {
+            Logger.getLogger(appender.getName())
+                .removeAppender(appender);
+            appender.close();
+        }
+    }
+
 }
@@ -10,4 +10,8 @@ public class AuditLogWriteException extends SLException {
         super(loggingException);
     }
 
+    public AuditLogWriteException(Exception loggingException, String message, Object... arguments) {
+        super(loggingException, message, arguments);
+    }
+
 }
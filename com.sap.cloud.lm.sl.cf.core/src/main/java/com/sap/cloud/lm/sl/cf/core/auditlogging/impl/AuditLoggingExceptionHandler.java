@@ -1,11 +1,22 @@
 package com.sap.cloud.lm.sl.cf.core.auditlogging.impl;
 
+import org.apache.log4j.Logger;
+
+import com.sap.cloud.lm.sl.cf.core.message.Messages;
+
+/**
+ * Reports the failures to write audit log events. As the events are written asynchronously, the failures are logged by the thread that
+ * writes the events and not by the one that logged them.
+ */
 class AuditLoggingExceptionHandler implements DBAppender.ExceptionHandler {
 
-    private Exception exception;
+    private static final Logger LOGGER = Logger.getLogger(AuditLoggingExceptionHandler.class);
+
+    private volatile Exception exception;
 
     @Override
     public void handleException(Exception e) {
+        LOGGER.error(Messages.AUDIT_LOGGING_FAILED, e);
         this.setException(e);
     }
 
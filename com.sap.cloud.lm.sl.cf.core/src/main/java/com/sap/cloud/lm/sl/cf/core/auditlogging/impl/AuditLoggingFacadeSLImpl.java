@@ -11,17 +11,22 @@ import org.apache.log4j.Logger;
 import com.sap.cloud.lm.sl.cf.core.auditlogging.AuditLoggingFacade;
 import com.sap.cloud.lm.sl.cf.core.auditlogging.UserInfoProvider;
 import com.sap.cloud.lm.sl.cf.core.message.Messages;
+import com.sap.cloud.lm.sl.cf.core.util.ApplicationConfiguration;
 import com.sap.cloud.lm.sl.mta.model.AuditableConfiguration;
 
 public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
 
-    private static final Logger LOGGER = Logger.getLogger(AuditLoggingFacadeSLImpl.class);
     private AuditLogManager auditLogManager;
 
     public AuditLoggingFacadeSLImpl(DataSource dataSource, UserInfoProvider userInfoProvider) {
         this.auditLogManager = new AuditLogManager(dataSource, userInfoProvider);
     }
 
+    public AuditLoggingFacadeSLImpl(DataSource dataSource, UserInfoProvider userInfoProvider, ApplicationConfiguration configuration) {
+        this.auditLogManager = new AuditLogManager(dataSource, userInfoProvider, configuration.getAuditLogQueueCapacity(),
+            configuration.getAuditLogFlushIntervalInMillis());
+    }
+
     @Override
     public void logSecurityIncident(String message) {
         writeMessage(auditLogManager.getSecurityLogger(), message, Level.WARN);
@@ -78,14 +83,15 @@ public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
     }
 
     private void writeMessage(Logger logger, String message, Level level) {
-        Exception loggingException = null;
-        synchronized (auditLogManager) {
-            logger.log(level, message);
-            loggingException = auditLogManager.getException();
-        }
-        if (loggingException != null) {
-            LOGGER.error(Messages.AUDIT_LOGGING_FAILED, loggingException);
-        }
+        // The message is written asynchronously, so the failures to write it are reported by the audit log manager:
+        logger.log(level, message);
+    }
+
+    /**
+     * Writes the queued audit log events to the database and stops the background thread that writes them.
+     */
+    public void shutdown() {
+        auditLogManager.shutdown();
     }
 
 }
@@ -3,15 +3,30 @@ package com.sap.cloud.lm.sl.cf.core.auditlogging.impl;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
 import org.apache.log4j.spi.LoggingEvent;
 
 import com.sap.cloud.lm.sl.cf.core.auditlogging.UserInfoProvider;
+import com.sap.cloud.lm.sl.cf.core.message.Messages;
 import com.sap.cloud.lm.sl.cf.core.util.UserInfo;
 
+/**
+ * Queues the appended events in a bounded in-memory buffer and writes them to the database in batches from a background thread. The user
+ * info is resolved when the event is appended, since it is bound to the thread that logs the event. When the queue is full, the thread that
+ * appends an event writes the queued events itself until there is room for the new one. A batch that cannot be written is kept and written
+ * before the next ones by the following flushes. It is discarded, and reported as such, only after it has failed
+ * {@value #MAX_WRITE_ATTEMPTS} times, so that a database outage does not block the appending threads indefinitely.
+ */
 class DBAppender extends org.apache.log4j.AppenderSkeleton implements org.apache.log4j.Appender {
 
     interface LogEventAdapter {
@@ -23,37 +38,91 @@ class DBAppender extends org.apache.log4j.AppenderSkeleton implements org.apache
         public void handleException(Exception e);
     }
 
+    static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    static final long DEFAULT_FLUSH_INTERVAL_IN_MILLIS = 500;
+    private static final int MAX_BATCH_SIZE = 500;
+    static final int MAX_WRITE_ATTEMPTS = 5;
+
     private DataSource dataSource;
     private LogEventAdapter eventAdapter;
     private String sql;
     private ExceptionHandler exceptionHandler;
     private UserInfoProvider userInfoProvider;
+    private BlockingQueue<PendingEvent> queue;
+    private ScheduledExecutorService flusher;
+    private final Object flushLock = new Object();
+    private final List<PendingEvent> pendingBatch = new ArrayList<>(MAX_BATCH_SIZE);
+    private int failedWriteAttempts;
 
     DBAppender(DataSource dataSource, String sql, LogEventAdapter eventAdapter, ExceptionHandler exceptionHandler,
-        UserInfoProvider userInfoProvider) {
+        UserInfoProvider userInfoProvider, int queueCapacity, long flushIntervalInMillis) {
         this.dataSource = Objects.requireNonNull(dataSource);
         this.sql = Objects.requireNonNull(sql);
         this.eventAdapter = Objects.requireNonNull(eventAdapter);
         this.exceptionHandler = Objects.requireNonNull(exceptionHandler);
         this.userInfoProvider = userInfoProvider;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalInMillis, flushIntervalInMillis, TimeUnit.MILLISECONDS);
     }
 
     @Override
     protected void append(LoggingEvent event) {
-        try {
-            Connection connection = dataSource.getConnection();
-            try {
-                PreparedStatement stmt = connection.prepareStatement(sql);
-                try {
-                    eventAdapter.eventToStatement(getName(), event, userInfoProvider.getUserInfo(), stmt);
-                    stmt.executeUpdate();
-                } finally {
-                    stmt.close();
+        PendingEvent pendingEvent = new PendingEvent(event, userInfoProvider.getUserInfo());
+        while (!queue.offer(pendingEvent)) {
+            flush();
+        }
+    }
+
+    void flush() {
+        synchronized (flushLock) {
+            if (!pendingBatch.isEmpty() && !writePendingBatch()) {
+                return;
+            }
+            while (queue.drainTo(pendingBatch, MAX_BATCH_SIZE) > 0) {
+                if (!writePendingBatch()) {
+                    return;
                 }
-            } finally {
-                connection.close();
             }
-        } catch (SQLException e) {
+        }
+    }
+
+    private boolean writePendingBatch() {
+        try {
+            write(pendingBatch);
+        } catch (SQLException | RuntimeException e) {
+            if (++failedWriteAttempts < MAX_WRITE_ATTEMPTS) {
+                exceptionHandler.handleException(e);
+                // The following batches would most likely fail as well, so they stay in the queue until this one is written:
+                return false;
+            }
+            exceptionHandler.handleException(
+                new AuditLogWriteException(e, Messages.DISCARDING_AUDIT_LOG_EVENTS, pendingBatch.size(), getName(), failedWriteAttempts));
+        }
+        pendingBatch.clear();
+        failedWriteAttempts = 0;
+        return true;
+    }
+
+    private void write(List<PendingEvent> batch) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (PendingEvent pendingEvent : batch) {
+                eventAdapter.eventToStatement(getName(), pendingEvent.event, pendingEvent.userInfo, stmt);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void flushQuietly() {
+        // An exception thrown out of the scheduled task would cancel all of its following executions:
+        try {
+            flush();
+        } catch (RuntimeException e) {
             exceptionHandler.handleException(e);
         }
     }
@@ -65,7 +134,21 @@ class DBAppender extends org.apache.log4j.AppenderSkeleton implements org.apache
 
     @Override
     public void close() {
-        // Nothing to free here, connections are released to pool after being used
+        closed = true;
+        flusher.shutdown();
+        flushQuietly();
+    }
+
+    private static class PendingEvent {
+
+        private final LoggingEvent event;
+        private final UserInfo userInfo;
+
+        PendingEvent(LoggingEvent event, UserInfo userInfo) {
+            this.event = event;
+            this.userInfo = userInfo;
+        }
+
     }
 
 }
@@ -1,11 +1,15 @@
 package com.sap.cloud.lm.sl.cf.core.cf;
 
 import java.net.MalformedURLException;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
-import org.apache.commons.collections4.map.AbstractReferenceMap.ReferenceStrength;
-import org.apache.commons.collections4.map.ReferenceMap;
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.cloudfoundry.client.lib.CloudOperationException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,16 +25,34 @@ import com.sap.cloud.lm.sl.common.util.Pair;
 @Component
 public class CloudControllerClientProvider {
 
+    private static final int MAX_CACHED_CLIENTS = 1000;
+
     @Autowired
     private ClientFactory clientFactory;
 
     @Autowired
     private TokenService tokenService;
 
-    // Cached clients. These are stored in memory-sensitive cache, i.e. no OutOfMemory error would
-    // occur before GC tries to release the not-used clients.
-    private Map<String, Pair<CloudControllerClient, TokenProvider>> clients = Collections
-        .synchronizedMap(new ReferenceMap<>(ReferenceStrength.HARD, ReferenceStrength.SOFT));
+    // Cached clients. The least recently used clients are evicted when the cache is full and every client is evicted when the token it was
+    // created with expires.
+    private final Map<String, CachedClient> clients = new LinkedHashMap<String, CachedClient>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedClient> eldest) {
+            return size() > MAX_CACHED_CLIENTS;
+        }
+
+    };
+
+    // Clients, which are being created at the moment. Concurrent requests for the same client wait for its creation instead of creating
+    // (and logging in with) a client of their own.
+    private final ConcurrentMap<String, CompletableFuture<Pair<CloudControllerClient, TokenProvider>>> pendingClients =
+        new ConcurrentHashMap<>();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
 
     public CloudControllerClient getControllerClient(String userName, String org, String space, String processId) {
         Pair<CloudControllerClient, TokenProvider> client = retrieveClientForToken(userName, org, space, processId);
@@ -48,7 +70,7 @@ public class CloudControllerClientProvider {
     }
 
     public CloudControllerClient getControllerClient(String userName) {
-        Pair<CloudControllerClient, TokenProvider> client = createClientForToken(userName);
+        Pair<CloudControllerClient, TokenProvider> client = retrieveClientForToken(userName);
         return client._1;
     }
 
@@ -105,9 +127,9 @@ public class CloudControllerClientProvider {
         }
     }
 
-    private Pair<CloudControllerClient, TokenProvider> createClientForToken(String userName) {
+    private Pair<CloudControllerClient, TokenProvider> retrieveClientForToken(String userName) {
         try {
-            return clientFactory.createClient(getValidToken(userName));
+            return getOrCreateClient(userName, userName, clientFactory::createClient, true);
         } catch (CloudOperationException e) {
             throw new SLException(e, Messages.CANT_CREATE_CLIENT);
         }
@@ -130,25 +152,89 @@ public class CloudControllerClientProvider {
     public Pair<CloudControllerClient, TokenProvider> getClientFromCache(String userName, String org, String space, String processId) {
         // Get a client from the cache or create a new one if needed
         String key = getKey(userName, org, space);
-        Pair<CloudControllerClient, TokenProvider> client = clients.get(key);
-        if (client == null) {
-            client = clientFactory.createClient(getValidToken(userName), org, space);
-            if (processId != null) {
-                clients.put(key, client);
-            }
-        }
-        return client;
+        return getOrCreateClient(key, userName, token -> clientFactory.createClient(token, org, space), processId != null);
     }
 
     public Pair<CloudControllerClient, TokenProvider> getClientFromCache(String userName, String spaceId) {
         // Get a client from the cache or create a new one if needed
         String key = getKey(userName, spaceId);
-        Pair<CloudControllerClient, TokenProvider> client = clients.get(key);
-        if (client == null) {
-            client = clientFactory.createClient(getValidToken(userName), spaceId);
-            clients.put(key, client);
+        return getOrCreateClient(key, userName, token -> clientFactory.createClient(token, spaceId), true);
+    }
+
+    private Pair<CloudControllerClient, TokenProvider> getOrCreateClient(String key, String userName,
+        Function<OAuth2AccessToken, Pair<CloudControllerClient, TokenProvider>> clientCreator, boolean shouldCache) {
+        Pair<CloudControllerClient, TokenProvider> client = getCachedClient(key);
+        if (client != null) {
+            cacheHits.incrementAndGet();
+            return client;
+        }
+        cacheMisses.incrementAndGet();
+        CompletableFuture<Pair<CloudControllerClient, TokenProvider>> clientCreation = new CompletableFuture<>();
+        CompletableFuture<Pair<CloudControllerClient, TokenProvider>> pendingClientCreation = pendingClients.putIfAbsent(key,
+            clientCreation);
+        if (pendingClientCreation != null) {
+            return waitForClient(pendingClientCreation);
+        }
+        try {
+            // The client may have been created and cached while this thread was looking for it:
+            client = getCachedClient(key);
+            if (client == null) {
+                OAuth2AccessToken token = getValidToken(userName);
+                client = clientCreator.apply(token);
+                if (shouldCache) {
+                    cacheClient(key, client, token);
+                }
+            }
+            clientCreation.complete(client);
+            return client;
+        } catch (RuntimeException e) {
+            clientCreation.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingClients.remove(key, clientCreation);
         }
-        return client;
+    }
+
+    private Pair<CloudControllerClient, TokenProvider> waitForClient(CompletableFuture<Pair<CloudControllerClient, TokenProvider>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Pair<CloudControllerClient, TokenProvider> getCachedClient(String key) {
+        synchronized (clients) {
+            CachedClient cachedClient = clients.get(key);
+            if (cachedClient == null) {
+                return null;
+            }
+            if (cachedClient.isExpired()) {
+                clients.remove(key);
+                return null;
+            }
+            return cachedClient.client;
+        }
+    }
+
+    private void cacheClient(String key, Pair<CloudControllerClient, TokenProvider> client, OAuth2AccessToken token) {
+        long expirationTime = token.getExpiration() == null ? Long.MAX_VALUE
+            : token.getExpiration()
+                .getTime();
+        synchronized (clients) {
+            clients.put(key, new CachedClient(client, expirationTime));
+        }
+    }
+
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.get();
     }
 
     /**
@@ -162,10 +248,12 @@ public class CloudControllerClientProvider {
      */
     public void updateClientInCache(String userName, String org, String space) {
         String key = getKey(userName, org, space);
-        Pair<CloudControllerClient, TokenProvider> client = clients.remove(key);
-        if (client != null) {
-            String key2 = getKey(userName, org, space);
-            clients.put(key2, client);
+        synchronized (clients) {
+            CachedClient client = clients.remove(key);
+            if (client != null) {
+                String key2 = getKey(userName, org, space);
+                clients.put(key2, client);
+            }
         }
     }
 
@@ -177,11 +265,15 @@ public class CloudControllerClientProvider {
      * @param space the space associated with the client
      */
     public void releaseClientFromCache(String userName, String org, String space) {
-        clients.remove(getKey(userName, org, space));
+        synchronized (clients) {
+            clients.remove(getKey(userName, org, space));
+        }
     }
 
     public void releaseClientFromCache(String userName, String spaceGuid) {
-        clients.remove(getKey(userName, spaceGuid));
+        synchronized (clients) {
+            clients.remove(getKey(userName, spaceGuid));
+        }
     }
 
     private String getKey(String userName, String org, String space) {
@@ -201,4 +293,20 @@ public class CloudControllerClientProvider {
             .append(spaceId);
         return sb.toString();
     }
+
+    private static class CachedClient {
+
+        private final Pair<CloudControllerClient, TokenProvider> client;
+        private final long expirationTime;
+
+        CachedClient(Pair<CloudControllerClient, TokenProvider> client, long expirationTime) {
+            this.client = client;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expirationTime;
+        }
+
+    }
 }
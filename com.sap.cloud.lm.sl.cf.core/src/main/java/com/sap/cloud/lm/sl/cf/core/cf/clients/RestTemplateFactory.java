@@ -2,25 +2,84 @@ package com.sap.cloud.lm.sl.cf.core.cf.clients;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.http.client.HttpClient;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.cloudfoundry.client.lib.CloudControllerClient;
-import org.cloudfoundry.client.lib.util.RestUtil;
+import org.cloudfoundry.client.lib.rest.CloudControllerResponseErrorHandler;
+import org.cloudfoundry.client.lib.rest.LoggingRestTemplate;
+import org.cloudfoundry.client.lib.rest.LoggregatorHttpMessageConverter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 @Component
 public class RestTemplateFactory {
 
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 50;
+    private static final int MAX_CONNECTIONS_TOTAL = 200;
+    private static final long MAX_IDLE_TIME_IN_SECONDS = 60;
+    private static final long CONNECTION_TIME_TO_LIVE_IN_MINUTES = 10;
+
+    // The connection pools are shared by all factories, so that every request to the same controller can reuse an already established
+    // connection instead of doing a new TCP and TLS handshake:
+    private static final Map<String, ClientHttpRequestFactory> REQUEST_FACTORIES = new ConcurrentHashMap<>();
+
     public RestTemplate getRestTemplate(CloudControllerClient client) {
-        RestTemplate restTemplate = new RestUtil().createRestTemplate(null, false);
-        restTemplate.setRequestFactory(new HttpRequestFactory(restTemplate.getRequestFactory(), client));
+        // The template is configured like the ones of RestUtil, which would also create an HTTP client of its own that is never used:
+        RestTemplate restTemplate = new LoggingRestTemplate();
+        restTemplate.setRequestFactory(new HttpRequestFactory(getPooledRequestFactory(client), client));
+        restTemplate.setErrorHandler(new CloudControllerResponseErrorHandler());
+        restTemplate.setMessageConverters(Arrays.asList(new ByteArrayHttpMessageConverter(), new StringHttpMessageConverter(),
+            new ResourceHttpMessageConverter(), new MappingJackson2HttpMessageConverter(), new LoggregatorHttpMessageConverter()));
         return restTemplate;
     }
 
+    ClientHttpRequestFactory getPooledRequestFactory(CloudControllerClient client) {
+        String controllerUrl = client.getCloudControllerUrl()
+            .toString();
+        return REQUEST_FACTORIES.computeIfAbsent(controllerUrl, url -> new HttpComponentsClientHttpRequestFactory(createHttpClient()));
+    }
+
+    private HttpClient createHttpClient() {
+        return HttpClients.custom()
+            .useSystemProperties()
+            .setConnectionManager(createConnectionManager())
+            .evictExpiredConnections()
+            .evictIdleConnections(MAX_IDLE_TIME_IN_SECONDS, TimeUnit.SECONDS)
+            .build();
+    }
+
+    private PoolingHttpClientConnectionManager createConnectionManager() {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+            .build();
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry, null, null,
+            null, CONNECTION_TIME_TO_LIVE_IN_MINUTES, TimeUnit.MINUTES);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        connectionManager.setMaxTotal(MAX_CONNECTIONS_TOTAL);
+        return connectionManager;
+    }
+
     private class HttpRequestFactory implements ClientHttpRequestFactory {
 
         private ClientHttpRequestFactory requestFactory;
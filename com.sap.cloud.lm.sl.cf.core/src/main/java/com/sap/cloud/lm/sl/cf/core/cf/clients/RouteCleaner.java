@@ -0,0 +1,61 @@
+package com.sap.cloud.lm.sl.cf.core.cf.clients;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.cloudfoundry.client.lib.CloudControllerClient;
+import org.cloudfoundry.client.lib.domain.CloudRoute;
+import org.cloudfoundry.client.lib.util.CloudEntityResourceMapper;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Deletes routes without looking them up one by one. The routes of a space are resolved, together with their domains, with a single
+ * paginated request, and are then deleted by their GUIDs. {@link CloudControllerClient#deleteRoute(String, String)} looks up the domain
+ * and the route again for every deleted route.
+ */
+@Named
+public class RouteCleaner extends CustomControllerClient {
+
+    private static final String SPACE_ROUTES_URL = "/v2/spaces/{space_guid}/routes?inline-relations-depth=1";
+    private static final String ROUTE_URL = "/v2/routes/{route_guid}";
+
+    private CloudEntityResourceMapper resourceMapper = new CloudEntityResourceMapper();
+
+    @Inject
+    public RouteCleaner(RestTemplateFactory restTemplateFactory) {
+        super(restTemplateFactory);
+    }
+
+    public List<CloudRoute> getRoutes(CloudControllerClient client, String spaceGuid) {
+        return new CustomControllerClientErrorHandler().handleErrorsOrReturnResult(() -> attemptToGetRoutes(client, spaceGuid));
+    }
+
+    private List<CloudRoute> attemptToGetRoutes(CloudControllerClient client, String spaceGuid) {
+        RestTemplate restTemplate = getRestTemplate(client);
+        String cloudControllerUrl = client.getCloudControllerUrl()
+            .toString();
+        Map<String, Object> urlVariables = Collections.singletonMap("space_guid", spaceGuid);
+        List<Map<String, Object>> resources = getAllResources(restTemplate, cloudControllerUrl, SPACE_ROUTES_URL, urlVariables);
+        return resources.stream()
+            .map(resource -> resourceMapper.mapResource(resource, CloudRoute.class))
+            .collect(Collectors.toList());
+    }
+
+    public void deleteRoute(CloudControllerClient client, CloudRoute route) {
+        new CustomControllerClientErrorHandler().handleErrors(() -> attemptToDeleteRoute(client, route));
+    }
+
+    private void attemptToDeleteRoute(CloudControllerClient client, CloudRoute route) {
+        RestTemplate restTemplate = getRestTemplate(client);
+        String cloudControllerUrl = client.getCloudControllerUrl()
+            .toString();
+        restTemplate.delete(getUrl(cloudControllerUrl, ROUTE_URL), route.getMetadata()
+            .getGuid());
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.sap.cloud.lm.sl.cf.core.cf.clients;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.apache.commons.collections4.ListUtils;
+import org.cloudfoundry.client.lib.CloudControllerClient;
+import org.cloudfoundry.client.lib.domain.CloudServiceBinding;
+import org.cloudfoundry.client.lib.domain.CloudServiceKey;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudMetadata;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudServiceBinding;
+import org.cloudfoundry.client.lib.util.CloudEntityResourceMapper;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Lists the bindings and the keys of many service instances at once. The instances are filtered by their GUIDs, so the bindings or the
+ * keys of dozens of instances are returned by a single paginated request, instead of by one request per instance.
+ */
+@Named
+public class ServiceBindingsAndKeysGetter extends CustomControllerClient {
+
+    private static final String SERVICE_BINDINGS_URL = "/v2/service_bindings?q=service_instance_guid IN {service_guids}";
+    private static final String SERVICE_KEYS_URL = "/v2/service_keys?q=service_instance_guid IN {service_guids}";
+    // Keeps the length of the URLs well below the limits of the controller and of the routers in front of it:
+    private static final int MAX_SERVICE_GUIDS_PER_REQUEST = 50;
+
+    private CloudEntityResourceMapper resourceMapper = new CloudEntityResourceMapper();
+
+    @Inject
+    public ServiceBindingsAndKeysGetter(RestTemplateFactory restTemplateFactory) {
+        super(restTemplateFactory);
+    }
+
+    public Map<UUID, List<CloudServiceBinding>> getServiceBindings(CloudControllerClient client, Collection<UUID> serviceGuids) {
+        return new CustomControllerClientErrorHandler().handleErrorsOrReturnResult(
+            () -> attemptToGetResourcesByServiceGuid(client, SERVICE_BINDINGS_URL, serviceGuids, this::mapServiceBinding));
+    }
+
+    public Map<UUID, List<CloudServiceKey>> getServiceKeys(CloudControllerClient client, Collection<UUID> serviceGuids) {
+        return new CustomControllerClientErrorHandler().handleErrorsOrReturnResult(() -> attemptToGetResourcesByServiceGuid(client,
+            SERVICE_KEYS_URL, serviceGuids, resource -> resourceMapper.mapResource(resource, CloudServiceKey.class)));
+    }
+
+    private <T> Map<UUID, List<T>> attemptToGetResourcesByServiceGuid(CloudControllerClient client, String urlPath,
+        Collection<UUID> serviceGuids, Function<Map<String, Object>, T> mapper) {
+        RestTemplate restTemplate = getRestTemplate(client);
+        String cloudControllerUrl = client.getCloudControllerUrl()
+            .toString();
+        Map<UUID, List<T>> resourcesByServiceGuid = new HashMap<>();
+        for (List<UUID> serviceGuidsPartition : ListUtils.partition(new ArrayList<>(serviceGuids), MAX_SERVICE_GUIDS_PER_REQUEST)) {
+            Map<String, Object> urlVariables = Collections.singletonMap("service_guids", toCommaSeparatedList(serviceGuidsPartition));
+            for (Map<String, Object> resource : getAllResources(restTemplate, cloudControllerUrl, urlPath, urlVariables)) {
+                resourcesByServiceGuid.computeIfAbsent(getServiceGuid(resource), serviceGuid -> new ArrayList<>())
+                    .add(mapper.apply(resource));
+            }
+        }
+        return resourcesByServiceGuid;
+    }
+
+    private String toCommaSeparatedList(List<UUID> guids) {
+        return guids.stream()
+            .map(UUID::toString)
+            .collect(Collectors.joining(","));
+    }
+
+    private UUID getServiceGuid(Map<String, Object> resource) {
+        return UUID.fromString((String) getEntity(resource).get("service_instance_guid"));
+    }
+
+    private CloudServiceBinding mapServiceBinding(Map<String, Object> resource) {
+        return ImmutableCloudServiceBinding.builder()
+            .metadata(ImmutableCloudMetadata.builder()
+                .guid(UUID.fromString((String) getMetadata(resource).get("guid")))
+                .build())
+            .applicationGuid(UUID.fromString((String) getEntity(resource).get("app_guid")))
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getEntity(Map<String, Object> resource) {
+        return (Map<String, Object>) resource.get("entity");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getMetadata(Map<String, Object> resource) {
+        return (Map<String, Object>) resource.get("metadata");
+    }
+
+}
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.cloudfoundry.client.lib.domain.CloudApplication;
@@ -26,6 +27,11 @@ public class DeployedComponentsDetector {
      * 
      */
     public DeployedComponents detectAllDeployedComponents(Collection<CloudApplication> apps) {
+        return detectAllDeployedComponents(apps, ApplicationMtaMetadataParser::parseAppMetadata);
+    }
+
+    DeployedComponents detectAllDeployedComponents(Collection<CloudApplication> apps,
+        Function<CloudApplication, ApplicationMtaMetadata> appMetadataParser) {
         Map<DeployedMtaMetadata, Set<String>> servicesMap = new HashMap<>();
         Map<DeployedMtaMetadata, List<DeployedMtaModule>> modulesMap = new HashMap<>();
         List<String> standaloneApps = new ArrayList<>();
@@ -33,7 +39,7 @@ public class DeployedComponentsDetector {
         for (CloudApplication app : apps) {
             String appName = app.getName();
 
-            ApplicationMtaMetadata appMetadata = ApplicationMtaMetadataParser.parseAppMetadata(app);
+            ApplicationMtaMetadata appMetadata = appMetadataParser.apply(app);
 
             if (appMetadata != null) {
                 // This application is an MTA module.
@@ -81,30 +87,22 @@ public class DeployedComponentsDetector {
 
     private List<DeployedMta> mergeDifferentVersionsOfMtasWithSameId(List<DeployedMta> mtas) {
         List<DeployedMta> result = new ArrayList<>();
-        for (String mtaId : getMtaIds(mtas)) {
-            List<DeployedMta> mtasWithSameId = getMtasWithSameId(mtas, mtaId);
-            if (mtasWithSameId.size() > 1) {
-                result.add(mergeMtas(mtaId, mtasWithSameId));
+        for (Entry<String, List<DeployedMta>> mtasWithSameId : groupMtasById(mtas).entrySet()) {
+            if (mtasWithSameId.getValue()
+                .size() > 1) {
+                result.add(mergeMtas(mtasWithSameId.getKey(), mtasWithSameId.getValue()));
             } else {
-                result.add(mtasWithSameId.get(0));
+                result.add(mtasWithSameId.getValue()
+                    .get(0));
             }
         }
         return result;
     }
 
-    private Set<String> getMtaIds(List<DeployedMta> mtas) {
-        return mtas.stream()
-            .map(mta -> mta.getMetadata()
-                .getId())
-            .collect(Collectors.toSet());
-    }
-
-    private List<DeployedMta> getMtasWithSameId(List<DeployedMta> mtas, String id) {
+    private Map<String, List<DeployedMta>> groupMtasById(List<DeployedMta> mtas) {
         return mtas.stream()
-            .filter(mta -> mta.getMetadata()
-                .getId()
-                .equals(id))
-            .collect(Collectors.toList());
+            .collect(Collectors.groupingBy(mta -> mta.getMetadata()
+                .getId()));
     }
 
     private DeployedMta mergeMtas(String mtaId, List<DeployedMta> mtas) {
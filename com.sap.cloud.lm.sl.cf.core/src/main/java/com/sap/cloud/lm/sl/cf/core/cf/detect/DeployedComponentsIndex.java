@@ -0,0 +1,97 @@
+package com.sap.cloud.lm.sl.cf.core.cf.detect;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.cloudfoundry.client.lib.domain.CloudApplication;
+import org.cloudfoundry.client.lib.domain.CloudMetadata;
+import org.springframework.stereotype.Component;
+
+import com.sap.cloud.lm.sl.cf.core.model.ApplicationMtaMetadata;
+import com.sap.cloud.lm.sl.cf.core.model.DeployedComponents;
+
+/**
+ * Detects the deployed components of spaces, while keeping an index of the MTA metadata of their applications. The metadata of an
+ * application is parsed again only if the application was updated since the last detection in its space, so detecting the components of
+ * spaces with many applications does not require parsing the environments of all of them every time. The applications that are no longer
+ * in a space are removed from its index.
+ */
+@Component
+public class DeployedComponentsIndex {
+
+    private static final int DEFAULT_MAX_SPACES = 1000;
+
+    private final DeployedComponentsDetector detector;
+    private final Map<String, Map<UUID, IndexedApplication>> spaceIndexes;
+
+    public DeployedComponentsIndex() {
+        this(new DeployedComponentsDetector(), DEFAULT_MAX_SPACES);
+    }
+
+    DeployedComponentsIndex(DeployedComponentsDetector detector, int maxSpaces) {
+        this.detector = detector;
+        this.spaceIndexes = new LinkedHashMap<String, Map<UUID, IndexedApplication>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<UUID, IndexedApplication>> eldest) {
+                return size() > maxSpaces;
+            }
+
+        };
+    }
+
+    public DeployedComponents detectAllDeployedComponents(String spaceGuid, Collection<CloudApplication> apps) {
+        Map<UUID, IndexedApplication> previousSpaceIndex = getSpaceIndex(spaceGuid);
+        Map<UUID, IndexedApplication> spaceIndex = new HashMap<>();
+        DeployedComponents deployedComponents = detector.detectAllDeployedComponents(apps,
+            app -> getAppMetadata(app, previousSpaceIndex, spaceIndex));
+        putSpaceIndex(spaceGuid, spaceIndex);
+        return deployedComponents;
+    }
+
+    private ApplicationMtaMetadata getAppMetadata(CloudApplication app, Map<UUID, IndexedApplication> previousSpaceIndex,
+        Map<UUID, IndexedApplication> spaceIndex) {
+        CloudMetadata metadata = app.getMetadata();
+        if (metadata == null || metadata.getGuid() == null || metadata.getUpdatedAt() == null) {
+            return ApplicationMtaMetadataParser.parseAppMetadata(app);
+        }
+        IndexedApplication indexedApp = previousSpaceIndex.get(metadata.getGuid());
+        if (indexedApp == null || !indexedApp.updatedAt.equals(metadata.getUpdatedAt())) {
+            indexedApp = new IndexedApplication(metadata.getUpdatedAt(), ApplicationMtaMetadataParser.parseAppMetadata(app));
+        }
+        spaceIndex.put(metadata.getGuid(), indexedApp);
+        return indexedApp.appMetadata;
+    }
+
+    private synchronized Map<UUID, IndexedApplication> getSpaceIndex(String spaceGuid) {
+        return spaceIndexes.getOrDefault(spaceGuid, Collections.emptyMap());
+    }
+
+    private synchronized void putSpaceIndex(String spaceGuid, Map<UUID, IndexedApplication> spaceIndex) {
+        spaceIndexes.put(spaceGuid, spaceIndex);
+    }
+
+    synchronized int getIndexedAppsCount(String spaceGuid) {
+        return getSpaceIndex(spaceGuid).size();
+    }
+
+    private static class IndexedApplication {
+
+        private final Date updatedAt;
+        private final ApplicationMtaMetadata appMetadata;
+
+        IndexedApplication(Date updatedAt, ApplicationMtaMetadata appMetadata) {
+            this.updatedAt = updatedAt;
+            this.appMetadata = appMetadata;
+        }
+
+    }
+
+}
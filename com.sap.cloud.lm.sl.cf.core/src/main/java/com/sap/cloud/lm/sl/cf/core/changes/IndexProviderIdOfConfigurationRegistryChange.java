@@ -0,0 +1,17 @@
+package com.sap.cloud.lm.sl.cf.core.changes;
+
+import com.sap.cloud.lm.sl.cf.persistence.changes.AbstractIndexSQLChange;
+
+public class IndexProviderIdOfConfigurationRegistryChange extends AbstractIndexSQLChange {
+
+    @Override
+    protected String getQuery() {
+        return "CREATE INDEX CONCURRENTLY IDX_CONFIGURATION_REGISTRY_PROVIDER_ID ON CONFIGURATION_REGISTRY(PROVIDER_ID)";
+    }
+
+    @Override
+    protected String getIndexName() {
+        return "IDX_CONFIGURATION_REGISTRY_PROVIDER_ID";
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.sap.cloud.lm.sl.cf.core.changes;
+
+import com.sap.cloud.lm.sl.cf.persistence.changes.AbstractIndexSQLChange;
+
+public class IndexTargetOfConfigurationRegistryChange extends AbstractIndexSQLChange {
+
+    @Override
+    protected String getQuery() {
+        return "CREATE INDEX CONCURRENTLY IDX_CONFIGURATION_REGISTRY_TARGET ON CONFIGURATION_REGISTRY(TARGET_ORG, TARGET_SPACE)";
+    }
+
+    @Override
+    protected String getIndexName() {
+        return "IDX_CONFIGURATION_REGISTRY_TARGET";
+    }
+
+}
@@ -26,7 +26,8 @@ public class ConfigurationEntryDao {
 
     public List<ConfigurationEntry> find(String nid, String id, String version, CloudTarget target, Map<String, Object> requiredProperties,
         String mtaId, List<CloudTarget> cloudTargets) {
-        return filter(toConfigurationEntries(dao.find(nid, id, target, requiredProperties, mtaId)), version, cloudTargets);
+        return filter(toConfigurationEntries(dao.find(nid, id, version, target, requiredProperties, mtaId, cloudTargets)), version,
+            cloudTargets);
     }
 
     public List<ConfigurationEntry> find(String nid, String id, String version, CloudTarget target, Map<String, Object> requiredProperties,
@@ -34,6 +35,7 @@ public class ConfigurationEntryDao {
         return find(nid, id, version, target, requiredProperties, mtaId, null);
     }
 
+    // The database matches the versions and the visibility of the entries only partially, so the loaded entries are checked again:
     private List<ConfigurationEntry> filter(List<ConfigurationEntry> entries, String version, List<CloudTarget> cloudTargets) {
         return entries.stream()
             .filter(entry -> VERSION_FILTER.apply(entry, version))
@@ -65,10 +67,14 @@ public class ConfigurationEntryDao {
         dao.remove(id);
     }
 
+    public List<Long> remove(List<Long> ids) {
+        return dao.remove(ids);
+    }
+
     public List<ConfigurationEntry> removeAll(List<ConfigurationEntry> configurationEntries) {
-        for (ConfigurationEntry configurationEntry : configurationEntries) {
-            dao.remove(configurationEntry.getId());
-        }
+        remove(configurationEntries.stream()
+            .map(ConfigurationEntry::getId)
+            .collect(Collectors.toList()));
         return configurationEntries;
     }
 
@@ -77,6 +83,12 @@ public class ConfigurationEntryDao {
             .toConfigurationEntry();
     }
 
+    public List<ConfigurationEntry> publish(List<ConfigurationEntry> entries) {
+        return toConfigurationEntries(dao.publish(entries.stream()
+            .map(ConfigurationEntryDto::new)
+            .collect(Collectors.toList())));
+    }
+
     public boolean exists(long id) {
         return dao.exists(id);
     }
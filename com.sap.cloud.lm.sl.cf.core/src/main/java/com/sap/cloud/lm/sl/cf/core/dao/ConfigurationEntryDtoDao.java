@@ -1,13 +1,17 @@
 package com.sap.cloud.lm.sl.cf.core.dao;
 
 import static com.sap.cloud.lm.sl.cf.core.dao.filters.ConfigurationFilter.CONTENT_FILTER;
+import static com.sap.cloud.lm.sl.cf.core.filters.TargetWildcardFilter.ANY_TARGET_WILDCARD;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
@@ -19,8 +23,9 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 import com.sap.cloud.lm.sl.cf.core.dto.persistence.ConfigurationEntryDto;
@@ -38,6 +43,14 @@ public class ConfigurationEntryDtoDao {
 
     public static final BiFunction<CloudTarget, CloudTarget, Boolean> TARGET_WILDCARD_FILTER = new TargetWildcardFilter();
 
+    // Keeps the IN lists of the queries below the limits of the supported databases:
+    private static final int MAX_PARAMETERS_PER_QUERY = 500;
+
+    // Keys and values that match this pattern are written as they are in the JSON content of the entries, so they can be looked up in it
+    // with LIKE. The others may be escaped and are matched only by the content filter:
+    private static final Pattern PLAIN_JSON_STRING = Pattern.compile("[\\w .:-]+");
+    private static final char LIKE_ESCAPE_CHARACTER = '\\';
+
     @Inject
     protected EntityManagerFactory entityManagerFactory;
 
@@ -71,6 +84,67 @@ public class ConfigurationEntryDtoDao {
         }
     }
 
+    /**
+     * Adds the entries that do not exist yet and updates the existing ones in a single transaction. An entry exists if there is an entry
+     * with the same provider namespace, ID and version and the same target. The existing entries are found with one query per
+     * {@value #MAX_PARAMETERS_PER_QUERY} entries, instead of one query per entry.
+     *
+     * @return the added and updated entries, in the order of the specified ones
+     */
+    public List<ConfigurationEntryDto> publish(List<ConfigurationEntryDto> entries) {
+        if (entries.isEmpty()) {
+            return entries;
+        }
+        try {
+            return new TransactionalExecutor<List<ConfigurationEntryDto>>(createEntityManager()).execute(manager -> {
+                Map<List<String>, ConfigurationEntryDto> existingEntries = findExistingEntries(entries, manager);
+                List<ConfigurationEntryDto> publishedEntries = new ArrayList<>();
+                for (ConfigurationEntryDto entry : entries) {
+                    ConfigurationEntryDto existingEntry = existingEntries.get(getUniqueKey(entry));
+                    if (existingEntry == null) {
+                        manager.persist(entry);
+                        publishedEntries.add(entry);
+                    } else {
+                        ConfigurationEntryDto updatedEntry = merge(existingEntry, entry);
+                        manager.merge(updatedEntry);
+                        publishedEntries.add(updatedEntry);
+                    }
+                }
+                return publishedEntries;
+            });
+        } catch (RollbackException e) {
+            throw new ConflictException(e, Messages.COULD_NOT_PUBLISH_CONFIGURATION_ENTRIES, e.getMessage());
+        }
+    }
+
+    private Map<List<String>, ConfigurationEntryDto> findExistingEntries(List<ConfigurationEntryDto> entries, EntityManager manager) {
+        List<String> providerIds = entries.stream()
+            .map(ConfigurationEntryDto::getProviderId)
+            .distinct()
+            .collect(Collectors.toList());
+        Map<List<String>, ConfigurationEntryDto> existingEntries = new HashMap<>();
+        for (List<String> providerIdsPartition : ListUtils.partition(providerIds, MAX_PARAMETERS_PER_QUERY)) {
+            for (ConfigurationEntryDto existingEntry : createQuery(providerIdsPartition, manager).getResultList()) {
+                existingEntries.put(getUniqueKey(existingEntry), existingEntry);
+            }
+        }
+        return existingEntries;
+    }
+
+    private TypedQuery<ConfigurationEntryDto> createQuery(List<String> providerIds, EntityManager manager) {
+        CriteriaBuilder builder = manager.getCriteriaBuilder();
+        CriteriaQuery<ConfigurationEntryDto> query = builder.createQuery(ConfigurationEntryDto.class);
+        Root<ConfigurationEntryDto> root = query.from(ConfigurationEntryDto.class);
+        return manager.createQuery(query.select(root)
+            .where(root.get(FieldNames.PROVIDER_ID)
+                .in(providerIds)));
+    }
+
+    private List<String> getUniqueKey(ConfigurationEntryDto entry) {
+        return Arrays.asList(entry.getProviderNid(), entry.getProviderId(), entry.getProviderVersion(), entry.getTargetOrg(),
+            entry.getTargetSpace());
+    }
+
     public void remove(long id) {
         new TransactionalExecutor<Void>(createEntityManager()).execute(manager -> {
             ConfigurationEntryDto entry = findInternal(id, manager);
@@ -82,6 +156,31 @@ public class ConfigurationEntryDtoDao {
         });
     }
 
+    /**
+     * Removes the entries with the specified IDs in a single transaction, with one statement per {@value #MAX_PARAMETERS_PER_QUERY}
+     * entries. Unlike {@link #remove(long)}, it does not fail if some of the entries do not exist.
+     *
+     * @return the IDs of the entries that existed and were removed
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> remove(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        return new TransactionalExecutor<List<Long>>(createEntityManager()).execute(manager -> {
+            List<Long> removedIds = new ArrayList<>();
+            for (List<Long> idsPartition : ListUtils.partition(ids, MAX_PARAMETERS_PER_QUERY)) {
+                removedIds.addAll(manager.createNamedQuery(NamedQueries.FIND_ENTRY_IDS)
+                    .setParameter(FieldNames.ID, idsPartition)
+                    .getResultList());
+                manager.createNamedQuery(NamedQueries.DELETE_ENTRIES_BY_IDS)
+                    .setParameter(FieldNames.ID, idsPartition)
+                    .executeUpdate();
+            }
+            return removedIds;
+        });
+    }
+
     public List<ConfigurationEntryDto> removeAll(List<ConfigurationEntryDto> configurationEntries) {
         return new TransactionalExecutor<List<ConfigurationEntryDto>>(createEntityManager()).execute(manager -> {
             for (ConfigurationEntryDto configurationEntryDto : configurationEntries) {
@@ -98,10 +197,17 @@ public class ConfigurationEntryDtoDao {
                 .getResultList());
     }
 
-    public List<ConfigurationEntryDto> find(String providerNid, String providerId, CloudTarget targetSpace,
-        Map<String, Object> requiredProperties, String mtaId) {
+    /**
+     * Finds the entries that match the specified criteria. The provider namespace, ID and target, the MTA ID, as well as the keys and plain
+     * string values of the required properties are matched by the database, so only the entries that are likely to match are loaded and
+     * parsed. The same applies to the visibility of the entries without explicit visibility and to the existence of a provider version.
+     * The version range and the explicit visibility of the returned entries are not checked and should be checked by the caller.
+     */
+    public List<ConfigurationEntryDto> find(String providerNid, String providerId, String providerVersion, CloudTarget targetSpace,
+        Map<String, Object> requiredProperties, String mtaId, List<CloudTarget> visibilityTargets) {
         return new Executor<List<ConfigurationEntryDto>>(createEntityManager())
-            .execute(manager -> findInternal(providerNid, providerId, targetSpace, requiredProperties, mtaId, manager));
+            .execute(manager -> findInternal(providerNid, providerId, providerVersion, targetSpace, requiredProperties, mtaId,
+                visibilityTargets, manager));
     }
 
     @SuppressWarnings("unchecked")
@@ -112,12 +218,13 @@ public class ConfigurationEntryDtoDao {
                 .getResultList());
     }
 
-    private List<ConfigurationEntryDto> findInternal(String providerNid, String providerId, CloudTarget targetSpace,
-        Map<String, Object> requiredProperties, String mtaId, EntityManager manager) {
+    private List<ConfigurationEntryDto> findInternal(String providerNid, String providerId, String providerVersion, CloudTarget targetSpace,
+        Map<String, Object> requiredProperties, String mtaId, List<CloudTarget> visibilityTargets, EntityManager manager) {
 
-        TypedQuery<ConfigurationEntryDto> query = createQuery(providerNid, providerId, targetSpace, mtaId, manager);
+        TypedQuery<ConfigurationEntryDto> query = createQuery(providerNid, providerId, providerVersion, targetSpace, requiredProperties,
+            mtaId, visibilityTargets, manager);
 
-        return filter(query.getResultList(), requiredProperties, targetSpace);
+        return filter(query.getResultList(), requiredProperties);
     }
 
     public ConfigurationEntryDto find(long id) {
@@ -134,7 +241,8 @@ public class ConfigurationEntryDtoDao {
         return new Executor<Boolean>(createEntityManager()).execute(manager -> findInternal(id, manager) != null);
     }
 
-    private TypedQuery<ConfigurationEntryDto> createQuery(String providerNid, String providerId, CloudTarget targetSpace, String mtaId,
+    private TypedQuery<ConfigurationEntryDto> createQuery(String providerNid, String providerId, String providerVersion,
+        CloudTarget targetSpace, Map<String, Object> requiredProperties, String mtaId, List<CloudTarget> visibilityTargets,
         EntityManager manager) {
         CriteriaBuilder builder = manager.getCriteriaBuilder();
         CriteriaQuery<ConfigurationEntryDto> query = builder.createQuery(ConfigurationEntryDto.class);
@@ -145,10 +253,10 @@ public class ConfigurationEntryDtoDao {
             predicates.add(builder.equal(root.get(FieldNames.PROVIDER_NID), providerNid));
         }
         if (targetSpace != null) {
-            if (!StringUtils.isEmpty(targetSpace.getSpace())) {
+            if (!ANY_TARGET_WILDCARD.equals(targetSpace.getSpace())) {
                 predicates.add(builder.equal(root.get(FieldNames.TARGET_SPACE), targetSpace.getSpace()));
             }
-            if (!StringUtils.isEmpty(targetSpace.getOrg())) {
+            if (!ANY_TARGET_WILDCARD.equals(targetSpace.getOrg())) {
                 predicates.add(builder.equal(root.get(FieldNames.TARGET_ORG), targetSpace.getOrg()));
             }
         }
@@ -158,11 +266,61 @@ public class ConfigurationEntryDtoDao {
         } else if (mtaId != null) {
             predicates.add(builder.like(root.get(FieldNames.PROVIDER_ID), mtaId + ":%"));
         }
+        if (providerVersion != null) {
+            // Entries without a version do not satisfy any version requirement:
+            predicates.add(builder.notEqual(root.get(FieldNames.PROVIDER_VERSION), PersistenceMetadata.NOT_AVAILABLE));
+        }
+        if (requiredProperties != null) {
+            predicates.addAll(createContentPredicates(builder, root, requiredProperties));
+        }
+        if (!CollectionUtils.isEmpty(visibilityTargets)) {
+            predicates.add(createVisibilityPredicate(builder, root, visibilityTargets));
+        }
 
         return manager.createQuery(query.select(root)
             .where(predicates.toArray(new Predicate[0])));
     }
 
+    private List<Predicate> createContentPredicates(CriteriaBuilder builder, Root<ConfigurationEntryDto> root,
+        Map<String, Object> requiredProperties) {
+        List<Predicate> predicates = new ArrayList<>();
+        for (Map.Entry<String, Object> requiredProperty : requiredProperties.entrySet()) {
+            if (PLAIN_JSON_STRING.matcher(requiredProperty.getKey())
+                .matches()) {
+                predicates.add(createContainsJsonStringPredicate(builder, root, requiredProperty.getKey()));
+            }
+            if (requiredProperty.getValue() instanceof String && PLAIN_JSON_STRING.matcher((String) requiredProperty.getValue())
+                .matches()) {
+                predicates.add(createContainsJsonStringPredicate(builder, root, (String) requiredProperty.getValue()));
+            }
+        }
+        return predicates;
+    }
+
+    private Predicate createContainsJsonStringPredicate(CriteriaBuilder builder, Root<ConfigurationEntryDto> root, String string) {
+        String escapedString = string.replace("_", LIKE_ESCAPE_CHARACTER + "_");
+        return builder.like(root.get(FieldNames.CONTENT), "%\"" + escapedString + "\"%", LIKE_ESCAPE_CHARACTER);
+    }
+
+    private Predicate createVisibilityPredicate(CriteriaBuilder builder, Root<ConfigurationEntryDto> root,
+        List<CloudTarget> visibilityTargets) {
+        // The entries without explicit visibility are visible in all spaces of their org. The explicit visibility is stored as JSON, so it
+        // is checked only by the visibility filter:
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(builder.isNotNull(root.get(FieldNames.VISIBILITY)));
+        predicates.add(builder.equal(root.get(FieldNames.TARGET_ORG), ANY_TARGET_WILDCARD));
+        List<String> orgs = visibilityTargets.stream()
+            .map(CloudTarget::getOrg)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        for (List<String> orgsPartition : ListUtils.partition(orgs, MAX_PARAMETERS_PER_QUERY)) {
+            predicates.add(root.get(FieldNames.TARGET_ORG)
+                .in(orgsPartition));
+        }
+        return builder.or(predicates.toArray(new Predicate[0]));
+    }
+
     private ConfigurationEntryDto findInternal(long id, EntityManager manager) {
         return manager.find(ConfigurationEntryDto.class, id);
     }
@@ -171,15 +329,10 @@ public class ConfigurationEntryDtoDao {
         return entityManagerFactory.createEntityManager();
     }
 
-    private List<ConfigurationEntryDto> filter(List<ConfigurationEntryDto> entries, Map<String, Object> requiredProperties,
-        CloudTarget requestedSpace) {
-
-        Stream<ConfigurationEntryDto> stream = entries.stream();
-        stream = stream.filter(entry -> CONTENT_FILTER.apply(entry.getContent(), requiredProperties));
-
-        stream = stream
-            .filter(entry -> TARGET_WILDCARD_FILTER.apply(new CloudTarget(entry.getTargetOrg(), entry.getTargetSpace()), requestedSpace));
-        return stream.collect(Collectors.toList());
+    private List<ConfigurationEntryDto> filter(List<ConfigurationEntryDto> entries, Map<String, Object> requiredProperties) {
+        return entries.stream()
+            .filter(entry -> CONTENT_FILTER.apply(entry.getContent(), requiredProperties))
+            .collect(Collectors.toList());
     }
 
     private ConfigurationEntryDto merge(ConfigurationEntryDto existingEntry, ConfigurationEntryDto entry) {
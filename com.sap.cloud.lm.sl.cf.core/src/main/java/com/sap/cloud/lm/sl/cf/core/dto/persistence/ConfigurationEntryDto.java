@@ -36,7 +36,9 @@ import com.sap.cloud.lm.sl.mta.model.Version;
     @UniqueConstraint(columnNames = { TableColumnNames.CONFIGURATION_ENTRY_PROVIDER_NID, TableColumnNames.CONFIGURATION_ENTRY_PROVIDER_ID,
         TableColumnNames.CONFIGURATION_ENTRY_PROVIDER_VERSION, TableColumnNames.CONFIGURATION_ENTRY_TARGET_SPACE }) })
 @NamedQueries({ @NamedQuery(name = PersistenceMetadata.NamedQueries.FIND_ALL_ENTRIES, query = "SELECT ce FROM ConfigurationEntryDto ce"),
-    @NamedQuery(name = PersistenceMetadata.NamedQueries.FIND_ALL_ENTRIES_BY_SPACE_ID, query = "SELECT ce FROM ConfigurationEntryDto ce WHERE ce.spaceId = :spaceId") })
+    @NamedQuery(name = PersistenceMetadata.NamedQueries.FIND_ALL_ENTRIES_BY_SPACE_ID, query = "SELECT ce FROM ConfigurationEntryDto ce WHERE ce.spaceId = :spaceId"),
+    @NamedQuery(name = PersistenceMetadata.NamedQueries.FIND_ENTRY_IDS, query = "SELECT ce.id FROM ConfigurationEntryDto ce WHERE ce.id IN :id"),
+    @NamedQuery(name = PersistenceMetadata.NamedQueries.DELETE_ENTRIES_BY_IDS, query = "DELETE FROM ConfigurationEntryDto ce WHERE ce.id IN :id") })
 @SequenceGenerator(name = SequenceNames.CONFIGURATION_ENTRY_SEQUENCE, sequenceName = SequenceNames.CONFIGURATION_ENTRY_SEQUENCE, initialValue = 1, allocationSize = 1)
 @XmlRootElement(name = "configuration-entry")
 @XmlAccessorType(value = XmlAccessType.FIELD)
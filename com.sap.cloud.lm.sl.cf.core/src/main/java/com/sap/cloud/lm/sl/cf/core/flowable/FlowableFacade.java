@@ -3,21 +3,31 @@ package com.sap.cloud.lm.sl.cf.core.flowable;
 import static java.text.MessageFormat.format;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
+import org.apache.commons.collections4.ListUtils;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.query.NativeQuery;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.variable.api.history.HistoricVariableInstance;
@@ -35,6 +45,14 @@ public class FlowableFacade {
 
     private static final int DEFAULT_JOB_RETRIES = 0;
     private static final int DEFAULT_ABORT_TIMEOUT_MS = 30000;
+    private static final int MAX_PROCESS_INSTANCES_PER_QUERY = 500;
+    private static final String PROCESS_INSTANCE_ID_PARAMETER_PREFIX = "processInstanceId";
+
+    private static final String SELECT_EXECUTIONS_AT_RECEIVE_TASK = "SELECT RES.* FROM %s RES WHERE RES.ROOT_PROC_INST_ID_ IN (%s) "
+        + "AND EXISTS (SELECT 1 FROM %s ACT WHERE ACT.EXECUTION_ID_ = RES.ID_ AND ACT.ACT_ID_ = RES.ACT_ID_ AND ACT.ACT_TYPE_ = 'receiveTask')";
+    private static final String SELECT_EXECUTIONS_WITH_DEAD_LETTER_JOBS = "SELECT RES.* FROM %s RES WHERE RES.ROOT_PROC_INST_ID_ IN (%s) "
+        + "AND EXISTS (SELECT 1 FROM %s JOB WHERE JOB.PROCESS_INSTANCE_ID_ = RES.PROC_INST_ID_)";
+    private static final String SELECT_HISTORIC_SUB_PROCESS_INSTANCES = "SELECT RES.* FROM %s RES WHERE RES.SUPER_PROCESS_INSTANCE_ID_ IN (%s)";
 
     private final ProcessEngine processEngine;
 
@@ -78,6 +96,123 @@ public class FlowableFacade {
         return getInactiveProcessState(processInstanceId);
     }
 
+    /**
+     * Computes the states of many process instances at once. Unlike {@link #getProcessInstanceState(String)}, the number of executed
+     * queries does not depend on the number of process instances, but only on the depth of their sub-process hierarchies.
+     *
+     * @param processInstanceIds the IDs of the root process instances
+     * @return the state of each process instance mapped to its ID
+     */
+    public Map<String, State> getProcessInstanceStates(Collection<String> processInstanceIds) {
+        Set<String> uniqueProcessInstanceIds = new HashSet<>(processInstanceIds);
+        Set<String> activeProcessInstanceIds = getActiveProcessInstanceIds(uniqueProcessInstanceIds);
+        Set<String> processInstanceIdsAtReceiveTask = getRootProcessInstanceIds(queryInBatches(activeProcessInstanceIds,
+            batch -> findExecutions(SELECT_EXECUTIONS_AT_RECEIVE_TASK, getTableName(HistoricActivityInstanceEntity.class), batch)));
+        Set<String> processInstanceIdsWithDeadLetterJobs = getRootProcessInstanceIds(queryInBatches(activeProcessInstanceIds,
+            batch -> findExecutions(SELECT_EXECUTIONS_WITH_DEAD_LETTER_JOBS, getTableName(DeadLetterJobEntity.class), batch)));
+        Set<String> inactiveProcessInstanceIds = new HashSet<>(uniqueProcessInstanceIds);
+        inactiveProcessInstanceIds.removeAll(activeProcessInstanceIds);
+        Set<String> abortedProcessInstanceIds = getProcessInstanceIdsWithDeleteReason(inactiveProcessInstanceIds);
+
+        Map<String, State> states = new HashMap<>();
+        for (String processInstanceId : uniqueProcessInstanceIds) {
+            if (processInstanceIdsAtReceiveTask.contains(processInstanceId)) {
+                states.put(processInstanceId, State.ACTION_REQUIRED);
+            } else if (processInstanceIdsWithDeadLetterJobs.contains(processInstanceId)) {
+                states.put(processInstanceId, State.ERROR);
+            } else if (activeProcessInstanceIds.contains(processInstanceId)) {
+                states.put(processInstanceId, State.RUNNING);
+            } else if (abortedProcessInstanceIds.contains(processInstanceId)) {
+                states.put(processInstanceId, State.ABORTED);
+            } else {
+                states.put(processInstanceId, State.FINISHED);
+            }
+        }
+        return states;
+    }
+
+    private Set<String> getActiveProcessInstanceIds(Set<String> processInstanceIds) {
+        return queryInBatches(processInstanceIds, batch -> processEngine.getRuntimeService()
+            .createProcessInstanceQuery()
+            .processInstanceIds(new HashSet<>(batch))
+            .list()).stream()
+                .map(ProcessInstance::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private List<Execution> findExecutions(String sqlTemplate, String joinedTableName, List<String> rootProcessInstanceIds) {
+        String sql = String.format(sqlTemplate, getTableName(ExecutionEntity.class), getInClause(rootProcessInstanceIds), joinedTableName);
+        return withProcessInstanceIdParameters(processEngine.getRuntimeService()
+            .createNativeExecutionQuery()
+            .sql(sql), rootProcessInstanceIds).list();
+    }
+
+    private Set<String> getRootProcessInstanceIds(List<Execution> executions) {
+        return executions.stream()
+            .map(Execution::getRootProcessInstanceId)
+            .collect(Collectors.toSet());
+    }
+
+    private Set<String> getProcessInstanceIdsWithDeleteReason(Set<String> processInstanceIds) {
+        Set<String> result = new HashSet<>();
+        Map<String, String> rootProcessInstanceIds = new HashMap<>();
+        List<HistoricProcessInstance> historicProcessInstances = queryInBatches(processInstanceIds, batch -> processEngine.getHistoryService()
+            .createHistoricProcessInstanceQuery()
+            .processInstanceIds(new HashSet<>(batch))
+            .list());
+        historicProcessInstances.forEach(processInstance -> rootProcessInstanceIds.put(processInstance.getId(), processInstance.getId()));
+        // The hierarchy is traversed one level at a time, so that the sub-processes of all process instances are fetched together:
+        while (!historicProcessInstances.isEmpty()) {
+            historicProcessInstances.stream()
+                .filter(processInstance -> processInstance.getDeleteReason() != null)
+                .forEach(processInstance -> result.add(rootProcessInstanceIds.get(processInstance.getId())));
+            Set<String> superProcessInstanceIds = historicProcessInstances.stream()
+                .map(HistoricProcessInstance::getId)
+                .filter(id -> !result.contains(rootProcessInstanceIds.get(id)))
+                .collect(Collectors.toSet());
+            historicProcessInstances = queryInBatches(superProcessInstanceIds, this::findHistoricSubProcessInstances);
+            historicProcessInstances.forEach(processInstance -> rootProcessInstanceIds.put(processInstance.getId(),
+                rootProcessInstanceIds.get(processInstance.getSuperProcessInstanceId())));
+        }
+        return result;
+    }
+
+    private List<HistoricProcessInstance> findHistoricSubProcessInstances(List<String> superProcessInstanceIds) {
+        String sql = String.format(SELECT_HISTORIC_SUB_PROCESS_INSTANCES, getTableName(HistoricProcessInstanceEntity.class),
+            getInClause(superProcessInstanceIds));
+        return withProcessInstanceIdParameters(processEngine.getHistoryService()
+            .createNativeHistoricProcessInstanceQuery()
+            .sql(sql), superProcessInstanceIds).list();
+    }
+
+    private <T> List<T> queryInBatches(Collection<String> ids, Function<List<String>, List<T>> query) {
+        List<T> result = new ArrayList<>();
+        for (List<String> batch : ListUtils.partition(new ArrayList<>(ids), MAX_PROCESS_INSTANCES_PER_QUERY)) {
+            result.addAll(query.apply(batch));
+        }
+        return result;
+    }
+
+    private String getTableName(Class<?> entityClass) {
+        return processEngine.getManagementService()
+            .getTableName(entityClass);
+    }
+
+    private String getInClause(List<String> ids) {
+        List<String> parameters = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            parameters.add("#{" + PROCESS_INSTANCE_ID_PARAMETER_PREFIX + i + "}");
+        }
+        return String.join(", ", parameters);
+    }
+
+    private <Q extends NativeQuery<?, ?>> Q withProcessInstanceIdParameters(Q query, List<String> ids) {
+        for (int i = 0; i < ids.size(); i++) {
+            query.parameter(PROCESS_INSTANCE_ID_PARAMETER_PREFIX + i, ids.get(i));
+        }
+        return query;
+    }
+
     private State getInactiveProcessState(String processInstanceId) {
         if (hasDeleteReason(processInstanceId)) {
             return State.ABORTED;
@@ -43,6 +43,7 @@ public final class Messages {
     public static final String CONFIGURATION_ENTRY_ALREADY_EXISTS = "Configuration entry with namespace ID \"{0}\", ID \"{1}\", version \"{2}\", target org \"{3}\" and target space \"{4}\", already exists";
     public static final String CONFIGURATION_SUBSCRIPTION_ALREADY_EXISTS = "Configuration subscription for MTA \"{0}\", app \"{1}\" and resource \"{2}\" already exists in space \"{3}\"";
     public static final String CONFIGURATION_ENTRY_NOT_FOUND = "Configuration entry with ID \"{0}\" does not exist";
+    public static final String COULD_NOT_PUBLISH_CONFIGURATION_ENTRIES = "Could not publish configuration entries: {0}";
     public static final String CONFIGURATION_SUBSCRIPTION_NOT_FOUND = "Configuration subscription with ID \"{0}\" does not exist";
     public static final String ERROR_STORING_TOKEN_DUE_TO_INTEGRITY_VIOLATION = "Cannot store access token due to data integrity violation. The exception is ignored as the token and authentication are persisted by another client";
     public static final String NO_CONFIGURATION_ENTRIES_WERE_FOUND = "No configuration entries were found matching the filter specified in resource \"{0}\"";
@@ -161,6 +162,8 @@ public final class Messages {
     public static final String AUDIT_LOG_CLIENT_MAX_THREADS = "Audit log client max threads: {0}";
     public static final String AUDIT_LOG_CLIENT_QUEUE_CAPACITY = "Audit log client queue capacity: {0}";
     public static final String AUDIT_LOG_CLIENT_KEEP_ALIVE = "Audit log client keep alive: {0}";
+    public static final String AUDIT_LOG_QUEUE_CAPACITY = "Audit log queue capacity: {0}";
+    public static final String AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS = "Audit log flush interval in millis: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_CORE_THREADS = "Flowable job executor core threads: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_MAX_THREADS = "Flowable job executor max threads: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = "Flowable job executor queue capacity: {0}";
@@ -170,6 +173,7 @@ public final class Messages {
     public static final String AUDIT_LOG_ACTION_SUCCESS = "Succesfuly performed action \"{0}\"";
     public static final String AUDIT_LOG_ACTION_FAILURE = "Failed to perform action \"{0}\"";
     public static final String AUDIT_LOGGING_FAILED = "Failed to write message to the audit log";
+    public static final String DISCARDING_AUDIT_LOG_EVENTS = "Discarding {0} events of audit log \"{1}\" after {2} failed attempts to write them";
     public static final String AUDIT_LOG_CONFIG = "Deploy service configuration \"{0}\": {1}";
     public static final String AUDIT_LOG_UPDATE_CONFIG = "Updating configuration \"{0}\"";
     public static final String AUDIT_LOG_CREATE_CONFIG = "Creating configuration \"{0}\" \"{1}\"";
@@ -189,6 +193,8 @@ public final class Messages {
     public static final String APP_SHUTDOWN_STATUS_MONITOR = "Monitor shutdown status of application with id:\"{0}\", instance id:\"{1}\", instance index:\"{2}\". Status:\"{3}\".";
     public static final String CONTROLLER_CLIENT_THREAD_POOL_SIZE = "Controller client thread pool size: {0}";
     public static final String CONTROLLER_CLIENT_CONNECTION_POOL_SIZE = "Controller client connection pool size: {0}";
+    public static final String CLEAN_UP_JOB_PARALLELISM = "Clean-up job parallelism: {0}";
+    public static final String CLEAN_UP_JOB_CLEANER_TIMEOUT_IN_SECONDS = "Clean-up job cleaner timeout: {0} seconds";
 
     // Debug messages
     public static final String EXTENSION_DESCRIPTOR = "Extension descriptor \"{0}\": {1}";
@@ -1,40 +1,165 @@
 package com.sap.cloud.lm.sl.cf.core.model;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.apache.commons.collections4.map.AbstractReferenceMap.ReferenceStrength;
 import org.apache.commons.collections4.map.ReferenceMap;
 
+/**
+ * A map of values, which are loaded on demand and expire after a given time. The values are softly referenced, so that they can be
+ * reclaimed when memory is low.
+ * <p>
+ * The keys are spread across several independently locked segments, so that looking up one key does not block the others. The refresh
+ * function of a key is called by at most one thread at a time and without holding any segment lock. While an expired value is being
+ * refreshed, the other threads that request it get the expired value instead of waiting for the refresh to complete.
+ */
 public class CachedMap<K, V> {
 
-    private long expirationTimeInSeconds;
-    private Supplier<Long> currentTimeSupplier = System::currentTimeMillis;
+    private static final int SEGMENTS_COUNT = 16;
+    private static final int DEFAULT_MAX_SIZE = 10000;
 
-    private Map<K, CachedObject<V>> referenceMap = Collections
-        .synchronizedMap(new ReferenceMap<>(ReferenceStrength.HARD, ReferenceStrength.SOFT));
+    private final long expirationTimeInSeconds;
+    private final int maxSegmentSize;
+    private final Supplier<Long> currentTimeSupplier;
+    private final List<Segment> segments;
 
     public CachedMap(long expirationTimeInSeconds) {
+        this(expirationTimeInSeconds, DEFAULT_MAX_SIZE);
+    }
+
+    public CachedMap(long expirationTimeInSeconds, int maxSize) {
+        this(expirationTimeInSeconds, maxSize, System::currentTimeMillis);
+    }
+
+    CachedMap(long expirationTimeInSeconds, int maxSize, Supplier<Long> currentTimeSupplier) {
         this.expirationTimeInSeconds = expirationTimeInSeconds;
+        this.maxSegmentSize = Math.max(1, maxSize / SEGMENTS_COUNT);
+        this.currentTimeSupplier = currentTimeSupplier;
+        this.segments = new ArrayList<>(SEGMENTS_COUNT);
+        for (int i = 0; i < SEGMENTS_COUNT; i++) {
+            segments.add(new Segment());
+        }
+    }
+
+    public V get(K key, Supplier<V> refreshFunction) {
+        return getSegment(key).getEntry(key)
+            .get(refreshFunction);
     }
 
-    public synchronized V get(K key, Supplier<V> refreshFunction) {
-        CachedObject<V> value = referenceMap.get(key);
-        if (value == null) {
-            value = new CachedObject<>(expirationTimeInSeconds, currentTimeSupplier);
-            referenceMap.put(key, value);
+    public V forceRefresh(K key, Supplier<V> refreshFunction) {
+        return getSegment(key).getEntry(key)
+            .forceRefresh(refreshFunction);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment getSegment(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments.get((hash & Integer.MAX_VALUE) % SEGMENTS_COUNT);
+    }
+
+    private class Segment {
+
+        private final Map<K, Entry> entries = new ReferenceMap<>(ReferenceStrength.HARD, ReferenceStrength.SOFT);
+
+        synchronized Entry getEntry(K key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                makeRoomForNewEntry();
+                entry = new Entry();
+                entries.put(key, entry);
+            }
+            return entry;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        private void makeRoomForNewEntry() {
+            if (entries.size() < maxSegmentSize) {
+                return;
+            }
+            long currentTime = currentTimeSupplier.get();
+            entries.values()
+                .removeIf(entry -> entry.isExpired(currentTime));
+            Iterator<Entry> iterator = entries.values()
+                .iterator();
+            while (entries.size() >= maxSegmentSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
         }
-        return value.get(refreshFunction);
+
     }
 
-    public synchronized V forceRefresh(K key, Supplier<V> refreshFunction) {
-        CachedObject<V> value = referenceMap.get(key);
-        if (value == null) {
-            value = new CachedObject<>(expirationTimeInSeconds, currentTimeSupplier);
-            referenceMap.put(key, value);
+    private class Entry {
+
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private volatile V value;
+        private volatile long lastRefreshTime;
+
+        V get(Supplier<V> refreshFunction) {
+            V currentValue = value;
+            if (currentValue != null && !isExpired(currentTimeSupplier.get())) {
+                return currentValue;
+            }
+            if (currentValue != null && !refreshLock.tryLock()) {
+                // Another thread is already refreshing the value:
+                return currentValue;
+            }
+            if (currentValue == null) {
+                refreshLock.lock();
+            }
+            try {
+                long currentTime = currentTimeSupplier.get();
+                if (value == null || isExpired(currentTime)) {
+                    refresh(refreshFunction, currentTime);
+                }
+                return value;
+            } finally {
+                refreshLock.unlock();
+            }
         }
-        return value.forceRefresh(refreshFunction);
+
+        V forceRefresh(Supplier<V> refreshFunction) {
+            long requestTime = currentTimeSupplier.get();
+            refreshLock.lock();
+            try {
+                if (value != null && lastRefreshTime > requestTime) {
+                    // The value was refreshed by another thread after the refresh was requested:
+                    return value;
+                }
+                refresh(refreshFunction, currentTimeSupplier.get());
+                return value;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        private void refresh(Supplier<V> refreshFunction, long currentTime) {
+            value = refreshFunction.get();
+            lastRefreshTime = currentTime;
+        }
+
+        boolean isExpired(long currentTime) {
+            long secondsSinceLastRefresh = TimeUnit.MILLISECONDS.toSeconds(currentTime - lastRefreshTime);
+            return secondsSinceLastRefresh > expirationTimeInSeconds;
+        }
+
     }
 
 }
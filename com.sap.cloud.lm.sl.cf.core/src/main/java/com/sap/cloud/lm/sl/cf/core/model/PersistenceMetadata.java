@@ -8,6 +8,8 @@ public class PersistenceMetadata {
 
         public static final String FIND_ALL_ENTRIES = "find_all_entries";
         public static final String FIND_ALL_ENTRIES_BY_SPACE_ID = "find_all_entries_guid";
+        public static final String FIND_ENTRY_IDS = "find_entry_ids";
+        public static final String DELETE_ENTRIES_BY_IDS = "delete_entries_by_ids";
         public static final String FIND_ALL_SUBSCRIPTIONS = "find_all_subscriptions";
         public static final String FIND_ALL_SUBSCRIPTIONS_BY_SPACE_ID = "find_all_subscriptions_guid";
 
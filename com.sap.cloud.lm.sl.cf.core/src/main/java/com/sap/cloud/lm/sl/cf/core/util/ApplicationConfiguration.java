@@ -76,6 +76,8 @@ public class ApplicationConfiguration {
     static final String CFG_AUDIT_LOG_CLIENT_MAX_THREADS = "AUDIT_LOG_CLIENT_MAX_THREADS";
     static final String CFG_AUDIT_LOG_CLIENT_QUEUE_CAPACITY = "AUDIT_LOG_CLIENT_QUEUE_CAPACITY";
     static final String CFG_AUDIT_LOG_CLIENT_KEEP_ALIVE = "AUDIT_LOG_CLIENT_KEEP_ALIVE";
+    static final String CFG_AUDIT_LOG_QUEUE_CAPACITY = "AUDIT_LOG_QUEUE_CAPACITY";
+    static final String CFG_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS = "AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS";
     static final String CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS = "FLOWABLE_JOB_EXECUTOR_CORE_THREADS";
     static final String CFG_FLOWABLE_JOB_EXECUTOR_MAX_THREADS = "FLOWABLE_JOB_EXECUTOR_MAX_THREADS";
     static final String CFG_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = "FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY";
@@ -83,6 +85,8 @@ public class ApplicationConfiguration {
     static final String CFG_SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS = "SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS";
     static final String CFG_CONTROLLER_CLIENT_CONNECTION_POOL_SIZE = "CONTROLLER_CLIENT_CONNECTION_POOL_SIZE";
     static final String CFG_CONTROLLER_CLIENT_THREAD_POOL_SIZE = "CONTROLLER_CLIENT_THREAD_POOL_SIZE";
+    static final String CFG_CLEAN_UP_JOB_PARALLELISM = "CLEAN_UP_JOB_PARALLELISM";
+    static final String CFG_CLEAN_UP_JOB_CLEANER_TIMEOUT_IN_SECONDS = "CLEAN_UP_JOB_CLEANER_TIMEOUT_IN_SECONDS";
 
     private static final List<String> VCAP_APPLICATION_URIS_KEYS = Arrays.asList("full_application_uris", "application_uris", "uris");
 
@@ -112,6 +116,8 @@ public class ApplicationConfiguration {
     public static final Integer DEFAULT_AUDIT_LOG_CLIENT_MAX_THREADS = 8;
     public static final Integer DEFAULT_AUDIT_LOG_CLIENT_QUEUE_CAPACITY = 8;
     public static final Integer DEFAULT_AUDIT_LOG_CLIENT_KEEP_ALIVE = 60;
+    public static final Integer DEFAULT_AUDIT_LOG_QUEUE_CAPACITY = 10000;
+    public static final Integer DEFAULT_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS = 500;
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_CORE_THREADS = 8;
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_MAX_THREADS = 32;
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = 16;
@@ -119,6 +125,8 @@ public class ApplicationConfiguration {
     public static final Integer DEFAULT_SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS = 20;
     public static final int DEFAULT_CONTROLLER_CLIENT_CONNECTION_POOL_SIZE = 75;
     public static final int DEFAULT_CONTROLLER_CLIENT_THREAD_POOL_SIZE = 75;
+    public static final Integer DEFAULT_CLEAN_UP_JOB_PARALLELISM = 4;
+    public static final Integer DEFAULT_CLEAN_UP_JOB_CLEANER_TIMEOUT_IN_SECONDS = (int) TimeUnit.HOURS.toSeconds(1);
 
     private final Environment environment;
 
@@ -156,6 +164,8 @@ public class ApplicationConfiguration {
     private Integer auditLogClientMaxThreads;
     private Integer auditLogClientQueueCapacity;
     private Integer auditLogClientKeepAlive;
+    private Integer auditLogQueueCapacity;
+    private Integer auditLogFlushIntervalInMillis;
     private Integer flowableJobExecutorCoreThreads;
     private Integer flowableJobExecutorMaxThreads;
     private Integer flowableJobExecutorQueueCapacity;
@@ -164,6 +174,8 @@ public class ApplicationConfiguration {
     private Platform platform;
     private Integer controllerClientConnectionPoolSize;
     private Integer controllerClientThreadPoolSize;
+    private Integer cleanUpJobParallelism;
+    private Integer cleanUpJobCleanerTimeoutInSeconds;
 
     public ApplicationConfiguration() {
         this(new Environment());
@@ -205,6 +217,8 @@ public class ApplicationConfiguration {
         getAuditLogClientMaxThreads();
         getAuditLogClientQueueCapacity();
         getAuditLogClientKeepAlive();
+        getAuditLogQueueCapacity();
+        getAuditLogFlushIntervalInMillis();
         getFssCacheUpdateTimeoutMinutes();
     }
 
@@ -229,7 +243,8 @@ public class ApplicationConfiguration {
             CFG_GATHER_USAGE_STATISTICS, CFG_MAIL_API_URL, CFG_AUDIT_LOG_CLIENT_CORE_THREADS, CFG_AUDIT_LOG_CLIENT_MAX_THREADS,
             CFG_AUDIT_LOG_CLIENT_QUEUE_CAPACITY, CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS, CFG_FLOWABLE_JOB_EXECUTOR_MAX_THREADS,
             CFG_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY, CFG_AUDIT_LOG_CLIENT_KEEP_ALIVE, CFG_CONTROLLER_CLIENT_CONNECTION_POOL_SIZE,
-            CFG_CONTROLLER_CLIENT_THREAD_POOL_SIZE));
+            CFG_CONTROLLER_CLIENT_THREAD_POOL_SIZE, CFG_AUDIT_LOG_QUEUE_CAPACITY, CFG_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS,
+            CFG_CLEAN_UP_JOB_PARALLELISM, CFG_CLEAN_UP_JOB_CLEANER_TIMEOUT_IN_SECONDS));
     }
 
     public Configuration getFileConfiguration() {
@@ -467,6 +482,20 @@ public class ApplicationConfiguration {
         return auditLogClientKeepAlive;
     }
 
+    public Integer getAuditLogQueueCapacity() {
+        if (auditLogQueueCapacity == null) {
+            auditLogQueueCapacity = getAuditLogQueueCapacityFromEnvironment();
+        }
+        return auditLogQueueCapacity;
+    }
+
+    public Integer getAuditLogFlushIntervalInMillis() {
+        if (auditLogFlushIntervalInMillis == null) {
+            auditLogFlushIntervalInMillis = getAuditLogFlushIntervalInMillisFromEnvironment();
+        }
+        return auditLogFlushIntervalInMillis;
+    }
+
     public Integer getFlowableJobExecutorCoreThreads() {
         if (flowableJobExecutorCoreThreads == null) {
             flowableJobExecutorCoreThreads = getFlowableJobExecutorCoreThreadsFromEnvironment();
@@ -516,6 +545,20 @@ public class ApplicationConfiguration {
         return controllerClientThreadPoolSize;
     }
 
+    public Integer getCleanUpJobParallelism() {
+        if (cleanUpJobParallelism == null) {
+            cleanUpJobParallelism = getCleanUpJobParallelismFromEnvironment();
+        }
+        return cleanUpJobParallelism;
+    }
+
+    public Integer getCleanUpJobCleanerTimeoutInSeconds() {
+        if (cleanUpJobCleanerTimeoutInSeconds == null) {
+            cleanUpJobCleanerTimeoutInSeconds = getCleanUpJobCleanerTimeoutInSecondsFromEnvironment();
+        }
+        return cleanUpJobCleanerTimeoutInSeconds;
+    }
+
     private URL getControllerUrlFromEnvironment() {
         Map<String, Object> vcapApplication = getVcapApplication();
         String controllerUrl = getControllerUrl(vcapApplication);
@@ -797,6 +840,18 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private Integer getAuditLogQueueCapacityFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_AUDIT_LOG_QUEUE_CAPACITY, DEFAULT_AUDIT_LOG_QUEUE_CAPACITY);
+        LOGGER.info(format(Messages.AUDIT_LOG_QUEUE_CAPACITY, value));
+        return value;
+    }
+
+    private Integer getAuditLogFlushIntervalInMillisFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS, DEFAULT_AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS);
+        LOGGER.info(format(Messages.AUDIT_LOG_FLUSH_INTERVAL_IN_MILLIS, value));
+        return value;
+    }
+
     private Integer getFlowableJobExecutorCoreThreadsFromEnvironment() {
         Integer value = environment.getPositiveInteger(CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS, DEFAULT_FLOWABLE_JOB_EXECUTOR_CORE_THREADS);
         LOGGER.info(format(Messages.FLOWABLE_JOB_EXECUTOR_CORE_THREADS, value));
@@ -851,4 +906,17 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private Integer getCleanUpJobParallelismFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_CLEAN_UP_JOB_PARALLELISM, DEFAULT_CLEAN_UP_JOB_PARALLELISM);
+        LOGGER.info(format(Messages.CLEAN_UP_JOB_PARALLELISM, value));
+        return value;
+    }
+
+    private Integer getCleanUpJobCleanerTimeoutInSecondsFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_CLEAN_UP_JOB_CLEANER_TIMEOUT_IN_SECONDS,
+            DEFAULT_CLEAN_UP_JOB_CLEANER_TIMEOUT_IN_SECONDS);
+        LOGGER.info(format(Messages.CLEAN_UP_JOB_CLEANER_TIMEOUT_IN_SECONDS, value));
+        return value;
+    }
+
 }
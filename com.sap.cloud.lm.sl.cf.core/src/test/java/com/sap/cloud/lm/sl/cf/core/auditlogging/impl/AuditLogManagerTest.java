@@ -1,5 +1,12 @@
 package com.sap.cloud.lm.sl.cf.core.auditlogging.impl;
 
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
 import javax.sql.DataSource;
 
 import org.junit.After;
@@ -26,18 +33,46 @@ public class AuditLogManagerTest {
 
     @After
     public void tearDown() throws Exception {
-        testDataSource.getConnection()
-            .close();
+        auditLogManager.shutdown();
+        try (Connection connection = testDataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement("DELETE FROM AUDIT_LOG")) {
+            statement.executeUpdate();
+        }
     }
 
     @Test
     public void test() throws Exception {
         auditLogManager.getSecurityLogger()
             .info("That's a security message");
+        auditLogManager.flush();
         Exception e = auditLogManager.getException();
         if (e != null) {
             throw e;
         }
+        assertEquals(1, countAuditLogMessages("SECURITY"));
+    }
+
+    @Test
+    public void testShutdownWritesQueuedMessages() throws Exception {
+        auditLogManager.getActionLogger()
+            .info("That's an action message");
+        auditLogManager.getConfigLogger()
+            .info("That's a config message");
+        auditLogManager.shutdown();
+
+        assertEquals(1, countAuditLogMessages("ACTION"));
+        assertEquals(1, countAuditLogMessages("CONFIG"));
+    }
+
+    private int countAuditLogMessages(String category) throws SQLException {
+        try (Connection connection = testDataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM AUDIT_LOG WHERE CATEGORY=?")) {
+            statement.setString(1, category);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
     }
 
     private static UserInfoProvider createTestUserInfoProvider() {
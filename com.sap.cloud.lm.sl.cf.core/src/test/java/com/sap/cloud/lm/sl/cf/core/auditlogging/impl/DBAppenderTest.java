@@ -0,0 +1,153 @@
+package com.sap.cloud.lm.sl.cf.core.auditlogging.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.stubbing.OngoingStubbing;
+
+import com.sap.cloud.lm.sl.common.util.TestDataSourceProvider;
+
+public class DBAppenderTest {
+
+    private static final String AUDIT_LOG_CHANGELOG_LOCATION = "com/sap/cloud/lm/sl/cf/core/db/changelog/db-changelog.xml";
+    private static final String AUDIT_LOG_INSERT_STATEMENT = "INSERT INTO AUDIT_LOG (USER, MODIFIED, CATEGORY, SEVERITY, MESSAGE) VALUES (?, ?, ?, ?, ?)";
+    private static final String CATEGORY = "TEST";
+    private static final int QUEUE_CAPACITY = 2;
+    private static final long FLUSH_INTERVAL_IN_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final AuditLoggingExceptionHandler exceptionHandler = new AuditLoggingExceptionHandler();
+
+    private DataSource testDataSource;
+    private DBAppender appender;
+
+    @Before
+    public void setUp() throws Exception {
+        testDataSource = TestDataSourceProvider.getDataSource(AUDIT_LOG_CHANGELOG_LOCATION);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        appender.close();
+        try (Connection connection = testDataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement("DELETE FROM AUDIT_LOG WHERE CATEGORY=?")) {
+            statement.setString(1, CATEGORY);
+            statement.executeUpdate();
+        }
+    }
+
+    @Test
+    public void testEventsAreWrittenOnFlush() throws Exception {
+        appender = createAppender();
+        appender.doAppend(createEvent("1"));
+        appender.doAppend(createEvent("2"));
+        assertEquals(0, countAuditLogMessages());
+
+        appender.flush();
+
+        assertEquals(2, countAuditLogMessages());
+        assertNull(exceptionHandler.getException());
+    }
+
+    @Test
+    public void testEventsAreWrittenWhenQueueIsFull() throws Exception {
+        appender = createAppender();
+        for (int i = 1; i <= 5; i++) {
+            appender.doAppend(createEvent(Integer.toString(i)));
+        }
+
+        assertEquals(4, countAuditLogMessages());
+        appender.flush();
+        assertEquals(5, countAuditLogMessages());
+    }
+
+    @Test
+    public void testFailedBatchIsWrittenByNextFlush() throws Exception {
+        appender = createAppender(createDataSourceFailingTimes(1));
+        appender.doAppend(createEvent("1"));
+        appender.doAppend(createEvent("2"));
+
+        appender.flush();
+        assertEquals(0, countAuditLogMessages());
+        assertTrue(exceptionHandler.getException() instanceof SQLException);
+
+        appender.flush();
+        assertEquals(2, countAuditLogMessages());
+    }
+
+    @Test
+    public void testFailedBatchIsDiscardedAfterMaxWriteAttempts() throws Exception {
+        appender = createAppender(createDataSourceFailingTimes(DBAppender.MAX_WRITE_ATTEMPTS));
+        appender.doAppend(createEvent("1"));
+        for (int i = 0; i < DBAppender.MAX_WRITE_ATTEMPTS; i++) {
+            appender.flush();
+        }
+        assertTrue(exceptionHandler.getException() instanceof AuditLogWriteException);
+
+        appender.doAppend(createEvent("2"));
+        appender.flush();
+
+        assertEquals(1, countAuditLogMessages());
+    }
+
+    private DataSource createDataSourceFailingTimes(int failures) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        OngoingStubbing<Connection> stubbing = when(dataSource.getConnection());
+        for (int i = 0; i < failures; i++) {
+            stubbing = stubbing.thenThrow(new SQLException("Connection refused"));
+        }
+        stubbing.thenAnswer(invocation -> testDataSource.getConnection());
+        return dataSource;
+    }
+
+    private DBAppender createAppender() {
+        return createAppender(testDataSource);
+    }
+
+    private DBAppender createAppender(DataSource dataSource) {
+        DBAppender dbAppender = new DBAppender(dataSource, AUDIT_LOG_INSERT_STATEMENT, (category, event, userInfo, statement) -> {
+            statement.setString(1, null);
+            statement.setTimestamp(2, new Timestamp(event.getTimeStamp()));
+            statement.setString(3, category);
+            statement.setString(4, event.getLevel()
+                .toString());
+            statement.setString(5, event.getMessage()
+                .toString());
+        }, exceptionHandler, () -> null, QUEUE_CAPACITY, FLUSH_INTERVAL_IN_MILLIS);
+        dbAppender.setName(CATEGORY);
+        return dbAppender;
+    }
+
+    private LoggingEvent createEvent(String message) {
+        return new LoggingEvent(DBAppenderTest.class.getName(), Logger.getLogger(CATEGORY), Level.INFO, message, null);
+    }
+
+    private int countAuditLogMessages() throws SQLException {
+        try (Connection connection = testDataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM AUDIT_LOG WHERE CATEGORY=?")) {
+            statement.setString(1, CATEGORY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.sap.cloud.lm.sl.cf.core.cf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.client.lib.CloudControllerClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2RefreshToken;
+
+import com.sap.cloud.lm.sl.cf.client.TokenProvider;
+import com.sap.cloud.lm.sl.cf.core.cf.service.TokenService;
+import com.sap.cloud.lm.sl.common.SLException;
+import com.sap.cloud.lm.sl.common.util.Pair;
+
+public class CloudControllerClientProviderTest {
+
+    private static final String USER_NAME = "john";
+    private static final String SPACE_ID = "a72df2e8-b06c-4f7b-9f4f-5cd2d7b3f5ee";
+
+    @Mock
+    private ClientFactory clientFactory;
+    @Mock
+    private TokenService tokenService;
+    @InjectMocks
+    private CloudControllerClientProvider clientProvider;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken("token");
+    private final Pair<CloudControllerClient, TokenProvider> client = new Pair<>(Mockito.mock(CloudControllerClient.class),
+        Mockito.mock(TokenProvider.class));
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        token.setRefreshToken(new DefaultOAuth2RefreshToken("refresh-token"));
+        token.setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)));
+        Mockito.when(tokenService.getToken(USER_NAME))
+            .thenReturn(token);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testClientIsCached() {
+        Mockito.when(clientFactory.createClient(token, SPACE_ID))
+            .thenReturn(client);
+
+        assertSame(client._1, clientProvider.getControllerClient(USER_NAME, SPACE_ID));
+        assertSame(client._1, clientProvider.getControllerClient(USER_NAME, SPACE_ID));
+
+        Mockito.verify(clientFactory, Mockito.times(1))
+            .createClient(token, SPACE_ID);
+        assertEquals(1, clientProvider.getCacheHits());
+        assertEquals(1, clientProvider.getCacheMisses());
+    }
+
+    @Test
+    public void testClientWithoutTargetIsCached() {
+        Mockito.when(clientFactory.createClient(token))
+            .thenReturn(client);
+
+        assertSame(client._1, clientProvider.getControllerClient(USER_NAME));
+        assertSame(client._1, clientProvider.getControllerClient(USER_NAME));
+
+        Mockito.verify(clientFactory, Mockito.times(1))
+            .createClient(token);
+    }
+
+    @Test
+    public void testClientIsRecreatedWhenTokenExpires() {
+        token.setExpiration(new Date(System.currentTimeMillis() - 1));
+        Mockito.when(clientFactory.createClient(token, SPACE_ID))
+            .thenReturn(client);
+
+        clientProvider.getControllerClient(USER_NAME, SPACE_ID);
+        clientProvider.getControllerClient(USER_NAME, SPACE_ID);
+
+        Mockito.verify(clientFactory, Mockito.times(2))
+            .createClient(token, SPACE_ID);
+        assertEquals(0, clientProvider.getCacheHits());
+    }
+
+    @Test
+    public void testClientIsNotRecreatedWhenTokenExpiresAndCannotBeRefreshed() {
+        token.setExpiration(new Date(System.currentTimeMillis() - 1));
+        Mockito.when(clientFactory.createClient(token, SPACE_ID))
+            .thenReturn(client);
+        clientProvider.getControllerClient(USER_NAME, SPACE_ID);
+
+        token.setRefreshToken(null);
+
+        assertThrows(SLException.class, () -> clientProvider.getControllerClient(USER_NAME, SPACE_ID));
+        Mockito.verify(tokenService)
+            .removeToken(token);
+        Mockito.verify(clientFactory, Mockito.times(1))
+            .createClient(token, SPACE_ID);
+    }
+
+    @Test
+    public void testReleasedClientIsRecreated() {
+        Mockito.when(clientFactory.createClient(token, SPACE_ID))
+            .thenReturn(client);
+
+        clientProvider.getControllerClient(USER_NAME, SPACE_ID);
+        clientProvider.releaseClient(USER_NAME, SPACE_ID);
+        clientProvider.getControllerClient(USER_NAME, SPACE_ID);
+
+        Mockito.verify(clientFactory, Mockito.times(2))
+            .createClient(token, SPACE_ID);
+    }
+
+    @Test
+    public void testConcurrentRequestsCreateOneClient() throws Exception {
+        CountDownLatch creationStarted = new CountDownLatch(1);
+        CountDownLatch creationAllowed = new CountDownLatch(1);
+        Mockito.when(clientFactory.createClient(token, SPACE_ID))
+            .thenAnswer(invocation -> {
+                creationStarted.countDown();
+                creationAllowed.await(5, TimeUnit.SECONDS);
+                return client;
+            });
+
+        List<Future<CloudControllerClient>> results = new ArrayList<>();
+        results.add(executor.submit(() -> clientProvider.getControllerClient(USER_NAME, SPACE_ID)));
+        creationStarted.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> clientProvider.getControllerClient(USER_NAME, SPACE_ID)));
+        }
+        creationAllowed.countDown();
+
+        for (Future<CloudControllerClient> result : results) {
+            assertSame(client._1, result.get(5, TimeUnit.SECONDS));
+        }
+        Mockito.verify(clientFactory, Mockito.times(1))
+            .createClient(token, SPACE_ID);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.sap.cloud.lm.sl.cf.core.cf.clients;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.net.URL;
+
+import org.cloudfoundry.client.lib.CloudControllerClient;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+public class RestTemplateFactoryTest {
+
+    private static final String CONTROLLER_URL = "https://api.cf.sap.hana.ondemand.com";
+    private static final String OTHER_CONTROLLER_URL = "https://api.cf.eu10.hana.ondemand.com";
+
+    @Mock
+    private CloudControllerClient client;
+    @Mock
+    private CloudControllerClient clientForSameController;
+    @Mock
+    private CloudControllerClient clientForOtherController;
+
+    private final RestTemplateFactory restTemplateFactory = new RestTemplateFactory();
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        Mockito.when(client.getCloudControllerUrl())
+            .thenReturn(new URL(CONTROLLER_URL));
+        Mockito.when(clientForSameController.getCloudControllerUrl())
+            .thenReturn(new URL(CONTROLLER_URL));
+        Mockito.when(clientForOtherController.getCloudControllerUrl())
+            .thenReturn(new URL(OTHER_CONTROLLER_URL));
+    }
+
+    @Test
+    public void testConnectionPoolIsSharedPerController() {
+        assertSame(restTemplateFactory.getPooledRequestFactory(client), new RestTemplateFactory().getPooledRequestFactory(client));
+        assertSame(restTemplateFactory.getPooledRequestFactory(client),
+            restTemplateFactory.getPooledRequestFactory(clientForSameController));
+        assertNotSame(restTemplateFactory.getPooledRequestFactory(client),
+            restTemplateFactory.getPooledRequestFactory(clientForOtherController));
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.sap.cloud.lm.sl.cf.core.cf.detect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cloudfoundry.client.lib.domain.CloudApplication;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudApplication;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudMetadata;
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.lm.sl.cf.core.Constants;
+import com.sap.cloud.lm.sl.cf.core.helpers.MapToEnvironmentConverter;
+import com.sap.cloud.lm.sl.cf.core.model.DeployedComponents;
+import com.sap.cloud.lm.sl.cf.core.model.DeployedMtaMetadata;
+import com.sap.cloud.lm.sl.cf.core.util.NameUtil;
+
+public class DeployedComponentsIndexTest {
+
+    private static final String SPACE_GUID = "space";
+    private static final String MTA_ID = "quux";
+    private static final MapToEnvironmentConverter ENV_CONVERTER = new MapToEnvironmentConverter(false);
+
+    private final DeployedComponentsIndex index = new DeployedComponentsIndex(new DeployedComponentsDetector(), 10);
+
+    @Test
+    public void testMetadataOfApplicationsThatWereNotUpdatedIsReused() {
+        List<CloudApplication> apps = Collections.singletonList(createMtaApp("mta-application-1", new Date(1)));
+
+        DeployedMtaMetadata mtaMetadata = getMtaMetadata(index.detectAllDeployedComponents(SPACE_GUID, apps));
+
+        assertSame(mtaMetadata, getMtaMetadata(index.detectAllDeployedComponents(SPACE_GUID, apps)));
+    }
+
+    @Test
+    public void testMetadataOfUpdatedApplicationsIsParsedAgain() {
+        List<CloudApplication> apps = Collections.singletonList(createMtaApp("mta-application-1", new Date(1)));
+        List<CloudApplication> updatedApps = Collections.singletonList(createMtaApp("mta-application-1", new Date(2)));
+
+        DeployedMtaMetadata mtaMetadata = getMtaMetadata(index.detectAllDeployedComponents(SPACE_GUID, apps));
+
+        assertNotSame(mtaMetadata, getMtaMetadata(index.detectAllDeployedComponents(SPACE_GUID, updatedApps)));
+    }
+
+    @Test
+    public void testMetadataIsNotSharedBetweenSpaces() {
+        List<CloudApplication> apps = Collections.singletonList(createMtaApp("mta-application-1", new Date(1)));
+
+        DeployedMtaMetadata mtaMetadata = getMtaMetadata(index.detectAllDeployedComponents(SPACE_GUID, apps));
+
+        assertNotSame(mtaMetadata, getMtaMetadata(index.detectAllDeployedComponents("another-space", apps)));
+    }
+
+    @Test
+    public void testDeletedApplicationsAreRemovedFromTheIndex() {
+        CloudApplication app1 = createMtaApp("mta-application-1", new Date(1));
+        CloudApplication app2 = createMtaApp("mta-application-2", new Date(1));
+
+        index.detectAllDeployedComponents(SPACE_GUID, Arrays.asList(app1, app2));
+        assertEquals(2, index.getIndexedAppsCount(SPACE_GUID));
+
+        DeployedComponents deployedComponents = index.detectAllDeployedComponents(SPACE_GUID, Collections.singletonList(app1));
+        assertEquals(1, index.getIndexedAppsCount(SPACE_GUID));
+        assertEquals(1, deployedComponents.findDeployedMta(MTA_ID)
+            .getModules()
+            .size());
+    }
+
+    private DeployedMtaMetadata getMtaMetadata(DeployedComponents deployedComponents) {
+        return deployedComponents.findDeployedMta(MTA_ID)
+            .getMetadata();
+    }
+
+    private CloudApplication createMtaApp(String name, Date updatedAt) {
+        Map<String, Object> env = new HashMap<>();
+        Map<String, Object> mtaMetadata = new HashMap<>();
+        mtaMetadata.put("id", MTA_ID);
+        mtaMetadata.put("version", "0.1.0");
+        env.put(Constants.ENV_MTA_METADATA, mtaMetadata);
+        env.put(Constants.ENV_MTA_SERVICES, Collections.emptyList());
+        env.put(Constants.ENV_MTA_MODULE_METADATA, Collections.singletonMap("name", name));
+        env.put(Constants.ENV_MTA_MODULE_PUBLIC_PROVIDED_DEPENDENCIES, Collections.emptyList());
+        return ImmutableCloudApplication.builder()
+            .metadata(ImmutableCloudMetadata.builder()
+                .guid(NameUtil.getUUID(name))
+                .updatedAt(updatedAt)
+                .build())
+            .name(name)
+            .env(ENV_CONVERTER.asEnv(env))
+            .build();
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.sap.cloud.lm.sl.cf.core.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -195,6 +196,16 @@ public class ConfigurationEntryDaoTest {
                 {
                     new FindAllGuidTest(new FindTestInput(null, null, null, null, null, null, null, "fbd3dc79-1a54-4a70-8022-ab716643809b"),
                         new Expectation(Expectation.Type.JSON, "configuration-entry-dao-test-output-26.json")),
+                },
+                // (27)
+                {
+                    new FindAllTest(new FindTestInput(null, "id-2", null, new CloudTarget("*", "space-1"), null, null, null, ""),
+                        new Expectation(Expectation.Type.JSON, "configuration-entry-dao-test-output-27.json")),
+                },
+                // (28)
+                {
+                    new FindAllTest(new FindTestInput("n-2", null, null, new CloudTarget("org-1", "*"), MapUtil.asMap("type", "prod"), null, null, ""),
+                        new Expectation(Expectation.Type.JSON, "configuration-entry-dao-test-output-28.json")),
                 }
     // @formatter:on
             });
@@ -433,6 +444,38 @@ public class ConfigurationEntryDaoTest {
             }
         }
 
+        @Test
+        public void testPublish() {
+            ConfigurationEntry existingEntry = dao.add(createEntry("id-1", "content-1"));
+            List<ConfigurationEntry> publishedEntries = dao.publish(Arrays.asList(createEntry("id-1", "content-2"),
+                createEntry("id-2", "content-3")));
+            try {
+                assertEquals(existingEntry.getId(), publishedEntries.get(0)
+                    .getId());
+                assertEquals("content-2", dao.find(existingEntry.getId())
+                    .getContent());
+                assertEquals("content-3", dao.find(publishedEntries.get(1)
+                    .getId())
+                    .getContent());
+            } finally {
+                dao.removeAll(publishedEntries);
+            }
+        }
+
+        @Test
+        public void testRemoveMultiple() {
+            ConfigurationEntry entry = dao.add(createEntry("id-1", "content-1"));
+            long unusedId = getUnusedId(dao);
+
+            assertEquals(Arrays.asList(entry.getId()), dao.remove(Arrays.asList(entry.getId(), unusedId)));
+            assertFalse(dao.exists(entry.getId()));
+        }
+
+        private ConfigurationEntry createEntry(String providerId, String content) {
+            return new ConfigurationEntry("n-1", providerId, Version.parseVersion("1.0.0"), new CloudTarget("org-1", "space-1"), content,
+                null, "");
+        }
+
         private long getUnusedId(ConfigurationEntryDao dao) {
             for (long id = 0; id <= Long.MAX_VALUE; id++) {
                 boolean isUsed = dao.exists(id);
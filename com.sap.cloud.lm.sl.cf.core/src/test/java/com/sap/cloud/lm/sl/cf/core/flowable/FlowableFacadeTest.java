@@ -1,7 +1,24 @@
 package com.sap.cloud.lm.sl.cf.core.flowable;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.history.NativeHistoricProcessInstanceQuery;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.NativeExecutionQuery;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +26,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import com.sap.cloud.lm.sl.cf.web.api.model.State;
+
 class FlowableFacadeTest {
 
     private FlowableFacade flowableFacade;
@@ -40,4 +59,75 @@ class FlowableFacadeTest {
         Mockito.verify(mockedAsyncExecutor, Mockito.times(1)).shutdown();
     }
 
+    @Test
+    void testGetProcessInstanceStates() {
+        RuntimeService runtimeService = Mockito.mock(RuntimeService.class);
+        HistoryService historyService = Mockito.mock(HistoryService.class);
+        ManagementService managementService = Mockito.mock(ManagementService.class);
+        Mockito.when(mockedProcessEngine.getRuntimeService()).thenReturn(runtimeService);
+        Mockito.when(mockedProcessEngine.getHistoryService()).thenReturn(historyService);
+        Mockito.when(mockedProcessEngine.getManagementService()).thenReturn(managementService);
+        Mockito.when(managementService.getTableName(Mockito.any(Class.class)))
+            .thenAnswer(invocation -> ((Class<?>) invocation.getArguments()[0]).getSimpleName());
+
+        ProcessInstanceQuery processInstanceQuery = Mockito.mock(ProcessInstanceQuery.class);
+        Mockito.when(runtimeService.createProcessInstanceQuery()).thenReturn(processInstanceQuery);
+        Mockito.when(processInstanceQuery.processInstanceIds(Mockito.anySetOf(String.class))).thenReturn(processInstanceQuery);
+        Mockito.when(processInstanceQuery.list())
+            .thenReturn(Arrays.asList(mockProcessInstance("running"), mockProcessInstance("error"), mockProcessInstance("action-required")));
+
+        NativeExecutionQuery nativeExecutionQuery = Mockito.mock(NativeExecutionQuery.class);
+        Mockito.when(runtimeService.createNativeExecutionQuery()).thenReturn(nativeExecutionQuery);
+        NativeExecutionQuery receiveTaskQuery = mockNativeExecutionQuery(nativeExecutionQuery, "receiveTask", "action-required");
+        NativeExecutionQuery deadLetterJobQuery = mockNativeExecutionQuery(nativeExecutionQuery, "DeadLetterJobEntity", "error");
+
+        HistoricProcessInstanceQuery historicProcessInstanceQuery = Mockito.mock(HistoricProcessInstanceQuery.class);
+        Mockito.when(historyService.createHistoricProcessInstanceQuery()).thenReturn(historicProcessInstanceQuery);
+        Mockito.when(historicProcessInstanceQuery.processInstanceIds(Mockito.anySetOf(String.class)))
+            .thenReturn(historicProcessInstanceQuery);
+        Mockito.when(historicProcessInstanceQuery.list())
+            .thenReturn(Arrays.asList(mockHistoricProcessInstance("finished", null), mockHistoricProcessInstance("aborted", "ABORTED")));
+        NativeHistoricProcessInstanceQuery subProcessInstanceQuery = Mockito.mock(NativeHistoricProcessInstanceQuery.class);
+        Mockito.when(historyService.createNativeHistoricProcessInstanceQuery()).thenReturn(subProcessInstanceQuery);
+        Mockito.when(subProcessInstanceQuery.sql(Mockito.anyString())).thenReturn(subProcessInstanceQuery);
+        Mockito.when(subProcessInstanceQuery.parameter(Mockito.anyString(), Mockito.any())).thenReturn(subProcessInstanceQuery);
+        Mockito.when(subProcessInstanceQuery.list()).thenReturn(Collections.emptyList());
+
+        Map<String, State> expectedStates = new HashMap<>();
+        expectedStates.put("running", State.RUNNING);
+        expectedStates.put("error", State.ERROR);
+        expectedStates.put("action-required", State.ACTION_REQUIRED);
+        expectedStates.put("finished", State.FINISHED);
+        expectedStates.put("aborted", State.ABORTED);
+        assertEquals(expectedStates, flowableFacade.getProcessInstanceStates(expectedStates.keySet()));
+        Mockito.verify(receiveTaskQuery, Mockito.times(1)).list();
+        Mockito.verify(deadLetterJobQuery, Mockito.times(1)).list();
+        Mockito.verify(processInstanceQuery, Mockito.times(1)).list();
+        Mockito.verify(historicProcessInstanceQuery, Mockito.times(1)).list();
+    }
+
+    private ProcessInstance mockProcessInstance(String id) {
+        ProcessInstance processInstance = Mockito.mock(ProcessInstance.class);
+        Mockito.when(processInstance.getId()).thenReturn(id);
+        return processInstance;
+    }
+
+    private NativeExecutionQuery mockNativeExecutionQuery(NativeExecutionQuery nativeExecutionQuery, String sqlPart,
+        String rootProcessInstanceId) {
+        NativeExecutionQuery query = Mockito.mock(NativeExecutionQuery.class);
+        Mockito.when(nativeExecutionQuery.sql(Mockito.contains(sqlPart))).thenReturn(query);
+        Mockito.when(query.parameter(Mockito.anyString(), Mockito.any())).thenReturn(query);
+        Execution execution = Mockito.mock(Execution.class);
+        Mockito.when(execution.getRootProcessInstanceId()).thenReturn(rootProcessInstanceId);
+        Mockito.when(query.list()).thenReturn(Collections.singletonList(execution));
+        return query;
+    }
+
+    private HistoricProcessInstance mockHistoricProcessInstance(String id, String deleteReason) {
+        HistoricProcessInstance historicProcessInstance = Mockito.mock(HistoricProcessInstance.class);
+        Mockito.when(historicProcessInstance.getId()).thenReturn(id);
+        Mockito.when(historicProcessInstance.getDeleteReason()).thenReturn(deleteReason);
+        return historicProcessInstance;
+    }
+
 }
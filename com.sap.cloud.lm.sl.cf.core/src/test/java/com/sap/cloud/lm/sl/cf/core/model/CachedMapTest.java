@@ -0,0 +1,129 @@
+package com.sap.cloud.lm.sl.cf.core.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class CachedMapTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testGet() {
+        Supplier<Long> currentTimeSupplier = Mockito.mock(Supplier.class);
+        Mockito.when(currentTimeSupplier.get())
+            .thenReturn(0L, toMillis(5), toMillis(15));
+
+        Supplier<String> refreshFunction = Mockito.mock(Supplier.class);
+        Mockito.when(refreshFunction.get())
+            .thenReturn("a", "b");
+
+        CachedMap<String, String> cachedMap = new CachedMap<>(10, 100, currentTimeSupplier);
+
+        assertEquals("a", cachedMap.get("foo", refreshFunction));
+        assertEquals("a", cachedMap.get("foo", refreshFunction));
+        assertEquals("b", cachedMap.get("foo", refreshFunction));
+        Mockito.verify(refreshFunction, Mockito.times(2))
+            .get();
+    }
+
+    @Test
+    public void testForceRefresh() {
+        AtomicInteger refreshes = new AtomicInteger();
+        CachedMap<String, Integer> cachedMap = new CachedMap<>(60);
+
+        assertEquals(1, (int) cachedMap.get("foo", refreshes::incrementAndGet));
+        assertEquals(2, (int) cachedMap.forceRefresh("foo", refreshes::incrementAndGet));
+        assertEquals(2, (int) cachedMap.get("foo", refreshes::incrementAndGet));
+    }
+
+    @Test
+    public void testConcurrentGetsOfTheSameKeyLoadTheValueOnce() throws Exception {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch refreshAllowed = new CountDownLatch(1);
+        AtomicInteger refreshes = new AtomicInteger();
+        CachedMap<String, String> cachedMap = new CachedMap<>(60);
+        Supplier<String> refreshFunction = () -> {
+            refreshes.incrementAndGet();
+            refreshStarted.countDown();
+            await(refreshAllowed);
+            return "a";
+        };
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cachedMap.get("foo", refreshFunction)));
+        refreshStarted.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> cachedMap.get("foo", refreshFunction)));
+        }
+        refreshAllowed.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("a", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, refreshes.get());
+    }
+
+    @Test
+    public void testSlowRefreshDoesNotBlockOtherKeys() throws Exception {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch refreshAllowed = new CountDownLatch(1);
+        CachedMap<String, String> cachedMap = new CachedMap<>(60);
+
+        Future<String> slowResult = executor.submit(() -> cachedMap.get("foo", () -> {
+            refreshStarted.countDown();
+            await(refreshAllowed);
+            return "a";
+        }));
+        refreshStarted.await(5, TimeUnit.SECONDS);
+
+        Future<String> fastResult = executor.submit(() -> cachedMap.get("bar", () -> "b"));
+        assertEquals("b", fastResult.get(5, TimeUnit.SECONDS));
+
+        refreshAllowed.countDown();
+        assertEquals("a", slowResult.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSize() {
+        CachedMap<Integer, Integer> cachedMap = new CachedMap<>(60, 32);
+        for (int i = 0; i < 1000; i++) {
+            int value = i;
+            cachedMap.get(i, () -> value);
+        }
+        assertTrue(cachedMap.size() <= 32);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+
+    private Long toMillis(int seconds) {
+        return TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+}
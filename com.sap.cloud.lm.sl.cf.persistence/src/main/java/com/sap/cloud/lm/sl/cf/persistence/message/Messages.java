@@ -10,7 +10,9 @@ public final class Messages {
     public static final String FILE_UPLOAD_FAILED = "Upload of file \"{0}\" to \"{1}\" failed";
     public static final String FILE_NOT_FOUND = "File \"{0}\" not found";
     public static final String BLOB_STORE_PUT_BLOB_FAILED = "Attempt [{0}/{1}] to upload blob to ObjectStore failed with \"{2}\"";
+    public static final String BLOB_STORE_UPLOAD_PART_FAILED = "Attempt [{0}/{1}] to upload part {2} of blob to ObjectStore failed with \"{3}\"";
     public static final String ERROR_SAVING_MESSAGE = "Error saving message with process ID \"{0}\", task ID \"{1}\"";
+    public static final String ERROR_SAVING_MESSAGES = "Error saving {0} messages";
     public static final String ERROR_UPDATING_MESSAGE = "Error updating message with ID \"{0}\"";
     public static final String ERROR_DELETING_MESSAGES_WITH_PROCESS_ID = "Error deleting messages with process ID \"{0}\"";
     public static final String ERROR_DELETING_MESSAGES_WITH_PROCESS_ID_TASK_ID = "Error deleting messages with process ID \"{0}\" and task ID \"{1}\"";
@@ -32,6 +34,8 @@ public final class Messages {
     public static final String ERROR_GETTING_FILES_WITH_SPACE_NAMESPACE_AND_NAME = "Error getting files with space {0} namespace {1} and file name {2}";
     public static final String ERROR_GETTING_ALL_FILES = "Error getting all files";
     public static final String ERROR_GETTING_FILES_MODIFIED_BEFORE = "Error getting files modified before {0}";
+    public static final String ERROR_GETTING_ARCHIVE_ENTRIES_OF_FILE = "Error getting archive entries of file with ID \"{0}\"";
+    public static final String ERROR_DELETING_HISTORIC_DATA_OF_PROCESSES_STARTED_BEFORE_0 = "Error deleting historic data of processes started before \"{0}\"";
     public static final String ERROR_DELETING_PROCESS_LOGS_WITH_NAMESPACE = "Error deleting process logs with namespace \"{0}\"";
     public static final String ERROR_DELETING_DIRECTORY = "Error deleting directory \"{0}\"";
     public static final String ERROR_STORING_LOG_FILE = "Error storing log file \"{0}\"";
@@ -41,6 +45,7 @@ public final class Messages {
     // ERROR log messages:
     public static final String UPLOAD_STREAM_FAILED_TO_CLOSE = "Cannot close file upload stream";
     public static final String DELETING_LOCAL_FILE_BECAUSE_OF_INFECTION = "File \"{0}\" is infected and will be removed";
+    public static final String DISCARDING_PROGRESS_MESSAGES = "Discarding {0} progress messages, which could not be stored after {1} attempts";
 
     // WARN log messages:
     public static final String COULD_NOT_CLOSE_RESULT_SET = "Could not close result set.";
@@ -48,6 +53,9 @@ public final class Messages {
     public static final String COULD_NOT_CLOSE_CONNECTION = "Could not close connection.";
     public static final String COULD_NOT_ROLLBACK_TRANSACTION = "Could not rollback transaction!";
     public static final String COULD_NOT_PERSIST_LOGS_FILE = "Could not persist logs file: {0}";
+    public static final String COULD_NOT_FLUSH_PROGRESS_MESSAGES = "Could not flush progress messages: {0}";
+    public static final String PROGRESS_MESSAGE_QUEUE_IS_FULL = "Progress message queue is full. Flushing it in the current thread...";
+    public static final String COULD_NOT_INDEX_ARCHIVE_ENTRIES_OF_FILE_0 = "Could not index archive entries of file \"{0}\". Its content will be read sequentially.";
 
     // INFO log messages:
 
@@ -68,12 +76,15 @@ public final class Messages {
     public static final String STORING_FILE_TO_PATH_0 = "Storing file to path \"{0}\"...";
     public static final String STORED_FILE_0 = "Stored file: \"{0}\"";
     public static final String STORED_FILE_0_WITH_SIZE_1_SUCCESSFULLY_2 = "Stored file \"{0}\" with size {1}";
+    public static final String UPLOADING_FILE_0_IN_1_PARTS = "Uploading file \"{0}\" in {1} parts...";
     public static final String DELETED_0_FILES_WITH_SPACE_1 = "Deleted {0} files with space \"{1}\".";
     public static final String DELETED_0_FILES_WITH_SPACE_1_AND_NAMESPACE_2 = "Deleted {0} files with space \"{1}\" and namespace \"{2}\".";
     public static final String DELETED_0_FILES_MODIFIED_BEFORE_1 = "Deleted {0} files modified before \"{1}\".";
     public static final String DELETED_0_FILES_WITH_ID_1_AND_SPACE_2 = "Deleted {0} files with ID \"{1}\" and space \"{2}\".";
     public static final String DELETED_0_FILES_WITHOUT_CONTENT = "Deleted {0} files without content.";
     public static final String PROCESSING_FILE_0 = "Processing file \"{0}\"...";
+    public static final String PROCESSING_FILE_0_FROM_1_TO_2 = "Processing file \"{0}\" from position {1} to {2}...";
+    public static final String STORED_0_ARCHIVE_ENTRIES_OF_FILE_1 = "Stored {0} archive entries of file with ID \"{1}\".";
 
     protected Messages() {
     }
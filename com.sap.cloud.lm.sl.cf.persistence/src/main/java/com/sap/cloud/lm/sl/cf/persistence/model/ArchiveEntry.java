@@ -0,0 +1,78 @@
+package com.sap.cloud.lm.sl.cf.persistence.model;
+
+public class ArchiveEntry {
+
+    private String name;
+
+    private long startPosition;
+
+    private long endPosition;
+
+    private long compressedSize;
+
+    private long crc;
+
+    public ArchiveEntry() {
+        super();
+    }
+
+    public ArchiveEntry(String name, long startPosition, long compressedSize, long crc) {
+        this.name = name;
+        this.startPosition = startPosition;
+        this.compressedSize = compressedSize;
+        this.crc = crc;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return the position of the entry's local file header in the archive
+     */
+    public long getStartPosition() {
+        return startPosition;
+    }
+
+    public void setStartPosition(long startPosition) {
+        this.startPosition = startPosition;
+    }
+
+    /**
+     * @return the position in the archive right after the entry's data (and data descriptor, if any)
+     */
+    public long getEndPosition() {
+        return endPosition;
+    }
+
+    public void setEndPosition(long endPosition) {
+        this.endPosition = endPosition;
+    }
+
+    public long getCompressedSize() {
+        return compressedSize;
+    }
+
+    public void setCompressedSize(long compressedSize) {
+        this.compressedSize = compressedSize;
+    }
+
+    public long getCrc() {
+        return crc;
+    }
+
+    public void setCrc(long crc) {
+        this.crc = crc;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchiveEntry [name=" + name + ", startPosition=" + startPosition + ", endPosition=" + endPosition + ", compressedSize="
+            + compressedSize + ", crc=" + crc + "]";
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.sap.cloud.lm.sl.cf.persistence.query.providers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+
+import com.sap.cloud.lm.sl.cf.persistence.message.Messages;
+import com.sap.cloud.lm.sl.cf.persistence.model.ArchiveEntry;
+import com.sap.cloud.lm.sl.cf.persistence.query.SqlQuery;
+import com.sap.cloud.lm.sl.cf.persistence.util.JdbcUtil;
+
+public class SqlArchiveEntryQueryProvider {
+
+    private static final String INSERT_ARCHIVE_ENTRY = "INSERT INTO %s (FILE_ID, ENTRY_NAME, START_POSITION, END_POSITION, COMPRESSED_SIZE, CRC) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_ARCHIVE_ENTRIES_BY_FILE_ID = "SELECT ENTRY_NAME, START_POSITION, END_POSITION, COMPRESSED_SIZE, CRC FROM %s WHERE FILE_ID=? ORDER BY START_POSITION";
+
+    private final String tableName;
+    private Logger logger;
+
+    public SqlArchiveEntryQueryProvider(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public SqlQuery<Integer> getStoreArchiveEntriesQuery(final String fileId, final List<ArchiveEntry> archiveEntries) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(getQuery(INSERT_ARCHIVE_ENTRY));
+                for (ArchiveEntry archiveEntry : archiveEntries) {
+                    statement.setString(1, fileId);
+                    statement.setString(2, archiveEntry.getName());
+                    statement.setLong(3, archiveEntry.getStartPosition());
+                    statement.setLong(4, archiveEntry.getEndPosition());
+                    statement.setLong(5, archiveEntry.getCompressedSize());
+                    statement.setLong(6, archiveEntry.getCrc());
+                    statement.addBatch();
+                }
+                int storedEntries = statement.executeBatch().length;
+                logger.debug(MessageFormat.format(Messages.STORED_0_ARCHIVE_ENTRIES_OF_FILE_1, storedEntries, fileId));
+                return storedEntries;
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+    public SqlQuery<List<ArchiveEntry>> getListArchiveEntriesQuery(final String fileId) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                List<ArchiveEntry> archiveEntries = new ArrayList<>();
+                statement = connection.prepareStatement(getQuery(SELECT_ARCHIVE_ENTRIES_BY_FILE_ID));
+                statement.setString(1, fileId);
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    archiveEntries.add(getArchiveEntry(resultSet));
+                }
+                return archiveEntries;
+            } finally {
+                JdbcUtil.closeQuietly(resultSet);
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+    private ArchiveEntry getArchiveEntry(ResultSet resultSet) throws SQLException {
+        ArchiveEntry archiveEntry = new ArchiveEntry();
+        archiveEntry.setName(resultSet.getString(ArchiveEntryColumnNames.ENTRY_NAME));
+        archiveEntry.setStartPosition(resultSet.getLong(ArchiveEntryColumnNames.START_POSITION));
+        archiveEntry.setEndPosition(resultSet.getLong(ArchiveEntryColumnNames.END_POSITION));
+        archiveEntry.setCompressedSize(resultSet.getLong(ArchiveEntryColumnNames.COMPRESSED_SIZE));
+        archiveEntry.setCrc(resultSet.getLong(ArchiveEntryColumnNames.CRC));
+        return archiveEntry;
+    }
+
+    private String getQuery(String statementTemplate) {
+        return String.format(statementTemplate, tableName);
+    }
+
+    public static class ArchiveEntryColumnNames {
+        public static final String FILE_ID = "FILE_ID";
+        public static final String ENTRY_NAME = "ENTRY_NAME";
+        public static final String START_POSITION = "START_POSITION";
+        public static final String END_POSITION = "END_POSITION";
+        public static final String COMPRESSED_SIZE = "COMPRESSED_SIZE";
+        public static final String CRC = "CRC";
+
+        protected ArchiveEntryColumnNames() {
+        }
+    }
+
+    public SqlArchiveEntryQueryProvider withLogger(Logger logger) {
+        this.logger = logger;
+        return this;
+    }
+}
@@ -13,6 +13,8 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.slf4j.Logger;
 
 import com.sap.cloud.lm.sl.cf.persistence.dialects.DataSourceDialect;
@@ -26,10 +28,12 @@ public abstract class SqlFileQueryProvider {
 
     private static final String INSERT_FILE_ATTRIBUTES_AND_CONTENT = "INSERT INTO %s (FILE_ID, SPACE, FILE_NAME, NAMESPACE, FILE_SIZE, DIGEST, DIGEST_ALGORITHM, MODIFIED, %s) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
     private static final String INSERT_FILE_ATTRIBUTES = "INSERT INTO %s (FILE_ID, SPACE, FILE_NAME, NAMESPACE, FILE_SIZE, DIGEST, DIGEST_ALGORITHM, MODIFIED) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_FILE_SIZE_AND_DIGEST = "UPDATE %s SET FILE_SIZE=?, DIGEST=? WHERE FILE_ID=? AND SPACE=?";
     private static final String SELECT_ALL_FILES = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE FROM %s";
     private static final String SELECT_FILES_BY_NAMESPACE_AND_SPACE = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE FROM %s WHERE NAMESPACE=? AND SPACE=?";
     private static final String SELECT_FILES_BY_NAMESPACE_SPACE_AND_NAME = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE FROM %s WHERE NAMESPACE=? AND SPACE=? AND FILE_NAME=?";
     private static final String SELECT_FILES_BY_SPACE = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE FROM %s WHERE SPACE=?";
+    private static final String SELECT_FILES_MODIFIED_BEFORE = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE FROM %s WHERE MODIFIED<?";
     private static final String SELECT_FILE_BY_ID_AND_SPACE = "SELECT FILE_ID, SPACE, DIGEST, DIGEST_ALGORITHM, MODIFIED, FILE_NAME, NAMESPACE, FILE_SIZE FROM %s WHERE FILE_ID=? AND SPACE=?";
     private static final String SELECT_FILE_WITH_CONTENT_BY_ID_AND_SPACE = "SELECT FILE_ID, SPACE, %s FROM %s WHERE FILE_ID=? AND SPACE=?";
     private static final String DELETE_FILES_BY_NAMESPACE_AND_SPACE = "DELETE FROM %s WHERE NAMESPACE=? AND SPACE=?";
@@ -39,6 +43,8 @@ public abstract class SqlFileQueryProvider {
     private static final String DELETE_FILE_BY_ID_AND_SPACE = "DELETE FROM %s WHERE FILE_ID=? AND SPACE=?";
     private static final String DELETE_FILES_WITHOUT_CONTENT = "DELETE FROM %s WHERE CONTENT IS NULL";
 
+    private static final long WHOLE_CONTENT_END_POSITION = -1;
+
     private final String tableName;
     private final DataSourceDialect dataSourceDialect;
     private Logger logger;
@@ -93,6 +99,22 @@ public abstract class SqlFileQueryProvider {
         };
     }
 
+    public SqlQuery<Boolean> getUpdateFileSizeAndDigestQuery(FileEntry fileEntry) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(getQuery(UPDATE_FILE_SIZE_AND_DIGEST));
+                getDataSourceDialect().setBigInteger(statement, 1, fileEntry.getSize());
+                statement.setString(2, fileEntry.getDigest());
+                statement.setString(3, fileEntry.getId());
+                statement.setString(4, fileEntry.getSpace());
+                return statement.executeUpdate() > 0;
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
     public SqlQuery<List<FileEntry>> getListFilesQuery(final String space, final String namespace) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
@@ -119,6 +141,26 @@ public abstract class SqlFileQueryProvider {
         };
     }
 
+    public SqlQuery<List<FileEntry>> getListFilesModifiedBeforeQuery(Date modificationTime) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                List<FileEntry> files = new ArrayList<>();
+                statement = connection.prepareStatement(getQuery(SELECT_FILES_MODIFIED_BEFORE));
+                statement.setTimestamp(1, new java.sql.Timestamp(modificationTime.getTime()));
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    files.add(getFileEntry(resultSet));
+                }
+                return files;
+            } finally {
+                JdbcUtil.closeQuietly(resultSet);
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
     public SqlQuery<List<FileEntry>> getListFilesQuery(final String space, final String namespace, final String fileName) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
@@ -181,6 +223,11 @@ public abstract class SqlFileQueryProvider {
     }
 
     public SqlQuery<Void> getProcessFileWithContentQuery(final FileDownloadProcessor fileDownloadProcessor) {
+        return getProcessFileWithContentQuery(fileDownloadProcessor, 0, WHOLE_CONTENT_END_POSITION);
+    }
+
+    public SqlQuery<Void> getProcessFileWithContentQuery(final FileDownloadProcessor fileDownloadProcessor, final long startPosition,
+        final long endPosition) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
             ResultSet resultSet = null;
@@ -192,7 +239,7 @@ public abstract class SqlFileQueryProvider {
                     .getSpace());
                 resultSet = statement.executeQuery();
                 if (resultSet.next()) {
-                    processFileContent(resultSet, fileDownloadProcessor);
+                    processFileContent(resultSet, fileDownloadProcessor, startPosition, endPosition);
                 } else {
                     throw new SQLException(MessageFormat.format(Messages.FILE_NOT_FOUND, fileDownloadProcessor.getFileEntry()
                         .getId()));
@@ -344,10 +391,11 @@ public abstract class SqlFileQueryProvider {
         return dataSourceDialect;
     }
 
-    private void processFileContent(ResultSet resultSet, final FileDownloadProcessor fileDownloadProcessor) throws SQLException {
+    private void processFileContent(ResultSet resultSet, final FileDownloadProcessor fileDownloadProcessor, long startPosition,
+        long endPosition) throws SQLException {
         InputStream fileStream = getContentBinaryStream(resultSet, getContentColumnName());
         try {
-            fileDownloadProcessor.processContent(fileStream);
+            fileDownloadProcessor.processContent(getContentRange(fileStream, startPosition, endPosition));
         } catch (Exception e) {
             throw new SQLException(e.getMessage(), e);
         } finally {
@@ -361,6 +409,16 @@ public abstract class SqlFileQueryProvider {
         }
     }
 
+    private InputStream getContentRange(InputStream fileStream, long startPosition, long endPosition) throws IOException {
+        if (endPosition == WHOLE_CONTENT_END_POSITION) {
+            return fileStream;
+        }
+        IOUtils.skipFully(fileStream, startPosition);
+        BoundedInputStream contentRangeStream = new BoundedInputStream(fileStream, endPosition - startPosition);
+        contentRangeStream.setPropagateClose(false);
+        return contentRangeStream;
+    }
+
     protected abstract InputStream getContentBinaryStream(ResultSet resultSet, String columnName) throws SQLException;
 
     private FileEntry getFileEntry(ResultSet resultSet) throws SQLException {
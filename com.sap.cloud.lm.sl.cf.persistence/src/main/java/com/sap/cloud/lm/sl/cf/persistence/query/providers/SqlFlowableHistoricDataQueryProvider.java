@@ -0,0 +1,134 @@
+package com.sap.cloud.lm.sl.cf.persistence.query.providers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.sap.cloud.lm.sl.cf.persistence.query.SqlQuery;
+import com.sap.cloud.lm.sl.cf.persistence.util.JdbcUtil;
+
+public class SqlFlowableHistoricDataQueryProvider {
+
+    private static final String SELECT_FINISHED_PROCESSES_STARTED_BEFORE = "SELECT ID_ FROM ACT_HI_PROCINST WHERE END_TIME_ IS NOT NULL AND START_TIME_ < ?";
+    private static final String SELECT_SUBPROCESSES = "SELECT ID_ FROM ACT_HI_PROCINST WHERE SUPER_PROCESS_INSTANCE_ID_ IN (%s)";
+    private static final String SELECT_TASKS_OF_PROCESSES = "SELECT ID_ FROM ACT_HI_TASKINST WHERE PROC_INST_ID_ IN (%s)";
+    // The same data is deleted by the history service of Flowable 6.4. The byte arrays are deleted first, because they can be found only
+    // through the variables, the details and the attachments that reference them. The data of the tasks, which is not linked to the
+    // processes directly, is deleted before the tasks:
+    private static final List<String> DELETE_HISTORIC_DATA_OF_PROCESSES = Arrays.asList(
+        "DELETE FROM ACT_GE_BYTEARRAY WHERE ID_ IN (SELECT BYTEARRAY_ID_ FROM ACT_HI_VARINST WHERE PROC_INST_ID_ IN (%s))",
+        "DELETE FROM ACT_GE_BYTEARRAY WHERE ID_ IN (SELECT BYTEARRAY_ID_ FROM ACT_HI_DETAIL WHERE PROC_INST_ID_ IN (%s))",
+        "DELETE FROM ACT_GE_BYTEARRAY WHERE ID_ IN (SELECT CONTENT_ID_ FROM ACT_HI_ATTACHMENT WHERE PROC_INST_ID_ IN (%s))",
+        "DELETE FROM ACT_HI_DETAIL WHERE PROC_INST_ID_ IN (%s)", "DELETE FROM ACT_HI_VARINST WHERE PROC_INST_ID_ IN (%s)",
+        "DELETE FROM ACT_HI_IDENTITYLINK WHERE TASK_ID_ IN (" + SELECT_TASKS_OF_PROCESSES + ")",
+        "DELETE FROM ACT_HI_TSK_LOG WHERE TASK_ID_ IN (" + SELECT_TASKS_OF_PROCESSES + ")",
+        "DELETE FROM ACT_HI_ENTITYLINK WHERE SCOPE_TYPE_ = 'task' AND SCOPE_ID_ IN (" + SELECT_TASKS_OF_PROCESSES + ")",
+        "DELETE FROM ACT_HI_TASKINST WHERE PROC_INST_ID_ IN (%s)", "DELETE FROM ACT_HI_ACTINST WHERE PROC_INST_ID_ IN (%s)",
+        "DELETE FROM ACT_HI_IDENTITYLINK WHERE PROC_INST_ID_ IN (%s)", "DELETE FROM ACT_HI_TSK_LOG WHERE PROC_INST_ID_ IN (%s)",
+        "DELETE FROM ACT_HI_ENTITYLINK WHERE SCOPE_TYPE_ = 'bpmn' AND SCOPE_ID_ IN (%s)",
+        "DELETE FROM ACT_HI_COMMENT WHERE PROC_INST_ID_ IN (%s)", "DELETE FROM ACT_HI_ATTACHMENT WHERE PROC_INST_ID_ IN (%s)",
+        "DELETE FROM ACT_HI_PROCINST WHERE ID_ IN (%s)");
+
+    public SqlQuery<Integer> getDeleteFinishedProcessesStartedBeforeQuery(Date startedBefore, int maxProcesses) {
+        return (Connection connection) -> {
+            List<String> processIds = getFinishedProcessesStartedBefore(connection, startedBefore, maxProcesses);
+            if (processIds.isEmpty()) {
+                return 0;
+            }
+            // Like the history service, delete the subprocesses together with the processes that started them:
+            List<String> processAndSubprocessIds = addSubprocesses(connection, processIds);
+            for (String deleteStatement : DELETE_HISTORIC_DATA_OF_PROCESSES) {
+                deleteHistoricDataOfProcesses(connection, deleteStatement, processAndSubprocessIds);
+            }
+            return processIds.size();
+        };
+    }
+
+    private List<String> getFinishedProcessesStartedBefore(Connection connection, Date startedBefore, int maxProcesses)
+        throws SQLException {
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.prepareStatement(SELECT_FINISHED_PROCESSES_STARTED_BEFORE);
+            statement.setMaxRows(maxProcesses);
+            statement.setTimestamp(1, new Timestamp(startedBefore.getTime()));
+            resultSet = statement.executeQuery();
+            List<String> processIds = new ArrayList<>();
+            while (resultSet.next()) {
+                processIds.add(resultSet.getString(1));
+            }
+            return processIds;
+        } finally {
+            JdbcUtil.closeQuietly(resultSet);
+            JdbcUtil.closeQuietly(statement);
+        }
+    }
+
+    private List<String> addSubprocesses(Connection connection, List<String> processIds) throws SQLException {
+        Set<String> processAndSubprocessIds = new LinkedHashSet<>(processIds);
+        List<String> parentIds = processIds;
+        while (!parentIds.isEmpty()) {
+            List<String> subprocessIds = getSubprocesses(connection, parentIds);
+            subprocessIds.removeAll(processAndSubprocessIds);
+            processAndSubprocessIds.addAll(subprocessIds);
+            parentIds = subprocessIds;
+        }
+        return new ArrayList<>(processAndSubprocessIds);
+    }
+
+    private List<String> getSubprocesses(Connection connection, List<String> processIds) throws SQLException {
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = prepareStatementForProcesses(connection, SELECT_SUBPROCESSES, processIds);
+            resultSet = statement.executeQuery();
+            List<String> subprocessIds = new ArrayList<>();
+            while (resultSet.next()) {
+                subprocessIds.add(resultSet.getString(1));
+            }
+            return subprocessIds;
+        } finally {
+            JdbcUtil.closeQuietly(resultSet);
+            JdbcUtil.closeQuietly(statement);
+        }
+    }
+
+    private void deleteHistoricDataOfProcesses(Connection connection, String deleteStatement, List<String> processIds)
+        throws SQLException {
+        PreparedStatement statement = null;
+        try {
+            statement = prepareStatementForProcesses(connection, deleteStatement, processIds);
+            statement.executeUpdate();
+        } finally {
+            JdbcUtil.closeQuietly(statement);
+        }
+    }
+
+    private PreparedStatement prepareStatementForProcesses(Connection connection, String sql, List<String> processIds)
+        throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(String.format(sql, getPlaceholders(processIds.size())));
+        try {
+            for (int i = 0; i < processIds.size(); i++) {
+                statement.setString(i + 1, processIds.get(i));
+            }
+            return statement;
+        } catch (SQLException e) {
+            JdbcUtil.closeQuietly(statement);
+            throw e;
+        }
+    }
+
+    private String getPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+}
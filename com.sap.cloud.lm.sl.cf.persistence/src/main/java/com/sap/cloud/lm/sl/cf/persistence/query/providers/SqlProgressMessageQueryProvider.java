@@ -62,6 +62,28 @@ public class SqlProgressMessageQueryProvider {
         };
     }
 
+    public SqlQuery<Integer> getAddAllQuery(final List<ProgressMessage> messages) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(getQuery(INSERT_MESSAGE, tableName));
+                for (ProgressMessage message : messages) {
+                    statement.setString(1, message.getProcessId());
+                    statement.setString(2, message.getTaskId());
+                    statement.setString(3, message.getType()
+                        .name());
+                    statement.setString(4, message.getText());
+                    statement.setTimestamp(5, new Timestamp(message.getTimestamp()
+                        .getTime()));
+                    statement.addBatch();
+                }
+                return statement.executeBatch().length;
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
     public SqlQuery<Boolean> getUpdateQuery(final long existingId, final ProgressMessage newMessage) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
@@ -0,0 +1,232 @@
+package com.sap.cloud.lm.sl.cf.persistence.services;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.sap.cloud.lm.sl.cf.persistence.model.ArchiveEntry;
+
+/**
+ * Builds an index of the entries of a ZIP archive from its central directory, without inflating any of them. The index can later be used
+ * to read only the part of the archive that contains a given entry.
+ */
+public class ArchiveIndexer {
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_ARCHIVE_COMMENT_SIZE = 0xFFFF;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE = 56;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+    private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+
+    private ArchiveIndexer() {
+    }
+
+    /**
+     * Indexes the entries of an archive.
+     *
+     * @param file the archive
+     * @return the entries of the archive sorted by their position, or an empty list if the file is not a ZIP archive
+     * @throws IOException
+     */
+    public static List<ArchiveEntry> indexArchive(File file) throws IOException {
+        try (RandomAccessFile archive = new RandomAccessFile(file, "r")) {
+            return indexArchive(archive.length(), (offset, length) -> read(archive, offset, length));
+        }
+    }
+
+    /**
+     * Indexes the entries of an archive, of which only the last bytes are available. They are enough, if they contain the central
+     * directory of the archive.
+     *
+     * @param tail the last bytes of the archive
+     * @param archiveLength the length of the whole archive
+     * @return the entries of the archive sorted by their position, or an empty list if the file is not a ZIP archive or its central
+     *         directory is not contained in the given bytes
+     */
+    public static List<ArchiveEntry> indexArchiveTail(byte[] tail, long archiveLength) {
+        long tailOffset = archiveLength - tail.length;
+        try {
+            return indexArchive(archiveLength, (offset, length) -> read(tail, offset - tailOffset, length));
+        } catch (EOFException e) {
+            return Collections.emptyList();
+        } catch (IOException e) {
+            // Reading from memory does not fail for any other reason:
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<ArchiveEntry> indexArchive(long archiveLength, ArchiveReader archive) throws IOException {
+        CentralDirectory centralDirectory = findCentralDirectory(archiveLength, archive);
+        if (centralDirectory == null) {
+            return Collections.emptyList();
+        }
+        return readEntries(archive, centralDirectory);
+    }
+
+    private static CentralDirectory findCentralDirectory(long archiveLength, ArchiveReader archive) throws IOException {
+        if (archiveLength < END_OF_CENTRAL_DIRECTORY_SIZE) {
+            return null;
+        }
+        int tailLength = (int) Math.min(archiveLength, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_ARCHIVE_COMMENT_SIZE);
+        long tailOffset = archiveLength - tailLength;
+        ByteBuffer tail = archive.read(tailOffset, tailLength);
+        for (int position = tailLength - END_OF_CENTRAL_DIRECTORY_SIZE; position >= 0; position--) {
+            if (tail.getInt(position) != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                continue;
+            }
+            long endOfCentralDirectoryOffset = tailOffset + position;
+            int entriesCount = Short.toUnsignedInt(tail.getShort(position + 10));
+            long size = Integer.toUnsignedLong(tail.getInt(position + 12));
+            long offset = Integer.toUnsignedLong(tail.getInt(position + 16));
+            if (entriesCount == ZIP64_MAGIC_COUNT || size == ZIP64_MAGIC_VALUE || offset == ZIP64_MAGIC_VALUE) {
+                return findZip64CentralDirectory(archive, endOfCentralDirectoryOffset);
+            }
+            if (offset + size <= endOfCentralDirectoryOffset) {
+                return new CentralDirectory(offset, size);
+            }
+        }
+        return null;
+    }
+
+    private static CentralDirectory findZip64CentralDirectory(ArchiveReader archive, long endOfCentralDirectoryOffset)
+        throws IOException {
+        long locatorOffset = endOfCentralDirectoryOffset - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+        if (locatorOffset < 0) {
+            return null;
+        }
+        ByteBuffer locator = archive.read(locatorOffset, ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE);
+        if (locator.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+            return null;
+        }
+        long zip64EndOfCentralDirectoryOffset = locator.getLong(8);
+        if (zip64EndOfCentralDirectoryOffset < 0 || zip64EndOfCentralDirectoryOffset > locatorOffset) {
+            return null;
+        }
+        ByteBuffer zip64EndOfCentralDirectory = archive.read(zip64EndOfCentralDirectoryOffset, ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE);
+        if (zip64EndOfCentralDirectory.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+            return null;
+        }
+        return new CentralDirectory(zip64EndOfCentralDirectory.getLong(48), zip64EndOfCentralDirectory.getLong(40));
+    }
+
+    private static List<ArchiveEntry> readEntries(ArchiveReader archive, CentralDirectory centralDirectory) throws IOException {
+        if (centralDirectory.size > Integer.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+        ByteBuffer buffer = archive.read(centralDirectory.offset, (int) centralDirectory.size);
+        List<ArchiveEntry> entries = new ArrayList<>();
+        int position = 0;
+        while (position + CENTRAL_DIRECTORY_HEADER_SIZE <= buffer.limit()
+            && buffer.getInt(position) == CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+            long crc = Integer.toUnsignedLong(buffer.getInt(position + 16));
+            long compressedSize = Integer.toUnsignedLong(buffer.getInt(position + 20));
+            long uncompressedSize = Integer.toUnsignedLong(buffer.getInt(position + 24));
+            int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+            int extraFieldLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(position + 42));
+            int namePosition = position + CENTRAL_DIRECTORY_HEADER_SIZE;
+            int extraFieldPosition = namePosition + nameLength;
+            int extraFieldEnd = extraFieldPosition + extraFieldLength;
+            if (extraFieldEnd + commentLength > buffer.limit()) {
+                break;
+            }
+            String name = new String(buffer.array(), namePosition, nameLength, StandardCharsets.UTF_8);
+
+            // Sizes and offsets that do not fit in 32 bits are stored in the ZIP64 extended information extra field:
+            int fieldPosition = findZip64ExtraField(buffer, extraFieldPosition, extraFieldEnd);
+            if (fieldPosition >= 0) {
+                if (uncompressedSize == ZIP64_MAGIC_VALUE) {
+                    fieldPosition += Long.BYTES;
+                }
+                if (compressedSize == ZIP64_MAGIC_VALUE) {
+                    compressedSize = buffer.getLong(fieldPosition);
+                    fieldPosition += Long.BYTES;
+                }
+                if (localHeaderOffset == ZIP64_MAGIC_VALUE) {
+                    localHeaderOffset = buffer.getLong(fieldPosition);
+                }
+            }
+            entries.add(new ArchiveEntry(name, localHeaderOffset, compressedSize, crc));
+            position = extraFieldEnd + commentLength;
+        }
+        return calculateEndPositions(entries, centralDirectory.offset);
+    }
+
+    private static int findZip64ExtraField(ByteBuffer buffer, int extraFieldPosition, int extraFieldEnd) {
+        int position = extraFieldPosition;
+        while (position + 4 <= extraFieldEnd) {
+            int id = Short.toUnsignedInt(buffer.getShort(position));
+            int dataSize = Short.toUnsignedInt(buffer.getShort(position + 2));
+            if (id == ZIP64_EXTRA_FIELD_ID) {
+                return position + 4;
+            }
+            position += 4 + dataSize;
+        }
+        return -1;
+    }
+
+    private static List<ArchiveEntry> calculateEndPositions(List<ArchiveEntry> entries, long centralDirectoryOffset) {
+        // The end of an entry is the beginning of the next one, which also covers its data descriptor:
+        entries.sort(Comparator.comparingLong(ArchiveEntry::getStartPosition));
+        for (int i = 0; i < entries.size(); i++) {
+            long endPosition = i + 1 < entries.size() ? entries.get(i + 1)
+                .getStartPosition() : centralDirectoryOffset;
+            entries.get(i)
+                .setEndPosition(endPosition);
+        }
+        return entries;
+    }
+
+    private static ByteBuffer read(RandomAccessFile archive, long offset, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        archive.seek(offset);
+        archive.readFully(bytes);
+        return ByteBuffer.wrap(bytes)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static ByteBuffer read(byte[] archive, long offset, int length) throws EOFException {
+        if (offset < 0 || offset + length > archive.length) {
+            throw new EOFException();
+        }
+        return ByteBuffer.wrap(Arrays.copyOfRange(archive, (int) offset, (int) offset + length))
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @FunctionalInterface
+    private interface ArchiveReader {
+
+        ByteBuffer read(long offset, int length) throws IOException;
+
+    }
+
+    private static class CentralDirectory {
+
+        private final long offset;
+        private final long size;
+
+        CentralDirectory(long offset, long size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.sap.cloud.lm.sl.cf.persistence.services;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sap.cloud.lm.sl.cf.persistence.DataSourceWithDialect;
+import com.sap.cloud.lm.sl.cf.persistence.message.Messages;
+import com.sap.cloud.lm.sl.cf.persistence.model.ProgressMessage;
+import com.sap.cloud.lm.sl.cf.persistence.model.ProgressMessage.ProgressMessageType;
+import com.sap.cloud.lm.sl.common.SLException;
+
+/**
+ * A {@link ProgressMessageService}, which queues the added messages in memory and stores them in batches from a background thread. When
+ * the queue is full, the thread that adds a message stores the queued messages itself. Callers that need the messages to be visible in the
+ * database, for example at the end of a step, should call {@link #flush()}. A batch that cannot be stored is kept and stored before the
+ * next ones by the following flushes, and is discarded only after it has failed {@value #MAX_STORE_ATTEMPTS} times.
+ */
+public class AsyncProgressMessageService extends ProgressMessageService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProgressMessageService.class);
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+    private static final long DEFAULT_FLUSH_INTERVAL_IN_MILLIS = 500;
+    static final int MAX_STORE_ATTEMPTS = 5;
+
+    private final BlockingQueue<ProgressMessage> queue;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flusher;
+    private final Object flushLock = new Object();
+    private final List<ProgressMessage> pendingBatch = new ArrayList<>();
+    private int failedStoreAttempts;
+
+    public AsyncProgressMessageService(DataSourceWithDialect dataSourceWithDialect) {
+        this(dataSourceWithDialect, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_IN_MILLIS);
+    }
+
+    public AsyncProgressMessageService(DataSourceWithDialect dataSourceWithDialect, int queueCapacity, int maxBatchSize,
+        long flushIntervalInMillis) {
+        super(dataSourceWithDialect);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-message-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalInMillis, flushIntervalInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean add(ProgressMessage message) {
+        while (!queue.offer(message)) {
+            LOGGER.debug(Messages.PROGRESS_MESSAGE_QUEUE_IS_FULL);
+            flush();
+        }
+        return true;
+    }
+
+    @Override
+    public void flush() {
+        synchronized (flushLock) {
+            if (!pendingBatch.isEmpty()) {
+                storePendingBatch();
+            }
+            while (queue.drainTo(pendingBatch, maxBatchSize) > 0) {
+                storePendingBatch();
+            }
+        }
+    }
+
+    private void storePendingBatch() {
+        try {
+            storeBatch(pendingBatch);
+        } catch (SLException e) {
+            if (++failedStoreAttempts < MAX_STORE_ATTEMPTS) {
+                throw e;
+            }
+            LOGGER.error(MessageFormat.format(Messages.DISCARDING_PROGRESS_MESSAGES, pendingBatch.size(), failedStoreAttempts), e);
+        }
+        pendingBatch.clear();
+        failedStoreAttempts = 0;
+    }
+
+    void storeBatch(List<ProgressMessage> messages) {
+        super.addAll(messages);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (SLException e) {
+            LOGGER.error(MessageFormat.format(Messages.COULD_NOT_FLUSH_PROGRESS_MESSAGES, e.getMessage()), e);
+        }
+    }
+
+    // The queued messages are flushed before every other operation, so that it sees all messages added before it:
+
+    @Override
+    public boolean update(long existingId, ProgressMessage newMessage) {
+        flush();
+        return super.update(existingId, newMessage);
+    }
+
+    @Override
+    public int removeByProcessId(String processId) {
+        flush();
+        return super.removeByProcessId(processId);
+    }
+
+    @Override
+    public int removeOlderThan(Date timestamp) {
+        flush();
+        return super.removeOlderThan(timestamp);
+    }
+
+    @Override
+    public int removeByProcessInstanceIdAndTaskIdAndType(String processId, String taskId, ProgressMessageType progressMessageType) {
+        flush();
+        return super.removeByProcessInstanceIdAndTaskIdAndType(processId, taskId, progressMessageType);
+    }
+
+    @Override
+    public List<ProgressMessage> findByProcessId(String processId) {
+        flush();
+        return super.findByProcessId(processId);
+    }
+
+    /**
+     * Stops the background thread and stores the messages that are still in the queue.
+     */
+    public void shutdown() {
+        flusher.shutdown();
+        flushQuietly();
+    }
+
+}
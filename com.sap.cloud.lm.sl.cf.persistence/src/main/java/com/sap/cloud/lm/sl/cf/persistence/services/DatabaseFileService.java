@@ -2,6 +2,7 @@ package com.sap.cloud.lm.sl.cf.persistence.services;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigInteger;
 import java.sql.SQLException;
 import java.util.Date;
 
@@ -35,6 +36,17 @@ public class DatabaseFileService extends FileService {
         }
     }
 
+    @Override
+    public void processFileContentRange(final FileDownloadProcessor fileDownloadProcessor, long startPosition, long endPosition)
+        throws FileStorageException {
+        try {
+            getSqlQueryExecutor().execute(
+                getSqlFileQueryProvider().getProcessFileWithContentQuery(fileDownloadProcessor, startPosition, endPosition));
+        } catch (SQLException e) {
+            throw new FileStorageException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public int deleteBySpaceAndNamespace(final String space, final String namespace) throws FileStorageException {
         return deleteFileAttributesBySpaceAndNamespace(space, namespace);
@@ -73,6 +85,24 @@ public class DatabaseFileService extends FileService {
         }
     }
 
+    @Override
+    protected void storeFile(FileEntry fileEntry, MeasuringInputStream content) throws FileStorageException {
+        // The size and the digest are known only after the content is inserted, so they are updated in the same transaction:
+        fileEntry.setSize(BigInteger.ZERO);
+        fileEntry.setDigest("");
+        try {
+            getSqlQueryExecutor().execute(connection -> {
+                getSqlFileQueryProvider().getStoreFileQuery(fileEntry, content)
+                    .execute(connection);
+                setSizeAndDigest(fileEntry, content);
+                return getSqlFileQueryProvider().getUpdateFileSizeAndDigestQuery(fileEntry)
+                    .execute(connection);
+            });
+        } catch (SQLException e) {
+            throw new FileStorageException(e.getMessage(), e);
+        }
+    }
+
     private boolean storeFileWithContent(FileEntry fileEntry, InputStream fileStream) throws FileStorageException {
         try {
             return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getStoreFileQuery(fileEntry, fileStream));
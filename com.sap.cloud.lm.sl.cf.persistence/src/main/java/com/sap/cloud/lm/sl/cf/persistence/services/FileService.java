@@ -13,6 +13,8 @@ import java.text.MessageFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,11 +22,14 @@ import org.slf4j.LoggerFactory;
 import com.sap.cloud.lm.sl.cf.persistence.DataSourceWithDialect;
 import com.sap.cloud.lm.sl.cf.persistence.executors.SqlQueryExecutor;
 import com.sap.cloud.lm.sl.cf.persistence.message.Messages;
+import com.sap.cloud.lm.sl.cf.persistence.model.ArchiveEntry;
 import com.sap.cloud.lm.sl.cf.persistence.model.FileEntry;
 import com.sap.cloud.lm.sl.cf.persistence.model.FileInfo;
+import com.sap.cloud.lm.sl.cf.persistence.processors.DefaultFileUploadProcessor;
 import com.sap.cloud.lm.sl.cf.persistence.processors.FileDownloadProcessor;
 import com.sap.cloud.lm.sl.cf.persistence.processors.FileUploadProcessor;
 import com.sap.cloud.lm.sl.cf.persistence.query.providers.ExternalSqlFileQueryProvider;
+import com.sap.cloud.lm.sl.cf.persistence.query.providers.SqlArchiveEntryQueryProvider;
 import com.sap.cloud.lm.sl.cf.persistence.query.providers.SqlFileQueryProvider;
 import com.sap.cloud.lm.sl.common.SLException;
 import com.sap.cloud.lm.sl.common.util.DigestHelper;
@@ -32,12 +37,16 @@ import com.sap.cloud.lm.sl.common.util.DigestHelper;
 public class FileService {
 
     protected static final String DEFAULT_TABLE_NAME = "LM_SL_PERSISTENCE_FILE";
+    protected static final String ARCHIVE_ENTRY_TABLE_NAME = "LM_SL_PERSISTENCE_ARCHIVE_ENTRY";
+    // Large enough for the central directories of archives with thousands of entries:
+    private static final int ARCHIVE_TAIL_SIZE = 1024 * 1024;
 
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final FileStorage fileStorage;
     private final SqlQueryExecutor sqlQueryExecutor;
     private final SqlFileQueryProvider sqlFileQueryProvider;
+    private final SqlArchiveEntryQueryProvider sqlArchiveEntryQueryProvider;
 
     public FileService(DataSourceWithDialect dataSourceWithDialect, FileStorage fileStorage) {
         this(DEFAULT_TABLE_NAME, dataSourceWithDialect, fileStorage);
@@ -50,6 +59,7 @@ public class FileService {
     protected FileService(DataSourceWithDialect dataSourceWithDialect, SqlFileQueryProvider sqlFileQueryProvider, FileStorage fileStorage) {
         this.sqlQueryExecutor = new SqlQueryExecutor(dataSourceWithDialect.getDataSource());
         this.sqlFileQueryProvider = sqlFileQueryProvider.withLogger(logger);
+        this.sqlArchiveEntryQueryProvider = new SqlArchiveEntryQueryProvider(ARCHIVE_ENTRY_TABLE_NAME).withLogger(logger);
         this.fileStorage = fileStorage;
     }
 
@@ -71,11 +81,27 @@ public class FileService {
      */
     public FileEntry addFile(String space, String namespace, String name,
         FileUploadProcessor<? extends OutputStream, ? extends OutputStream> fileInfoProcessor, InputStream is) throws FileStorageException {
-        // Stream the file to a temp location and get the size and MD5 digest
-        // as an alternative we can pass the original stream to the database,
-        // and decorate the blob stream to calculate digest and size, but this will still require
-        // two roundtrips to the database (insert of the content and then update with the digest and
-        // size), which is probably inefficient
+        if (!canStreamContent(fileInfoProcessor)) {
+            return addFileThroughTemporaryFile(space, namespace, name, fileInfoProcessor, is);
+        }
+        // The size and the digest of the content are calculated while it is being stored, so it is not written to a temporary file:
+        FileEntry fileEntry = null;
+        try (InputStream inputStream = is) {
+            MeasuringInputStream content = new MeasuringInputStream(inputStream, FileUploader.DIGEST_METHOD, ARCHIVE_TAIL_SIZE);
+            fileEntry = addFile(space, namespace, name, content);
+        } catch (IOException e) {
+            logger.debug(e.getMessage(), e);
+        }
+        return fileEntry;
+    }
+
+    private boolean canStreamContent(FileUploadProcessor<? extends OutputStream, ? extends OutputStream> fileInfoProcessor) {
+        // Other processors expect to write the content to a file output stream:
+        return fileInfoProcessor instanceof DefaultFileUploadProcessor;
+    }
+
+    private FileEntry addFileThroughTemporaryFile(String space, String namespace, String name,
+        FileUploadProcessor<? extends OutputStream, ? extends OutputStream> fileInfoProcessor, InputStream is) throws FileStorageException {
         FileInfo fileInfo = null;
         FileEntry fileEntry = null;
         try (InputStream inputStream = is) {
@@ -135,19 +161,74 @@ public class FileService {
         fileStorage.processFileContent(fileDownloadProcessor);
     }
 
+    /**
+     * Reads the part of the file between the given positions from the storage.
+     *
+     * @param fileDownloadProcessor file processor
+     * @param startPosition position of the first byte to process
+     * @param endPosition position right after the last byte to process
+     * @throws FileStorageException
+     */
+    public void processFileContentRange(final FileDownloadProcessor fileDownloadProcessor, long startPosition, long endPosition)
+        throws FileStorageException {
+        fileStorage.processFileContentRange(fileDownloadProcessor, startPosition, endPosition);
+    }
+
+    /**
+     * Reads only the part of an archive that contains the entries accepted by the filter. The processor receives a stream that starts
+     * with the local header of the first such entry, so it can be read with a {@link java.util.zip.ZipInputStream}. If the archive was
+     * not indexed when it was uploaded, or none of its entries are accepted, the whole content is processed.
+     *
+     * @param fileDownloadProcessor file processor
+     * @param entryNameFilter filter for the names of the entries that have to be processed
+     * @throws FileStorageException
+     */
+    public void processArchiveEntriesContent(final FileDownloadProcessor fileDownloadProcessor, Predicate<String> entryNameFilter)
+        throws FileStorageException {
+        List<ArchiveEntry> archiveEntries = listArchiveEntries(fileDownloadProcessor.getFileEntry()
+            .getId()).stream()
+                .filter(archiveEntry -> entryNameFilter.test(archiveEntry.getName()))
+                .collect(Collectors.toList());
+        if (archiveEntries.isEmpty()) {
+            processFileContent(fileDownloadProcessor);
+            return;
+        }
+        long startPosition = archiveEntries.stream()
+            .mapToLong(ArchiveEntry::getStartPosition)
+            .min()
+            .getAsLong();
+        long endPosition = archiveEntries.stream()
+            .mapToLong(ArchiveEntry::getEndPosition)
+            .max()
+            .getAsLong();
+        processFileContentRange(fileDownloadProcessor, startPosition, endPosition);
+    }
+
+    public List<ArchiveEntry> listArchiveEntries(final String id) throws FileStorageException {
+        try {
+            return getSqlQueryExecutor().execute(sqlArchiveEntryQueryProvider.getListArchiveEntriesQuery(id));
+        } catch (SQLException e) {
+            throw new FileStorageException(MessageFormat.format(Messages.ERROR_GETTING_ARCHIVE_ENTRIES_OF_FILE, id), e);
+        }
+    }
+
     public int deleteBySpaceAndNamespace(final String space, final String namespace) throws FileStorageException {
-        fileStorage.deleteFilesBySpaceAndNamespace(space, namespace);
+        // The file entries tell which content should be deleted, so the file storage does not have to look through all of its content:
+        fileStorage.deleteFiles(listFiles(space, namespace));
         return deleteFileAttributesBySpaceAndNamespace(space, namespace);
     }
 
     public int deleteBySpace(final String space) throws FileStorageException {
+        // All content of the space has to be deleted, including the content of failed uploads, which has no file entry:
         fileStorage.deleteFilesBySpace(space);
         return deleteFileAttributesBySpace(space);
     }
 
     public int deleteModifiedBefore(Date modificationTime) throws FileStorageException {
-        int deletedItems = fileStorage.deleteFilesModifiedBefore(modificationTime);
-        return deleteFileAttributesModifiedBefore(modificationTime) + deletedItems;
+        // Only the content of the expired file entries is deleted, as content without a file entry is not left by failed uploads (see
+        // FileStorage#addFile) and finding it would mean looking through all stored content:
+        fileStorage.deleteFiles(listFilesModifiedBefore(modificationTime));
+        return deleteFileAttributesModifiedBefore(modificationTime);
     }
 
     public boolean deleteFile(final String space, final String id) throws FileStorageException {
@@ -167,7 +248,31 @@ public class FileService {
 
     protected void storeFile(FileEntry fileEntry, FileInfo fileInfo) throws FileStorageException {
         fileStorage.addFile(fileEntry, fileInfo.getFile());
-        storeFileAttributes(fileEntry);
+        storeFileAttributesOfStoredContent(fileEntry);
+    }
+
+    /**
+     * Stores content, whose size and digest are calculated while it is being read, and sets them in the file entry.
+     */
+    protected void storeFile(FileEntry fileEntry, MeasuringInputStream content) throws FileStorageException {
+        fileStorage.addFile(fileEntry, content);
+        setSizeAndDigest(fileEntry, content);
+        storeFileAttributesOfStoredContent(fileEntry);
+    }
+
+    protected void setSizeAndDigest(FileEntry fileEntry, MeasuringInputStream content) {
+        fileEntry.setSize(content.getSize());
+        fileEntry.setDigest(content.getDigest());
+    }
+
+    private void storeFileAttributesOfStoredContent(FileEntry fileEntry) throws FileStorageException {
+        try {
+            storeFileAttributes(fileEntry);
+        } catch (FileStorageException e) {
+            // Otherwise the content would remain without a file entry, through which it could be found and deleted:
+            fileStorage.deleteFile(fileEntry.getId(), fileEntry.getSpace());
+            throw e;
+        }
     }
 
     protected boolean deleteFileAttribute(final String space, final String id) throws FileStorageException {
@@ -203,14 +308,19 @@ public class FileService {
     }
 
     protected FileEntry createFileEntry(String space, String namespace, String name, FileInfo localFile) {
+        FileEntry fileEntry = createFileEntry(space, namespace, name, localFile.getDigestAlgorithm());
+        fileEntry.setSize(localFile.getSize());
+        fileEntry.setDigest(localFile.getDigest());
+        return fileEntry;
+    }
+
+    private FileEntry createFileEntry(String space, String namespace, String name, String digestAlgorithm) {
         FileEntry fileEntry = new FileEntry();
         fileEntry.setId(generateRandomId());
         fileEntry.setSpace(space);
         fileEntry.setName(name);
         fileEntry.setNamespace(namespace);
-        fileEntry.setSize(localFile.getSize());
-        fileEntry.setDigest(localFile.getDigest());
-        fileEntry.setDigestAlgorithm(localFile.getDigestAlgorithm());
+        fileEntry.setDigestAlgorithm(digestAlgorithm);
         fileEntry.setModified(new Timestamp(System.currentTimeMillis()));
         return fileEntry;
     }
@@ -219,6 +329,14 @@ public class FileService {
         return sqlQueryExecutor;
     }
 
+    private List<FileEntry> listFilesModifiedBefore(Date modificationTime) throws FileStorageException {
+        try {
+            return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getListFilesModifiedBeforeQuery(modificationTime));
+        } catch (SQLException e) {
+            throw new FileStorageException(e.getMessage(), e);
+        }
+    }
+
     protected SqlFileQueryProvider getSqlFileQueryProvider() {
         return sqlFileQueryProvider;
     }
@@ -234,10 +352,40 @@ public class FileService {
 
         FileEntry fileEntry = createFileEntry(space, namespace, name, fileInfo);
         storeFile(fileEntry, fileInfo);
+        storeArchiveEntries(fileEntry, fileInfo);
         logger.debug(MessageFormat.format(Messages.STORED_FILE_0, fileEntry));
         return fileEntry;
     }
 
+    private FileEntry addFile(String space, String namespace, String name, MeasuringInputStream content) throws FileStorageException {
+        FileEntry fileEntry = createFileEntry(space, namespace, name, content.getDigestAlgorithm());
+        storeFile(fileEntry, content);
+        storeArchiveEntries(fileEntry, ArchiveIndexer.indexArchiveTail(content.getTail(), fileEntry.getSize()
+            .longValue()));
+        logger.debug(MessageFormat.format(Messages.STORED_FILE_0, fileEntry));
+        return fileEntry;
+    }
+
+    private void storeArchiveEntries(FileEntry fileEntry, FileInfo fileInfo) {
+        // The index is only an optimization for reading archive entries, so the upload should not fail without it:
+        try {
+            storeArchiveEntries(fileEntry, ArchiveIndexer.indexArchive(fileInfo.getFile()));
+        } catch (IOException e) {
+            logger.warn(MessageFormat.format(Messages.COULD_NOT_INDEX_ARCHIVE_ENTRIES_OF_FILE_0, fileEntry.getName()), e);
+        }
+    }
+
+    private void storeArchiveEntries(FileEntry fileEntry, List<ArchiveEntry> archiveEntries) {
+        if (archiveEntries.isEmpty()) {
+            return;
+        }
+        try {
+            getSqlQueryExecutor().execute(sqlArchiveEntryQueryProvider.getStoreArchiveEntriesQuery(fileEntry.getId(), archiveEntries));
+        } catch (SQLException e) {
+            logger.warn(MessageFormat.format(Messages.COULD_NOT_INDEX_ARCHIVE_ENTRIES_OF_FILE_0, fileEntry.getName()), e);
+        }
+    }
+
     private String generateRandomId() {
         return UUID.randomUUID()
             .toString();
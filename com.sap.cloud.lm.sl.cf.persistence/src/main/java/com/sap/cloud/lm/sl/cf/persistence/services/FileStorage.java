@@ -1,6 +1,7 @@
 package com.sap.cloud.lm.sl.cf.persistence.services;
 
 import java.io.File;
+import java.io.InputStream;
 import java.util.Date;
 import java.util.List;
 
@@ -9,18 +10,61 @@ import com.sap.cloud.lm.sl.cf.persistence.processors.FileDownloadProcessor;
 
 public interface FileStorage {
 
+    /**
+     * Stores the content of the file. If the content cannot be stored, any part of it that has already been stored is deleted.
+     *
+     * @param fileEntry the file to which the content belongs
+     * @param file the content
+     * @throws FileStorageException
+     */
     void addFile(FileEntry fileEntry, File file) throws FileStorageException;
 
+    /**
+     * Stores content, whose size and digest are not known in advance. The size and digest of the file entry are not set yet. If the
+     * content cannot be stored, any part of it that has already been stored is deleted.
+     *
+     * @param fileEntry the file to which the content belongs
+     * @param content the content, which is read until its end
+     * @throws FileStorageException
+     */
+    void addFile(FileEntry fileEntry, InputStream content) throws FileStorageException;
+
     List<FileEntry> getFileEntriesWithoutContent(List<FileEntry> fileEntries) throws FileStorageException;
 
     void deleteFile(String id, String space) throws FileStorageException;
 
-    void deleteFilesBySpace(String space) throws FileStorageException;
+    /**
+     * Deletes the content of the given files. Unlike the other bulk deletion methods, this one does not have to look through all stored
+     * files to find the ones that should be deleted.
+     *
+     * @param fileEntries the files whose content should be deleted
+     * @throws FileStorageException
+     */
+    void deleteFiles(List<FileEntry> fileEntries) throws FileStorageException;
 
-    void deleteFilesBySpaceAndNamespace(String space, String namespace) throws FileStorageException;
+    void deleteFilesBySpace(String space) throws FileStorageException;
 
+    /**
+     * Deletes all stored content modified before the given time, regardless of whether it has a file entry or not. This means looking
+     * through all stored content, so the content of expired files is deleted with {@link #deleteFiles(List)} instead.
+     *
+     * @param modificationTime the time before which the content should have been modified
+     * @return the number of deleted files
+     * @throws FileStorageException
+     */
     int deleteFilesModifiedBefore(Date modificationTime) throws FileStorageException;
 
     void processFileContent(FileDownloadProcessor fileDownloadProcessor) throws FileStorageException;
 
+    /**
+     * Processes only the part of the file's content between the given positions.
+     *
+     * @param fileDownloadProcessor file processor
+     * @param startPosition position of the first byte to process
+     * @param endPosition position right after the last byte to process
+     * @throws FileStorageException
+     */
+    void processFileContentRange(FileDownloadProcessor fileDownloadProcessor, long startPosition, long endPosition)
+        throws FileStorageException;
+
 }
@@ -3,12 +3,15 @@ package com.sap.cloud.lm.sl.cf.persistence.services;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
 import java.text.MessageFormat;
@@ -18,6 +21,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,10 +48,19 @@ public class FileSystemFileStorage implements FileStorage {
     @Override
     public void addFile(FileEntry fileEntry, File file) throws FileStorageException {
         try (InputStream fileInputStream = Files.newInputStream(file.toPath())) {
+            addFile(fileEntry, fileInputStream);
+        } catch (IOException e) {
+            throw new FileStorageException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void addFile(FileEntry fileEntry, InputStream content) throws FileStorageException {
+        try {
             Path filesDirectory = getFilesDirectory(fileEntry.getSpace());
             Path newFilePath = Paths.get(filesDirectory.toString(), fileEntry.getId());
             logger.trace(MessageFormat.format(Messages.STORING_FILE_TO_PATH_0, newFilePath));
-            Files.copy(fileInputStream, newFilePath, StandardCopyOption.REPLACE_EXISTING);
+            copyContent(content, newFilePath);
             File newFile = newFilePath.toFile();
             if (!newFile.exists()) {
                 throw new FileStorageException(
@@ -59,6 +72,24 @@ public class FileSystemFileStorage implements FileStorage {
         }
     }
 
+    private void copyContent(InputStream content, Path filePath) throws IOException {
+        try {
+            Files.copy(content, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // The partially copied content would not be found by the clean-up of expired files, as it has no file entry:
+            deleteQuietly(filePath, e);
+            throw e;
+        }
+    }
+
+    private void deleteQuietly(Path filePath, IOException copyFailure) {
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            copyFailure.addSuppressed(e);
+        }
+    }
+
     @Override
     public List<FileEntry> getFileEntriesWithoutContent(List<FileEntry> fileEntries) throws FileStorageException {
         List<FileEntry> entriesWithoutContent = new ArrayList<>();
@@ -82,6 +113,13 @@ public class FileSystemFileStorage implements FileStorage {
         }
     }
 
+    @Override
+    public void deleteFiles(List<FileEntry> fileEntries) throws FileStorageException {
+        for (FileEntry fileEntry : fileEntries) {
+            deleteFile(fileEntry.getId(), fileEntry.getSpace());
+        }
+    }
+
     @Override
     public void deleteFilesBySpace(String space) throws FileStorageException {
         File spaceDirectory = getSpaceDirectory(space).toFile();
@@ -94,11 +132,6 @@ public class FileSystemFileStorage implements FileStorage {
         }
     }
 
-    @Override
-    public void deleteFilesBySpaceAndNamespace(String space, String namespace) throws FileStorageException {
-        throw new UnsupportedOperationException();
-    }
-
     @Override
     public int deleteFilesModifiedBefore(Date modificationTime) throws FileStorageException {
         AtomicInteger deletedFiles = new AtomicInteger();
@@ -150,6 +183,28 @@ public class FileSystemFileStorage implements FileStorage {
         }
     }
 
+    @Override
+    public void processFileContentRange(FileDownloadProcessor fileDownloadProcessor, long startPosition, long endPosition)
+        throws FileStorageException {
+        FileEntry fileEntry = fileDownloadProcessor.getFileEntry();
+        if (!hasContent(fileEntry)) {
+            throw new FileStorageException(
+                MessageFormat.format(Messages.FILE_WITH_ID_AND_SPACE_DOES_NOT_EXIST, fileEntry.getId(), fileEntry.getSpace()));
+        }
+        try {
+            Path filePathLocation = getFilePath(fileDownloadProcessor.getFileEntry());
+            logger.trace(MessageFormat.format(Messages.PROCESSING_FILE_0_FROM_1_TO_2, filePathLocation, startPosition, endPosition));
+            // The channel is closed even if positioning it fails, before a stream that would close it has been created:
+            try (FileChannel fileChannel = FileChannel.open(filePathLocation, StandardOpenOption.READ)) {
+                fileChannel.position(startPosition);
+                InputStream fileContentStream = new BoundedInputStream(Channels.newInputStream(fileChannel), endPosition - startPosition);
+                fileDownloadProcessor.processContent(fileContentStream);
+            }
+        } catch (Exception e) {
+            throw new FileStorageException(e);
+        }
+    }
+
     public String getStoragePath() {
         return storagePath;
     }
@@ -0,0 +1,41 @@
+package com.sap.cloud.lm.sl.cf.persistence.services;
+
+import java.sql.SQLException;
+import java.util.Date;
+
+import com.sap.cloud.lm.sl.cf.persistence.DataSourceWithDialect;
+import com.sap.cloud.lm.sl.cf.persistence.executors.SqlQueryExecutor;
+import com.sap.cloud.lm.sl.cf.persistence.message.Messages;
+import com.sap.cloud.lm.sl.cf.persistence.query.providers.SqlFlowableHistoricDataQueryProvider;
+import com.sap.cloud.lm.sl.common.SLException;
+
+/**
+ * Deletes the historic data of finished Flowable processes directly from the tables of the engine. Unlike the history service of the
+ * engine, which deletes the data of a single process with several statements, this service deletes the data of many processes with a
+ * statement per table.
+ */
+public class FlowableHistoricDataService {
+
+    private final SqlQueryExecutor sqlQueryExecutor;
+    private final SqlFlowableHistoricDataQueryProvider sqlFlowableHistoricDataQueryProvider = new SqlFlowableHistoricDataQueryProvider();
+
+    public FlowableHistoricDataService(DataSourceWithDialect dataSourceWithDialect) {
+        this.sqlQueryExecutor = new SqlQueryExecutor(dataSourceWithDialect.getDataSource());
+    }
+
+    /**
+     * Deletes the historic data of at most {@code maxProcesses} finished processes, which were started before the specified time, and of
+     * their subprocesses in a single transaction.
+     *
+     * @return the number of processes whose historic data was deleted
+     */
+    public int deleteFinishedProcessesStartedBefore(Date startedBefore, int maxProcesses) {
+        try {
+            return sqlQueryExecutor.execute(
+                sqlFlowableHistoricDataQueryProvider.getDeleteFinishedProcessesStartedBeforeQuery(startedBefore, maxProcesses));
+        } catch (SQLException e) {
+            throw new SLException(e, Messages.ERROR_DELETING_HISTORIC_DATA_OF_PROCESSES_STARTED_BEFORE_0, startedBefore);
+        }
+    }
+
+}
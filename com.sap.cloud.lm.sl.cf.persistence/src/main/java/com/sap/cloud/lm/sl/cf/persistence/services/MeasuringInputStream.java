@@ -0,0 +1,137 @@
+package com.sap.cloud.lm.sl.cf.persistence.services;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import javax.xml.bind.DatatypeConverter;
+
+/**
+ * An input stream, which calculates the size and the digest of the content read through it and keeps its last bytes. This makes it
+ * possible to store the content of a file while it is being uploaded, without writing it to a temporary file first.
+ */
+public class MeasuringInputStream extends FilterInputStream {
+
+    private static final int SKIP_BUFFER_SIZE = 4 * 1024;
+
+    private final MessageDigest digest;
+    private final String digestAlgorithm;
+    private final byte[] tail;
+    private long size;
+    private String digestValue;
+
+    /**
+     * @param in the stream to read the content from
+     * @param digestAlgorithm the algorithm used to calculate the digest of the content
+     * @param tailSize the number of bytes from the end of the content that should be kept
+     * @throws FileStorageException if the digest algorithm is not supported
+     */
+    public MeasuringInputStream(InputStream in, String digestAlgorithm, int tailSize) throws FileStorageException {
+        super(in);
+        try {
+            this.digest = MessageDigest.getInstance(digestAlgorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new FileStorageException(e);
+        }
+        this.digestAlgorithm = digestAlgorithm;
+        this.tail = new byte[tailSize];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            digest.update((byte) b);
+            tail[(int) (size % tail.length)] = (byte) b;
+            size++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        int read = super.read(bytes, offset, length);
+        if (read > 0) {
+            update(bytes, offset, read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // The skipped bytes are read, because they are part of the size and the digest of the content:
+        byte[] buffer = new byte[SKIP_BUFFER_SIZE];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // Marks are not supported, because the bytes read after them would be measured twice.
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    private void update(byte[] bytes, int offset, int length) {
+        digest.update(bytes, offset, length);
+        int skipped = Math.max(0, length - tail.length);
+        int remaining = length - skipped;
+        int tailPosition = (int) ((size + skipped) % tail.length);
+        int firstChunkLength = Math.min(remaining, tail.length - tailPosition);
+        System.arraycopy(bytes, offset + skipped, tail, tailPosition, firstChunkLength);
+        System.arraycopy(bytes, offset + skipped + firstChunkLength, tail, 0, remaining - firstChunkLength);
+        size += length;
+    }
+
+    public BigInteger getSize() {
+        return BigInteger.valueOf(size);
+    }
+
+    /**
+     * @return the digest of the content, which should be requested only after the whole content is read
+     */
+    public String getDigest() {
+        if (digestValue == null) {
+            digestValue = DatatypeConverter.printHexBinary(digest.digest());
+        }
+        return digestValue;
+    }
+
+    public String getDigestAlgorithm() {
+        return digestAlgorithm;
+    }
+
+    /**
+     * @return the last bytes read, at most as many as the tail size
+     */
+    public byte[] getTail() {
+        if (size <= tail.length) {
+            return Arrays.copyOf(tail, (int) size);
+        }
+        int tailPosition = (int) (size % tail.length);
+        byte[] result = new byte[tail.length];
+        System.arraycopy(tail, tailPosition, result, 0, tail.length - tailPosition);
+        System.arraycopy(tail, 0, result, tail.length - tailPosition, tailPosition);
+        return result;
+    }
+
+}
@@ -4,28 +4,45 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jclouds.blobstore.BlobStore;
 import org.jclouds.blobstore.ContainerNotFoundException;
 import org.jclouds.blobstore.domain.Blob;
+import org.jclouds.blobstore.domain.MultipartPart;
+import org.jclouds.blobstore.domain.MultipartUpload;
 import org.jclouds.blobstore.domain.StorageMetadata;
+import org.jclouds.blobstore.options.GetOptions;
 import org.jclouds.blobstore.options.ListContainerOptions;
+import org.jclouds.blobstore.options.PutOptions;
 import org.jclouds.http.HttpResponseException;
 import org.jclouds.io.Payload;
+import org.jclouds.io.Payloads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 
+import com.google.common.base.Throwables;
+import com.google.common.io.Files;
 import com.google.common.net.MediaType;
 import com.sap.cloud.lm.sl.cf.persistence.message.Messages;
 import com.sap.cloud.lm.sl.cf.persistence.model.FileEntry;
+import com.sap.cloud.lm.sl.cf.persistence.model.FileInfo;
+import com.sap.cloud.lm.sl.cf.persistence.processors.DefaultFileUploadProcessor;
 import com.sap.cloud.lm.sl.cf.persistence.processors.FileDownloadProcessor;
 import com.sap.cloud.lm.sl.common.util.CommonUtil;
 
@@ -34,20 +51,49 @@ public class ObjectStoreFileStorage implements FileStorage {
     private static final Logger LOGGER = LoggerFactory.getLogger(ObjectStoreFileStorage.class);
 
     private static final int RETRY_BASE_WAIT_TIME_IN_MILLIS = 5000;
+    private static final int UPLOAD_RETRIES = 3;
+    private static final long DEFAULT_MULTIPART_UPLOAD_THRESHOLD = 64 * 1024 * 1024;
+    private static final long DEFAULT_PART_SIZE = 16 * 1024 * 1024;
+    private static final int MAX_PARALLEL_PART_UPLOADS = 8;
+    // The executor is shared by all uploads of all storages, so that it limits the number of parts uploaded in parallel in total. Its
+    // threads are daemons and time out when idle, so it does not have to be shut down:
+    private static final ExecutorService PART_UPLOAD_EXECUTOR = createPartUploadExecutor();
 
     private BlobStore blobStore;
     private String container;
+    private final long multipartUploadThreshold;
+    private final long partSize;
 
     public ObjectStoreFileStorage(BlobStore blobStore, String container) {
+        this(blobStore, container, DEFAULT_MULTIPART_UPLOAD_THRESHOLD, DEFAULT_PART_SIZE);
+    }
+
+    /**
+     * @param multipartUploadThreshold the size in bytes starting from which files are uploaded in several parts
+     * @param partSize the preferred size in bytes of the uploaded parts, which is adjusted to the limits of the object store
+     */
+    ObjectStoreFileStorage(BlobStore blobStore, String container, long multipartUploadThreshold, long partSize) {
         this.blobStore = blobStore;
         this.container = container;
+        this.multipartUploadThreshold = multipartUploadThreshold;
+        this.partSize = partSize;
+    }
+
+    private static ExecutorService createPartUploadExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_PARALLEL_PART_UPLOADS, MAX_PARALLEL_PART_UPLOADS, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "object-store-part-uploader");
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     @Override
     public void addFile(FileEntry fileEntry, File file) throws FileStorageException {
         String entryName = fileEntry.getId();
-        long fileSize = fileEntry.getSize()
-            .longValue();
+        long fileSize = file.length();
         Blob blob = blobStore.blobBuilder(entryName)
             .payload(file)
             .contentDisposition(fileEntry.getName())
@@ -55,11 +101,39 @@ public class ObjectStoreFileStorage implements FileStorage {
             .userMetadata(createFileEntryMetadata(fileEntry))
             .build();
         try {
-            putBlobWithRetries(blob, 3);
+            if (file.length() >= multipartUploadThreshold) {
+                putBlobInParts(blob, file);
+            } else {
+                putBlobWithRetries(blob, UPLOAD_RETRIES);
+            }
             LOGGER.debug(MessageFormat.format(Messages.STORED_FILE_0_WITH_SIZE_1_SUCCESSFULLY_2, fileEntry.getId(), fileSize));
         } catch (ContainerNotFoundException e) {
             throw new FileStorageException(
                 MessageFormat.format(Messages.FILE_UPLOAD_FAILED, fileEntry.getName(), fileEntry.getNamespace()));
+        } catch (FileStorageException | RuntimeException e) {
+            // The blob may have been stored even though its upload has failed (e.g. if the response to it timed out), and it would not be
+            // found by the clean-up of expired files, as it has no file entry:
+            removeBlobOfFailedUpload(entryName, e);
+            throw e;
+        }
+    }
+
+    private void removeBlobOfFailedUpload(String entryName, Exception uploadFailure) {
+        try {
+            blobStore.removeBlob(container, entryName);
+        } catch (RuntimeException e) {
+            uploadFailure.addSuppressed(e);
+        }
+    }
+
+    @Override
+    public void addFile(FileEntry fileEntry, InputStream content) throws FileStorageException {
+        // The size of the content has to be known before it is uploaded, so it is stored in a temporary file first:
+        FileInfo fileInfo = FileUploader.uploadFile(content, new DefaultFileUploadProcessor());
+        try {
+            addFile(fileEntry, fileInfo.getFile());
+        } finally {
+            FileUploader.removeFile(fileInfo);
         }
     }
 
@@ -84,13 +158,18 @@ public class ObjectStoreFileStorage implements FileStorage {
     }
 
     @Override
-    public void deleteFilesBySpace(String space) throws FileStorageException {
-        removeBlobsByFilter(blob -> filterBySpace(blob, space));
+    public void deleteFiles(List<FileEntry> fileEntries) throws FileStorageException {
+        Set<String> entriesToDelete = fileEntries.stream()
+            .map(FileEntry::getId)
+            .collect(Collectors.toSet());
+        if (!entriesToDelete.isEmpty()) {
+            blobStore.removeBlobs(container, entriesToDelete);
+        }
     }
 
     @Override
-    public void deleteFilesBySpaceAndNamespace(String space, String namespace) throws FileStorageException {
-        removeBlobsByFilter(blob -> filterBySpaceAndNamespace(blob, space, namespace));
+    public void deleteFilesBySpace(String space) throws FileStorageException {
+        removeBlobsByFilter(blob -> filterBySpace(blob, space));
     }
 
     @Override
@@ -100,10 +179,20 @@ public class ObjectStoreFileStorage implements FileStorage {
 
     @Override
     public void processFileContent(FileDownloadProcessor fileDownloadProcessor) throws FileStorageException {
+        processBlobContent(fileDownloadProcessor, GetOptions.NONE);
+    }
+
+    @Override
+    public void processFileContentRange(FileDownloadProcessor fileDownloadProcessor, long startPosition, long endPosition)
+        throws FileStorageException {
+        processBlobContent(fileDownloadProcessor, GetOptions.Builder.range(startPosition, endPosition - 1));
+    }
+
+    private void processBlobContent(FileDownloadProcessor fileDownloadProcessor, GetOptions getOptions) throws FileStorageException {
         FileEntry fileEntry = fileDownloadProcessor.getFileEntry();
         InputStream fileContentStream = null;
         try {
-            Blob blob = blobStore.getBlob(container, fileEntry.getId());
+            Blob blob = blobStore.getBlob(container, fileEntry.getId(), getOptions);
             if (blob == null) {
                 throw new FileStorageException(
                     MessageFormat.format(Messages.FILE_WITH_ID_AND_SPACE_DOES_NOT_EXIST, fileEntry.getId(), fileEntry.getSpace()));
@@ -123,16 +212,120 @@ public class ObjectStoreFileStorage implements FileStorage {
             try {
                 blobStore.putBlob(container, blob);
                 return;
-            } catch (HttpResponseException e) {
+            } catch (RuntimeException e) {
+                if (!isRetryable(e)) {
+                    throw e;
+                }
                 LOGGER.warn(MessageFormat.format(Messages.BLOB_STORE_PUT_BLOB_FAILED, i, retries, e.getMessage()), e);
                 if (i == retries) {
                     throw e;
                 }
             }
-            CommonUtil.sleep(i * RETRY_BASE_WAIT_TIME_IN_MILLIS);
+            CommonUtil.sleep(getWaitTimeBeforeRetry(i));
+        }
+    }
+
+    private void putBlobInParts(Blob blob, File file) throws FileStorageException {
+        MultipartUpload multipartUpload = blobStore.initiateMultipartUpload(container, blob.getMetadata(), PutOptions.NONE);
+        try {
+            List<MultipartPart> parts = uploadParts(multipartUpload, file);
+            blobStore.completeMultipartUpload(multipartUpload, parts);
+        } catch (FileStorageException | RuntimeException e) {
+            abortMultipartUpload(multipartUpload, e);
+            throw e;
+        }
+    }
+
+    private void abortMultipartUpload(MultipartUpload multipartUpload, Exception uploadFailure) {
+        try {
+            blobStore.abortMultipartUpload(multipartUpload);
+        } catch (RuntimeException e) {
+            // The failure of the upload is the one that should be reported:
+            uploadFailure.addSuppressed(e);
+        }
+    }
+
+    private List<MultipartPart> uploadParts(MultipartUpload multipartUpload, File file) throws FileStorageException {
+        long fileSize = file.length();
+        long currentPartSize = getPartSize(fileSize);
+        LOGGER.debug(MessageFormat.format(Messages.UPLOADING_FILE_0_IN_1_PARTS, multipartUpload.blobName(),
+            (fileSize + currentPartSize - 1) / currentPartSize));
+        List<Future<MultipartPart>> futures = new ArrayList<>();
+        int partNumber = 1;
+        for (long offset = 0; offset < fileSize; offset += currentPartSize, partNumber++) {
+            Payload payload = createPartPayload(file, offset, Math.min(currentPartSize, fileSize - offset));
+            int currentPartNumber = partNumber;
+            futures.add(PART_UPLOAD_EXECUTOR.submit(() -> uploadPartWithRetries(multipartUpload, currentPartNumber, payload)));
+        }
+        try {
+            List<MultipartPart> parts = new ArrayList<>(futures.size());
+            for (Future<MultipartPart> future : futures) {
+                parts.add(future.get());
+            }
+            return parts;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            cancel(futures);
+            throw new FileStorageException(e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            throw new FileStorageException(e.getCause());
+        }
+    }
+
+    private long getPartSize(long fileSize) {
+        long maxPartsCount = blobStore.getMaximumNumberOfParts();
+        long minPartSize = Math.max(blobStore.getMinimumMultipartPartSize(), (fileSize + maxPartsCount - 1) / maxPartsCount);
+        return Math.min(Math.max(partSize, minPartSize), blobStore.getMaximumMultipartPartSize());
+    }
+
+    private Payload createPartPayload(File file, long offset, long length) {
+        // The payload is backed by the file, so that it can be read again when the upload of the part is retried:
+        Payload payload = Payloads.newByteSourcePayload(Files.asByteSource(file)
+            .slice(offset, length));
+        payload.getContentMetadata()
+            .setContentLength(length);
+        return payload;
+    }
+
+    private MultipartPart uploadPartWithRetries(MultipartUpload multipartUpload, int partNumber, Payload payload) {
+        for (int i = 1;; i++) {
+            try {
+                return blobStore.uploadMultipartPart(multipartUpload, partNumber, payload);
+            } catch (RuntimeException e) {
+                if (!isRetryable(e)) {
+                    throw e;
+                }
+                LOGGER.warn(MessageFormat.format(Messages.BLOB_STORE_UPLOAD_PART_FAILED, i, UPLOAD_RETRIES, partNumber, e.getMessage()), e);
+                if (i == UPLOAD_RETRIES) {
+                    throw e;
+                }
+            }
+            CommonUtil.sleep(getWaitTimeBeforeRetry(i));
         }
     }
 
+    private boolean isRetryable(RuntimeException e) {
+        // Besides the error responses of the object store, network failures and timeouts are reported as exceptions caused by I/O errors:
+        return e instanceof HttpResponseException || Throwables.getCausalChain(e)
+            .stream()
+            .anyMatch(IOException.class::isInstance);
+    }
+
+    private void cancel(List<Future<MultipartPart>> futures) {
+        for (Future<MultipartPart> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private long getWaitTimeBeforeRetry(int retry) {
+        // Exponential backoff with full jitter, so that the uploads that failed at the same time are not retried at the same time:
+        long maxWaitTime = RETRY_BASE_WAIT_TIME_IN_MILLIS * (1L << (retry - 1));
+        return ThreadLocalRandom.current()
+            .nextLong(maxWaitTime + 1);
+    }
+
     private Map<String, String> createFileEntryMetadata(FileEntry fileEntry) {
         Map<String, String> metadata = new HashMap<>();
         metadata.put(FileService.FileServiceColumnNames.SPACE.toLowerCase(), fileEntry.getSpace());
@@ -185,17 +378,6 @@ public class ObjectStoreFileStorage implements FileStorage {
 
     }
 
-    private boolean filterBySpaceAndNamespace(StorageMetadata blobMetadata, String space, String namespace) {
-        Map<String, String> userMetadata = blobMetadata.getUserMetadata();
-        if (CollectionUtils.isEmpty(userMetadata)) {
-            return false;
-        }
-        String spaceParameter = userMetadata.get(FileService.FileServiceColumnNames.SPACE.toLowerCase());
-        String namespaceParameter = userMetadata.get(FileService.FileServiceColumnNames.NAMESPACE.toLowerCase());
-        return space.equals(spaceParameter) && namespace.equals(namespaceParameter);
-
-    }
-
     private void closeQuietly(InputStream is) {
         if (is == null) {
             return;
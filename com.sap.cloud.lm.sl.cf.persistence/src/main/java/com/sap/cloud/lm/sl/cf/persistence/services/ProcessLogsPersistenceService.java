@@ -51,32 +51,56 @@ public class ProcessLogsPersistenceService extends DatabaseFileService {
 
     public String getLogContent(String space, String namespace, String logName) throws FileStorageException {
         final StringBuilder builder = new StringBuilder();
-        List<String> logIds = getSortedByTimestampFileIds(space, namespace, logName);
-        if (logIds.isEmpty()) {
+        List<FileEntry> logFiles = listLogFiles(space, namespace, logName);
+        if (logFiles.isEmpty()) {
             return null;
         }
 
-        FileContentProcessor streamProcessor = new FileContentProcessor() {
-            @Override
-            public void processFileContent(InputStream is) throws IOException {
-                builder.append(IOUtils.toString(is));
-            }
-        };
-        for (String logId : logIds) {
-            processFileContent(new DefaultFileDownloadProcessor(space, logId, streamProcessor));
-        }
+        processLogContent(logFiles, 0, is -> builder.append(IOUtils.toString(is)));
         return builder.toString();
     }
 
-    private List<String> getSortedByTimestampFileIds(String space, String namespace, String fileName) throws FileStorageException {
-        List<FileEntry> listFiles = listFiles(space, namespace, fileName);
+    /**
+     * Lists the files in which the content of a log is stored.
+     *
+     * @return the files sorted by the time they were stored, or an empty list if the log does not exist
+     */
+    public List<FileEntry> listLogFiles(String space, String namespace, String logName) throws FileStorageException {
+        List<FileEntry> listFiles = listFiles(space, namespace, logName);
         return listFiles.stream()
             .sorted((FileEntry f1, FileEntry f2) -> f1.getModified()
                 .compareTo(f2.getModified()))
-            .map(FileEntry::getId)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Processes the content of a log one file at a time, without loading it in memory. The files that end before the offset are not read at all.
+     *
+     * @param logFiles the files of the log as returned by {@link #listLogFiles(String, String, String)}
+     * @param offset the number of bytes from the beginning of the log that should be skipped
+     * @param contentProcessor called for the content of every file that ends after the offset
+     */
+    public void processLogContent(List<FileEntry> logFiles, long offset, FileContentProcessor contentProcessor)
+        throws FileStorageException {
+        long logFileStartPosition = 0;
+        for (FileEntry logFile : logFiles) {
+            long logFileSize = logFile.getSize()
+                .longValue();
+            long logFileEndPosition = logFileStartPosition + logFileSize;
+            if (logFileEndPosition > offset) {
+                long startPosition = Math.max(0, offset - logFileStartPosition);
+                DefaultFileDownloadProcessor downloadProcessor = new DefaultFileDownloadProcessor(logFile.getSpace(), logFile.getId(),
+                    contentProcessor);
+                if (startPosition == 0) {
+                    processFileContent(downloadProcessor);
+                } else {
+                    processFileContentRange(downloadProcessor, startPosition, logFileSize);
+                }
+            }
+            logFileStartPosition = logFileEndPosition;
+        }
+    }
+
     private List<FileEntry> listFiles(final String space, final String namespace, final String fileName) throws FileStorageException {
         try {
             return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getListFilesQuery(space, namespace, fileName));
@@ -36,6 +36,21 @@ public class ProgressMessageService {
         }
     }
 
+    public int addAll(final List<ProgressMessage> messages) {
+        try {
+            return getSqlQueryExecutor().execute(getSqlProgressMessageQueryProvider().getAddAllQuery(messages));
+        } catch (SQLException e) {
+            throw new SLException(e, Messages.ERROR_SAVING_MESSAGES, messages.size());
+        }
+    }
+
+    /**
+     * Makes sure that all messages added so far are stored. Messages are stored immediately by this service, so there is nothing to do
+     * here, but subclasses that store them asynchronously should override it.
+     */
+    public void flush() {
+    }
+
     public boolean update(final long existingId, final ProgressMessage newMessage) {
         try {
             return getSqlQueryExecutor().execute(getSqlProgressMessageQueryProvider().getUpdateQuery(existingId, newMessage));
@@ -0,0 +1,151 @@
+package com.sap.cloud.lm.sl.cf.persistence.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.cf.persistence.model.ArchiveEntry;
+
+public class ArchiveIndexerTest {
+
+    private static final Map<String, String> ARCHIVE_CONTENT = new LinkedHashMap<>();
+
+    static {
+        ARCHIVE_CONTENT.put("META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n");
+        ARCHIVE_CONTENT.put("META-INF/mtad.yaml", "_schema-version: 3\nID: foo\nversion: 1.0.0\n");
+        ARCHIVE_CONTENT.put("web/index.html", "<html></html>");
+        ARCHIVE_CONTENT.put("web/resources/app.js", "console.log('app');");
+        ARCHIVE_CONTENT.put("db/data.csv", "id,name\n1,foo\n2,bar\n");
+    }
+
+    private File archive;
+
+    @Before
+    public void setUp() throws IOException {
+        archive = File.createTempFile("archive", ".mtar");
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(archive))) {
+            for (Map.Entry<String, String> entry : ARCHIVE_CONTENT.entrySet()) {
+                zipOutputStream.putNextEntry(new ZipEntry(entry.getKey()));
+                zipOutputStream.write(entry.getValue()
+                    .getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(archive.toPath());
+    }
+
+    @Test
+    public void testIndexArchive() throws IOException {
+        List<ArchiveEntry> archiveEntries = ArchiveIndexer.indexArchive(archive);
+
+        assertEquals(ARCHIVE_CONTENT.size(), archiveEntries.size());
+        long previousEndPosition = 0;
+        for (ArchiveEntry archiveEntry : archiveEntries) {
+            assertTrue(ARCHIVE_CONTENT.containsKey(archiveEntry.getName()));
+            assertEquals(previousEndPosition, archiveEntry.getStartPosition());
+            assertEquals(getCrc(ARCHIVE_CONTENT.get(archiveEntry.getName())), archiveEntry.getCrc());
+            assertTrue(archiveEntry.getEndPosition() > archiveEntry.getStartPosition() + archiveEntry.getCompressedSize());
+            previousEndPosition = archiveEntry.getEndPosition();
+        }
+    }
+
+    @Test
+    public void testReadIndexedEntries() throws IOException {
+        for (ArchiveEntry archiveEntry : ArchiveIndexer.indexArchive(archive)) {
+            try (ZipInputStream zipInputStream = new ZipInputStream(getRange(archiveEntry))) {
+                ZipEntry zipEntry = zipInputStream.getNextEntry();
+                assertNotNull(zipEntry);
+                assertEquals(archiveEntry.getName(), zipEntry.getName());
+                assertEquals(ARCHIVE_CONTENT.get(archiveEntry.getName()), IOUtils.toString(zipInputStream, StandardCharsets.UTF_8));
+                assertNull(zipInputStream.getNextEntry());
+            }
+        }
+    }
+
+    @Test
+    public void testIndexFileThatIsNotAnArchive() throws IOException {
+        try (OutputStream outputStream = new FileOutputStream(archive)) {
+            outputStream.write("This is not an archive.".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertTrue(ArchiveIndexer.indexArchive(archive)
+            .isEmpty());
+    }
+
+    @Test
+    public void testIndexArchiveTail() throws IOException {
+        byte[] content = Files.readAllBytes(archive.toPath());
+        byte[] tail = Arrays.copyOfRange(content, content.length / 2, content.length);
+
+        List<ArchiveEntry> archiveEntries = ArchiveIndexer.indexArchive(archive);
+        List<ArchiveEntry> archiveEntriesFromTail = ArchiveIndexer.indexArchiveTail(tail, content.length);
+
+        assertEquals(archiveEntries.size(), archiveEntriesFromTail.size());
+        for (int i = 0; i < archiveEntries.size(); i++) {
+            assertEquals(archiveEntries.get(i)
+                .getName(),
+                archiveEntriesFromTail.get(i)
+                    .getName());
+            assertEquals(archiveEntries.get(i)
+                .getStartPosition(),
+                archiveEntriesFromTail.get(i)
+                    .getStartPosition());
+            assertEquals(archiveEntries.get(i)
+                .getEndPosition(),
+                archiveEntriesFromTail.get(i)
+                    .getEndPosition());
+        }
+    }
+
+    @Test
+    public void testIndexArchiveTailWithoutCentralDirectory() throws IOException {
+        byte[] content = Files.readAllBytes(archive.toPath());
+        byte[] tail = Arrays.copyOfRange(content, content.length - 30, content.length);
+
+        assertTrue(ArchiveIndexer.indexArchiveTail(tail, content.length)
+            .isEmpty());
+    }
+
+    private InputStream getRange(ArchiveEntry archiveEntry) throws IOException {
+        FileChannel fileChannel = FileChannel.open(archive.toPath(), StandardOpenOption.READ)
+            .position(archiveEntry.getStartPosition());
+        return new BoundedInputStream(Channels.newInputStream(fileChannel), archiveEntry.getEndPosition() - archiveEntry.getStartPosition());
+    }
+
+    private long getCrc(String content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.sap.cloud.lm.sl.cf.persistence.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.cf.persistence.DataSourceWithDialect;
+import com.sap.cloud.lm.sl.cf.persistence.model.ProgressMessage;
+import com.sap.cloud.lm.sl.cf.persistence.model.ProgressMessage.ProgressMessageType;
+import com.sap.cloud.lm.sl.cf.persistence.util.JdbcUtil;
+import com.sap.cloud.lm.sl.common.SLException;
+import com.sap.cloud.lm.sl.common.util.TestDataSourceProvider;
+
+public class AsyncProgressMessageServiceTest {
+
+    private static final String LIQUIBASE_CHANGELOG_LOCATION = "com/sap/cloud/lm/sl/cf/persistence/db/changelog/db-changelog.xml";
+    private static final String PROCESS_INSTANCE_ID = "100";
+    private static final String TASK_ID = "create-app";
+    private static final int QUEUE_CAPACITY = 2;
+    private static final long FLUSH_INTERVAL_IN_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private DataSourceWithDialect testDataSource;
+    private AsyncProgressMessageService asyncService;
+    private ProgressMessageService service;
+
+    @Before
+    public void setUp() throws Exception {
+        testDataSource = new DataSourceWithDialect(TestDataSourceProvider.getDataSource(LIQUIBASE_CHANGELOG_LOCATION));
+        asyncService = new AsyncProgressMessageService(testDataSource, QUEUE_CAPACITY, QUEUE_CAPACITY, FLUSH_INTERVAL_IN_MILLIS);
+        service = new ProgressMessageService(testDataSource);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        asyncService.shutdown();
+        service.removeByProcessId(PROCESS_INSTANCE_ID);
+        JdbcUtil.closeQuietly(testDataSource.getDataSource()
+            .getConnection());
+    }
+
+    @Test
+    public void testMessagesAreStoredOnFlush() {
+        assertTrue(asyncService.add(createMessage("1")));
+        assertEquals(0, service.findByProcessId(PROCESS_INSTANCE_ID)
+            .size());
+
+        asyncService.flush();
+
+        assertEquals(1, service.findByProcessId(PROCESS_INSTANCE_ID)
+            .size());
+    }
+
+    @Test
+    public void testMessagesAreStoredWhenQueueIsFull() {
+        for (int i = 1; i <= 5; i++) {
+            asyncService.add(createMessage(Integer.toString(i)));
+        }
+
+        assertEquals(4, service.findByProcessId(PROCESS_INSTANCE_ID)
+            .size());
+        assertEquals(5, asyncService.findByProcessId(PROCESS_INSTANCE_ID)
+            .size());
+    }
+
+    @Test
+    public void testMessagesAreStoredInOrder() {
+        for (int i = 1; i <= 5; i++) {
+            asyncService.add(createMessage(Integer.toString(i)));
+        }
+        asyncService.flush();
+
+        List<String> texts = service.findByProcessId(PROCESS_INSTANCE_ID)
+            .stream()
+            .map(ProgressMessage::getText)
+            .collect(Collectors.toList());
+        assertEquals(Arrays.asList("1", "2", "3", "4", "5"), texts);
+    }
+
+    @Test
+    public void testBatchIsStoredByNextFlushAfterFailure() {
+        asyncService.shutdown();
+        asyncService = new FailingAsyncProgressMessageService(testDataSource, 1);
+        asyncService.add(createMessage("1"));
+
+        assertThrows(SLException.class, () -> asyncService.flush());
+        asyncService.add(createMessage("2"));
+        asyncService.flush();
+
+        List<String> texts = service.findByProcessId(PROCESS_INSTANCE_ID)
+            .stream()
+            .map(ProgressMessage::getText)
+            .collect(Collectors.toList());
+        assertEquals(Arrays.asList("1", "2"), texts);
+    }
+
+    @Test
+    public void testBatchIsDiscardedAfterMaxAttempts() {
+        asyncService.shutdown();
+        asyncService = new FailingAsyncProgressMessageService(testDataSource, AsyncProgressMessageService.MAX_STORE_ATTEMPTS);
+        asyncService.add(createMessage("1"));
+
+        for (int i = 1; i < AsyncProgressMessageService.MAX_STORE_ATTEMPTS; i++) {
+            assertThrows(SLException.class, () -> asyncService.flush());
+        }
+        asyncService.flush();
+        asyncService.add(createMessage("2"));
+        asyncService.flush();
+
+        List<String> texts = service.findByProcessId(PROCESS_INSTANCE_ID)
+            .stream()
+            .map(ProgressMessage::getText)
+            .collect(Collectors.toList());
+        assertEquals(Arrays.asList("2"), texts);
+    }
+
+    private ProgressMessage createMessage(String text) {
+        return new ProgressMessage(PROCESS_INSTANCE_ID, TASK_ID, ProgressMessageType.INFO, text, new Timestamp(System.currentTimeMillis()));
+    }
+
+}
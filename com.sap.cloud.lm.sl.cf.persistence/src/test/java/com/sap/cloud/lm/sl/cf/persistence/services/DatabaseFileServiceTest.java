@@ -6,9 +6,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
@@ -17,17 +20,24 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import javax.xml.bind.DatatypeConverter;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.MockitoAnnotations;
 
 import com.sap.cloud.lm.sl.cf.persistence.DataSourceWithDialect;
+import com.sap.cloud.lm.sl.cf.persistence.model.ArchiveEntry;
 import com.sap.cloud.lm.sl.cf.persistence.model.FileEntry;
 import com.sap.cloud.lm.sl.cf.persistence.processors.DefaultFileDownloadProcessor;
 import com.sap.cloud.lm.sl.cf.persistence.processors.DefaultFileUploadProcessor;
@@ -53,6 +63,8 @@ public class DatabaseFileServiceTest {
     protected static final String NAMESPACE_2 = "dido";
     protected static final String PIC_RESOURCE_NAME = "pexels-photo-401794.jpeg";
     protected static final String PIC_STORAGE_NAME = "pic1.jpeg";
+    protected static final String ARCHIVE_STORAGE_NAME = "archive.mtar";
+    protected static final String[] ARCHIVE_ENTRY_NAMES = { "a.txt", "b.txt", "c.txt" };
 
     protected FileService fileService;
 
@@ -107,6 +119,24 @@ public class DatabaseFileServiceTest {
         validateFileContent(fileEntry, expectedFileDigest);
     }
 
+    @Test
+    public void processArchiveEntriesContentTest() throws Exception {
+        FileEntry fileEntry = addTestArchive(SPACE_1, NAMESPACE_1);
+        List<ArchiveEntry> archiveEntries = fileService.listArchiveEntries(fileEntry.getId());
+        assertEquals(ARCHIVE_ENTRY_NAMES.length, archiveEntries.size());
+
+        List<String> processedEntries = new ArrayList<>();
+        fileService.processArchiveEntriesContent(new DefaultFileDownloadProcessor(SPACE_1, fileEntry.getId(), contentStream -> {
+            try (ZipInputStream zipInputStream = new ZipInputStream(contentStream)) {
+                for (ZipEntry zipEntry; (zipEntry = zipInputStream.getNextEntry()) != null;) {
+                    assertEquals(zipEntry.getName(), IOUtils.toString(zipInputStream, StandardCharsets.UTF_8));
+                    processedEntries.add(zipEntry.getName());
+                }
+            }
+        }), "b.txt"::equals);
+        assertEquals(Arrays.asList("b.txt"), processedEntries);
+    }
+
     @Test
     public void deleteBySpaceAndNamespaceTest() throws Exception {
         addTestFile(SPACE_1, NAMESPACE_1);
@@ -196,6 +226,19 @@ public class DatabaseFileServiceTest {
         return fileEntry;
     }
 
+    protected FileEntry addTestArchive(String space, String namespace) throws Exception {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(archive)) {
+            for (String entryName : ARCHIVE_ENTRY_NAMES) {
+                zipOutputStream.putNextEntry(new ZipEntry(entryName));
+                zipOutputStream.write(entryName.getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
+        }
+        return fileService.addFile(space, namespace, ARCHIVE_STORAGE_NAME, new DefaultFileUploadProcessor(),
+            new ByteArrayInputStream(archive.toByteArray()));
+    }
+
     protected InputStream getResource(String name) {
         return Thread.currentThread()
             .getContextClassLoader()
@@ -101,12 +101,6 @@ public class FileServiceFileStorageTest {
 
     }
 
-    @Test(expected = UnsupportedOperationException.class)
-    public void deleteFilesBySpaceAndNamespace() throws Exception {
-        fileStorage.deleteFilesBySpaceAndNamespace(spaceId, namespace);
-
-    }
-
     @Test
     public void deleteFilesModifiedBefore() throws Exception {
         long currentMillis = System.currentTimeMillis();
@@ -7,19 +7,21 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
-import java.io.File;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import com.sap.cloud.lm.sl.cf.persistence.DataSourceWithDialect;
+import com.sap.cloud.lm.sl.cf.persistence.model.ArchiveEntry;
 import com.sap.cloud.lm.sl.cf.persistence.model.FileEntry;
 import com.sap.cloud.lm.sl.cf.persistence.processors.DefaultFileDownloadProcessor;
 import com.sap.cloud.lm.sl.cf.persistence.processors.DefaultFileUploadProcessor;
@@ -33,13 +35,16 @@ public class FileServiceTest extends DatabaseFileServiceTest {
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         super.setUp();
+        Mockito.doAnswer(invocation -> IOUtils.toByteArray((InputStream) invocation.getArguments()[1]))
+            .when(fileStorage)
+            .addFile((FileEntry) Mockito.any(), (InputStream) Mockito.any());
     }
 
     @Test
     public void addFileUploadFileErrorTest() throws Exception {
         Mockito.doThrow(new FileStorageException("expected exception"))
             .when(fileStorage)
-            .addFile((FileEntry) Mockito.any(), (File) Mockito.any());
+            .addFile((FileEntry) Mockito.any(), (InputStream) Mockito.any());
 
         InputStream resourceStream = getResource(PIC_RESOURCE_NAME);
         String space = SPACE_1;
@@ -49,7 +54,7 @@ public class FileServiceTest extends DatabaseFileServiceTest {
             fail("addFile should fail with exception");
         } catch (FileStorageException e) {
             Mockito.verify(fileStorage, Mockito.times(1))
-                .addFile((FileEntry) Mockito.any(), (File) Mockito.any());
+                .addFile((FileEntry) Mockito.any(), (InputStream) Mockito.any());
             List<FileEntry> listFiles = fileService.listFiles(space, namespace);
             assertEquals(0, listFiles.size());
         }
@@ -64,18 +69,31 @@ public class FileServiceTest extends DatabaseFileServiceTest {
             .processFileContent(Mockito.eq(downloadProcessor));
     }
 
+    @Test
+    public void processArchiveEntriesContentTest() throws Exception {
+        FileEntry fileEntry = addTestArchive(SPACE_1, NAMESPACE_1);
+        ArchiveEntry archiveEntry = fileService.listArchiveEntries(fileEntry.getId())
+            .get(1);
+        DefaultFileDownloadProcessor downloadProcessor = new DefaultFileDownloadProcessor(SPACE_1, fileEntry.getId(),
+            Mockito.mock(FileContentProcessor.class));
+        fileService.processArchiveEntriesContent(downloadProcessor, archiveEntry.getName()::equals);
+        Mockito.verify(fileStorage, Mockito.times(1))
+            .processFileContentRange(Mockito.eq(downloadProcessor), Mockito.eq(archiveEntry.getStartPosition()),
+                Mockito.eq(archiveEntry.getEndPosition()));
+    }
+
     @Test
     public void deleteBySpaceAndNamespaceTest() throws Exception {
         super.deleteBySpaceAndNamespaceTest();
-        Mockito.verify(fileStorage, Mockito.times(1))
-            .deleteFilesBySpaceAndNamespace(Mockito.eq(SPACE_1), Mockito.eq(NAMESPACE_1));
+        Mockito.verify(fileStorage, Mockito.times(2))
+            .deleteFiles(Mockito.argThat(new FileEntriesCountMatcher(2)));
     }
 
     @Test
     public void deleteBySpaceAndNamespaceWithTwoNamespacesTest() throws Exception {
         super.deleteBySpaceAndNamespaceWithTwoNamespacesTest();
         Mockito.verify(fileStorage, Mockito.times(1))
-            .deleteFilesBySpaceAndNamespace(Mockito.eq(SPACE_1), Mockito.eq(NAMESPACE_1));
+            .deleteFiles(Mockito.argThat(new FileEntriesCountMatcher(1)));
     }
 
     @Test
@@ -123,6 +141,8 @@ public class FileServiceTest extends DatabaseFileServiceTest {
     public void deleteByModificationTimeTest() throws Exception {
         super.deleteByModificationTimeTest();
         Mockito.verify(fileStorage, Mockito.times(1))
+            .deleteFiles(Mockito.argThat(new FileEntriesCountMatcher(2)));
+        Mockito.verify(fileStorage, Mockito.never())
             .deleteFilesModifiedBefore((Date) Mockito.any());
     }
 
@@ -145,7 +165,7 @@ public class FileServiceTest extends DatabaseFileServiceTest {
     protected FileEntry addFile(String space, String namespace, String fileName, String resourceName) throws Exception {
         FileEntry fileEntry = super.addFile(space, namespace, fileName, resourceName);
         Mockito.verify(fileStorage, Mockito.times(1))
-            .addFile(Mockito.eq(fileEntry), (File) Mockito.any());
+            .addFile(Mockito.eq(fileEntry), (InputStream) Mockito.any());
         return fileEntry;
     }
 
@@ -157,6 +177,21 @@ public class FileServiceTest extends DatabaseFileServiceTest {
     @Override
     protected void verifyFileIsStored(FileEntry fileEntry) throws Exception {
         Mockito.verify(fileStorage, Mockito.times(1))
-            .addFile(Mockito.eq(fileEntry), (File) Mockito.any());
+            .addFile(Mockito.eq(fileEntry), (InputStream) Mockito.any());
+    }
+
+    private static class FileEntriesCountMatcher extends ArgumentMatcher<List<FileEntry>> {
+
+        private final int count;
+
+        public FileEntriesCountMatcher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public boolean matches(Object fileEntries) {
+            return ((List<?>) fileEntries).size() == count;
+        }
+
     }
 }
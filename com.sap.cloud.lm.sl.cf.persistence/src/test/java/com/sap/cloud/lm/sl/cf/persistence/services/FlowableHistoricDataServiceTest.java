@@ -0,0 +1,178 @@
+package com.sap.cloud.lm.sl.cf.persistence.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.cf.persistence.DataSourceWithDialect;
+import com.sap.cloud.lm.sl.cf.persistence.util.JdbcUtil;
+
+public class FlowableHistoricDataServiceTest {
+
+    private static final String PROCESS_DEFINITION_LOCATION = "com/sap/cloud/lm/sl/cf/persistence/services/historic-data-test.bpmn";
+    private static final String PROCESS_DEFINITION_KEY = "parentProcess";
+    private static final String HISTORY_LEVEL = "full";
+    private static final String VARIABLE_NAME = "content";
+    private static final byte[] CONTENT = "Lorem ipsum".getBytes(StandardCharsets.UTF_8);
+    private static final String COMMENT = "Approved";
+    private static final String ATTACHMENT_TYPE = "text/plain";
+    private static final String ATTACHMENT_NAME = "approval.txt";
+    private static final int MAX_PROCESSES = 10;
+    private static final long ONE_MINUTE_IN_MILLIS = 60 * 1000;
+
+    private static final String SELECT_TABLES = "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME LIKE 'ACT_HI_%' OR TABLE_NAME = 'ACT_GE_BYTEARRAY'";
+    private static final String COUNT_ROWS = "SELECT COUNT(*) FROM ";
+    // The tables, which the process fills besides the tables of the process, activity and task instances:
+    private static final List<String> TABLES_WITH_ADDITIONAL_DATA = Arrays.asList("ACT_GE_BYTEARRAY", "ACT_HI_ATTACHMENT", "ACT_HI_COMMENT",
+        "ACT_HI_DETAIL", "ACT_HI_ENTITYLINK", "ACT_HI_IDENTITYLINK", "ACT_HI_TSK_LOG");
+
+    private ProcessEngineConfigurationImpl processEngineConfiguration;
+    private ProcessEngine processEngine;
+    private FlowableHistoricDataService service;
+
+    @Before
+    public void setUp() {
+        // The schema is created by the engine itself, so the statements of the service are run against the real tables of Flowable:
+        processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setHistory(HISTORY_LEVEL);
+        processEngineConfiguration.setEnableEntityLinks(true);
+        processEngineConfiguration.setEnableHistoricTaskLogging(true);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+        processEngine.getRepositoryService()
+            .createDeployment()
+            .addClasspathResource(PROCESS_DEFINITION_LOCATION)
+            .deploy();
+        service = new FlowableHistoricDataService(new DataSourceWithDialect(processEngineConfiguration.getDataSource()));
+    }
+
+    @After
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Test
+    public void testDeleteFinishedProcessesStartedBefore() throws Exception {
+        startProcessWithHistoricData();
+        Map<String, Integer> rowCountsOfUnfinishedProcess = countRowsOfHistoricTables();
+        String processId = startProcessWithHistoricData();
+        completeTask(processId);
+        assertAdditionalHistoricDataWasAdded(rowCountsOfUnfinishedProcess, countRowsOfHistoricTables());
+
+        int deletedProcessesCount = service.deleteFinishedProcessesStartedBefore(getTimeInOneMinute(), MAX_PROCESSES);
+
+        // The finished process and the subprocess started by it:
+        assertEquals(2, deletedProcessesCount);
+        assertEquals(rowCountsOfUnfinishedProcess, countRowsOfHistoricTables());
+    }
+
+    @Test
+    public void testDeleteFinishedProcessesStartedBeforeWithoutFinishedProcesses() throws Exception {
+        startProcessWithHistoricData();
+        Map<String, Integer> rowCounts = countRowsOfHistoricTables();
+
+        int deletedProcessesCount = service.deleteFinishedProcessesStartedBefore(getTimeInOneMinute(), MAX_PROCESSES);
+
+        assertEquals(0, deletedProcessesCount);
+        assertEquals(rowCounts, countRowsOfHistoricTables());
+    }
+
+    private String startProcessWithHistoricData() {
+        ProcessInstance processInstance = processEngine.getRuntimeService()
+            .startProcessInstanceByKey(PROCESS_DEFINITION_KEY, Collections.<String, Object> singletonMap(VARIABLE_NAME, CONTENT));
+        String processId = processInstance.getId();
+        String taskId = getTask(processId).getId();
+        TaskService taskService = processEngine.getTaskService();
+        taskService.addComment(taskId, processId, COMMENT);
+        taskService.createAttachment(ATTACHMENT_TYPE, taskId, processId, ATTACHMENT_NAME, null, new ByteArrayInputStream(CONTENT));
+        return processId;
+    }
+
+    private Task getTask(String processId) {
+        return processEngine.getTaskService()
+            .createTaskQuery()
+            .processInstanceId(processId)
+            .singleResult();
+    }
+
+    private void completeTask(String processId) {
+        processEngine.getTaskService()
+            .complete(getTask(processId).getId());
+    }
+
+    private Map<String, Integer> countRowsOfHistoricTables() throws SQLException {
+        Connection connection = null;
+        Statement statement = null;
+        try {
+            connection = processEngineConfiguration.getDataSource()
+                .getConnection();
+            statement = connection.createStatement();
+            Map<String, Integer> rowCounts = new TreeMap<>();
+            for (String table : getHistoricTables(statement)) {
+                rowCounts.put(table, countRows(statement, table));
+            }
+            return rowCounts;
+        } finally {
+            JdbcUtil.closeQuietly(statement);
+            JdbcUtil.closeQuietly(connection);
+        }
+    }
+
+    private List<String> getHistoricTables(Statement statement) throws SQLException {
+        ResultSet resultSet = null;
+        try {
+            resultSet = statement.executeQuery(SELECT_TABLES);
+            List<String> tables = new ArrayList<>();
+            while (resultSet.next()) {
+                tables.add(resultSet.getString(1));
+            }
+            return tables;
+        } finally {
+            JdbcUtil.closeQuietly(resultSet);
+        }
+    }
+
+    private int countRows(Statement statement, String table) throws SQLException {
+        ResultSet resultSet = null;
+        try {
+            resultSet = statement.executeQuery(COUNT_ROWS + table);
+            resultSet.next();
+            return resultSet.getInt(1);
+        } finally {
+            JdbcUtil.closeQuietly(resultSet);
+        }
+    }
+
+    private void assertAdditionalHistoricDataWasAdded(Map<String, Integer> rowCountsBefore, Map<String, Integer> rowCountsAfter) {
+        for (String table : TABLES_WITH_ADDITIONAL_DATA) {
+            assertTrue(table, rowCountsAfter.get(table) > rowCountsBefore.get(table));
+        }
+    }
+
+    private Date getTimeInOneMinute() {
+        return new Date(System.currentTimeMillis() + ONE_MINUTE_IN_MILLIS);
+    }
+
+}
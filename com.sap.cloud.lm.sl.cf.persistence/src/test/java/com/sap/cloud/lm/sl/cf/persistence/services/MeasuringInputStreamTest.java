@@ -0,0 +1,66 @@
+package com.sap.cloud.lm.sl.cf.persistence.services;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.common.util.DigestHelper;
+
+public class MeasuringInputStreamTest {
+
+    private static final String DIGEST_METHOD = "MD5";
+    private static final String PIC_LOCATION = "src/test/resources/pexels-photo-401794.jpeg";
+
+    @Test
+    public void testSizeAndDigest() throws Exception {
+        byte[] content = Files.readAllBytes(Paths.get(PIC_LOCATION));
+        MeasuringInputStream measuringInputStream = new MeasuringInputStream(new ByteArrayInputStream(content), DIGEST_METHOD, 1024);
+
+        assertArrayEquals(content, IOUtils.toByteArray(measuringInputStream));
+
+        assertEquals(BigInteger.valueOf(content.length), measuringInputStream.getSize());
+        assertEquals(DigestHelper.computeFileChecksum(Paths.get(PIC_LOCATION), DIGEST_METHOD)
+            .toLowerCase(),
+            measuringInputStream.getDigest()
+                .toLowerCase());
+        assertArrayEquals(Arrays.copyOfRange(content, content.length - 1024, content.length), measuringInputStream.getTail());
+    }
+
+    @Test
+    public void testTailOfContentReadInSmallChunks() throws Exception {
+        byte[] content = "abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.UTF_8);
+        MeasuringInputStream measuringInputStream = new MeasuringInputStream(new ByteArrayInputStream(content), DIGEST_METHOD, 10);
+
+        assertEquals('a', measuringInputStream.read());
+        byte[] buffer = new byte[3];
+        while (measuringInputStream.read(buffer) != -1) {
+            // Read the rest of the content.
+        }
+
+        assertArrayEquals("qrstuvwxyz".getBytes(StandardCharsets.UTF_8), measuringInputStream.getTail());
+    }
+
+    @Test
+    public void testTailOfContentShorterThanTailSize() throws IOException, FileStorageException {
+        InputStream content = new ByteArrayInputStream("abc".getBytes(StandardCharsets.UTF_8));
+        MeasuringInputStream measuringInputStream = new MeasuringInputStream(content, DIGEST_METHOD, 10);
+
+        assertEquals(2, measuringInputStream.skip(2));
+        assertEquals('c', measuringInputStream.read());
+
+        assertEquals(BigInteger.valueOf(3), measuringInputStream.getSize());
+        assertArrayEquals("abc".getBytes(StandardCharsets.UTF_8), measuringInputStream.getTail());
+    }
+
+}
@@ -2,6 +2,8 @@ package com.sap.cloud.lm.sl.cf.persistence.services;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -12,6 +14,7 @@ import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -23,9 +26,13 @@ import org.jclouds.ContextBuilder;
 import org.jclouds.blobstore.BlobStore;
 import org.jclouds.blobstore.BlobStoreContext;
 import org.jclouds.blobstore.domain.Blob;
+import org.jclouds.blobstore.domain.MultipartUpload;
+import org.jclouds.io.Payload;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
 
 import com.google.common.net.MediaType;
 import com.sap.cloud.lm.sl.cf.persistence.model.FileEntry;
@@ -74,6 +81,74 @@ public class ObjectStoreFileStorageTest {
         assertFileExists(true, fileEntry);
     }
 
+    @Test
+    public void addFileInPartsTest() throws Exception {
+        fileStorage = new ObjectStoreFileStorage(blobStoreContext.getBlobStore(), CONTAINER, 0, 64 * 1024);
+        FileEntry fileEntry = addFile(TEST_FILE_LOCATION);
+        assertFileExists(true, fileEntry);
+        String testFileDigest = DigestHelper.computeFileChecksum(Paths.get(TEST_FILE_LOCATION), DIGEST_METHOD)
+            .toLowerCase();
+        validateFileContent(fileEntry, testFileDigest);
+    }
+
+    @Test
+    public void addFileInPartsRetriesPartAfterIOErrorTest() throws Exception {
+        BlobStore blobStore = createDelegatingBlobStore();
+        Mockito.doThrow(new IllegalStateException(new IOException("Read timed out")))
+            .doAnswer(AdditionalAnswers.delegatesTo(blobStoreContext.getBlobStore()))
+            .when(blobStore)
+            .uploadMultipartPart(Mockito.any(MultipartUpload.class), Mockito.anyInt(), Mockito.any(Payload.class));
+        fileStorage = new ObjectStoreFileStorage(blobStore, CONTAINER, 0, 64 * 1024);
+
+        FileEntry fileEntry = addFile(TEST_FILE_LOCATION);
+
+        String testFileDigest = DigestHelper.computeFileChecksum(Paths.get(TEST_FILE_LOCATION), DIGEST_METHOD)
+            .toLowerCase();
+        validateFileContent(fileEntry, testFileDigest);
+    }
+
+    @Test
+    public void addFileInPartsKeepsUploadFailureWhenAbortFailsTest() throws Exception {
+        BlobStore blobStore = createDelegatingBlobStore();
+        Mockito.doThrow(new IllegalStateException("Upload failed"))
+            .when(blobStore)
+            .uploadMultipartPart(Mockito.any(MultipartUpload.class), Mockito.anyInt(), Mockito.any(Payload.class));
+        Mockito.doThrow(new IllegalStateException("Abort failed"))
+            .when(blobStore)
+            .abortMultipartUpload(Mockito.any(MultipartUpload.class));
+        fileStorage = new ObjectStoreFileStorage(blobStore, CONTAINER, 0, 64 * 1024);
+
+        FileStorageException e = assertThrows(FileStorageException.class, () -> addFile(TEST_FILE_LOCATION));
+
+        assertEquals("Upload failed", e.getCause()
+            .getMessage());
+        assertEquals("Abort failed", e.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    public void addFileRemovesBlobStoredByFailedUploadTest() throws Exception {
+        BlobStore blobStore = createDelegatingBlobStore();
+        Mockito.doAnswer(invocation -> {
+            // The blob is stored, but the response to its upload is lost:
+            blobStoreContext.getBlobStore()
+                .putBlob((String) invocation.getArguments()[0], (Blob) invocation.getArguments()[1]);
+            throw new IllegalStateException("Connection reset");
+        })
+            .when(blobStore)
+            .putBlob(Mockito.anyString(), Mockito.any(Blob.class));
+        fileStorage = new ObjectStoreFileStorage(blobStore, CONTAINER);
+
+        assertThrows(IllegalStateException.class, () -> addFile(TEST_FILE_LOCATION));
+
+        assertTrue(blobStoreContext.getBlobStore()
+            .list(CONTAINER)
+            .isEmpty());
+    }
+
+    private BlobStore createDelegatingBlobStore() {
+        return Mockito.mock(BlobStore.class, AdditionalAnswers.delegatesTo(blobStoreContext.getBlobStore()));
+    }
+
     @Test
     public void getFileEntriesWithoutContent() throws Exception {
         List<FileEntry> fileEntries = new ArrayList<>();
@@ -102,30 +177,27 @@ public class ObjectStoreFileStorageTest {
     }
 
     @Test
-    public void deleteFilesBySpace() throws Exception {
+    public void deleteFiles() throws Exception {
         FileEntry firstFile = addFile(TEST_FILE_LOCATION);
         FileEntry secondFile = addFile(SECOND_FILE_TEST_LOCATION);
         FileEntry fileInOtherSpace = addFile(TEST_FILE_LOCATION, "otherspace", namespace);
 
-        fileStorage.deleteFilesBySpace(spaceId);
+        fileStorage.deleteFiles(Arrays.asList(firstFile, secondFile));
         assertFileExists(false, firstFile);
         assertFileExists(false, secondFile);
         assertFileExists(true, fileInOtherSpace);
-
     }
 
     @Test
-    public void deleteFilesBySpaceAndNamespace() throws Exception {
+    public void deleteFilesBySpace() throws Exception {
         FileEntry firstFile = addFile(TEST_FILE_LOCATION);
         FileEntry secondFile = addFile(SECOND_FILE_TEST_LOCATION);
         FileEntry fileInOtherSpace = addFile(TEST_FILE_LOCATION, "otherspace", namespace);
-        FileEntry fileInOtherNamespace = addFile(TEST_FILE_LOCATION, spaceId, "othernamespace");
 
-        fileStorage.deleteFilesBySpaceAndNamespace(spaceId, namespace);
-        assertFileExists(true, fileInOtherNamespace);
-        assertFileExists(true, fileInOtherSpace);
+        fileStorage.deleteFilesBySpace(spaceId);
         assertFileExists(false, firstFile);
         assertFileExists(false, secondFile);
+        assertFileExists(true, fileInOtherSpace);
 
     }
 
@@ -12,12 +12,14 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.util.List;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.MockitoAnnotations;
 
 import com.sap.cloud.lm.sl.cf.persistence.DataSourceWithDialect;
+import com.sap.cloud.lm.sl.cf.persistence.model.FileEntry;
 import com.sap.cloud.lm.sl.common.util.TestDataSourceProvider;
 
 public class ProcessLogsPersistenceServiceTest {
@@ -113,6 +115,23 @@ public class ProcessLogsPersistenceServiceTest {
         assertNull(persistedLogContent);
     }
 
+    @Test
+    public void testProcessLogContentWithOffset() throws Exception {
+        File file1 = getResourceAsFile(LOG_1);
+        File file2 = getResourceAsFile(LOG_2);
+        processLogsService.persistLog(SPACE_1, NAMESPACE_1, file1, LOG_1);
+        processLogsService.persistLog(SPACE_1, NAMESPACE_1, file2, LOG_1);
+        List<FileEntry> logFiles = processLogsService.listLogFiles(SPACE_1, NAMESPACE_1, LOG_1);
+        String expectedContent = buildExpectedContent(file1, file2);
+
+        int[] offsets = { 0, 3, (int) file1.length(), (int) file1.length() + 3, expectedContent.length() };
+        for (int offset : offsets) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            processLogsService.processLogContent(logFiles, offset, is -> IOUtils.copy(is, content));
+            assertEquals(expectedContent.substring(offset), content.toString());
+        }
+    }
+
     private String buildExpectedContent(File... files) throws IOException {
         ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
         for (File file : files) {
@@ -83,6 +83,7 @@ public class Constants {
     public static final String VAR_IS_SERVICE_UPDATED_VAR_PREFIX = "IS_SERVICE_UPDATED_";
     public static final String VAR_APP_SERVICE_URL_VAR_PREFIX = "APP_SERVICE_URL_";
     public static final String VAR_APP_SERVICE_BROKER_VAR_PREFIX = "APP_SERVICE_BROKER_";
+    public static final String VAR_DEPLOYED_MODULE_VAR_PREFIX = "DEPLOYED_MODULE_";
     public static final String VAR_SERVICE_ACTIONS_TO_EXCECUTE = "serviceActionsToExecute";
     public static final String VAR_SERVICES_TO_BIND = "servicesToBind";
     public static final String VAR_SERVICE_KEYS_TO_CREATE = "serviceKeysToCreate";
@@ -3,8 +3,19 @@ package com.sap.cloud.lm.sl.cf.process.jobs;
 import static java.text.MessageFormat.format;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -15,10 +26,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
 
 import com.sap.cloud.lm.sl.cf.core.util.ApplicationConfiguration;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
 
+/**
+ * Executes the registered cleaners. Cleaners with the same order are independent of each other and are executed concurrently, while
+ * cleaners with a greater order are executed only after the ones with a lower order have finished. A cleaner, which exceeds its timeout, is
+ * interrupted. The cleaners delete their data in batches, so the data that was left by an interrupted cleaner is deleted during the next
+ * run of the job.
+ */
 @DisallowConcurrentExecution
 public class CleanUpJob implements Job {
 
@@ -38,8 +57,19 @@ public class CleanUpJob implements Job {
         Date expirationTime = computeExpirationTime();
         LOGGER.info(LOG_MARKER, format(Messages.WILL_CLEAN_UP_DATA_STORED_BEFORE_0, expirationTime));
         LOGGER.info(LOG_MARKER, format(Messages.REGISTERED_CLEANERS_IN_CLEAN_UP_JOB_0, cleaners));
-        for (Cleaner cleaner : cleaners) {
-            executeSafely(() -> cleaner.execute(expirationTime));
+        ExecutorService executor = Executors.newFixedThreadPool(configuration.getCleanUpJobParallelism());
+        ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            for (List<Cleaner> independentCleaners : groupByOrder(cleaners)) {
+                executeConcurrently(independentCleaners, expirationTime, executor, timeoutScheduler);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            LOGGER.warn(LOG_MARKER, Messages.CLEAN_UP_JOB_WAS_INTERRUPTED);
+        } finally {
+            executor.shutdownNow();
+            timeoutScheduler.shutdownNow();
         }
 
         LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_JOB_FINISHED_AT_0, Instant.now()));
@@ -51,6 +81,37 @@ public class CleanUpJob implements Job {
             .minusSeconds(maxTtlForOldData));
     }
 
+    private Collection<List<Cleaner>> groupByOrder(List<Cleaner> cleaners) {
+        return cleaners.stream()
+            .collect(Collectors.groupingBy(this::getOrder, TreeMap::new, Collectors.toList()))
+            .values();
+    }
+
+    private int getOrder(Cleaner cleaner) {
+        return OrderUtils.getOrder(cleaner.getClass(), Ordered.LOWEST_PRECEDENCE);
+    }
+
+    private void executeConcurrently(List<Cleaner> cleaners, Date expirationTime, ExecutorService executor,
+                                     ScheduledExecutorService timeoutScheduler)
+        throws InterruptedException {
+        List<Future<?>> executions = new ArrayList<>();
+        for (Cleaner cleaner : cleaners) {
+            executions.add(executor.submit(new CleanerExecution(cleaner, expirationTime, timeoutScheduler)));
+        }
+        for (Future<?> execution : executions) {
+            waitFor(execution);
+        }
+    }
+
+    private void waitFor(Future<?> execution) throws InterruptedException {
+        try {
+            execution.get();
+        } catch (ExecutionException e) {
+            LOGGER.error(LOG_MARKER, format(Messages.ERROR_DURING_CLEAN_UP_0, e.getCause()
+                .getMessage()), e.getCause());
+        }
+    }
+
     private void executeSafely(Runnable r) {
         try {
             r.run();
@@ -59,4 +120,45 @@ public class CleanUpJob implements Job {
         }
     }
 
+    private class CleanerExecution implements Runnable {
+
+        private final Cleaner cleaner;
+        private final Date expirationTime;
+        private final ScheduledExecutorService timeoutScheduler;
+        // The thread is interrupted only while it executes the cleaner, so that the interruption cannot leak into the next task:
+        private Thread thread;
+
+        CleanerExecution(Cleaner cleaner, Date expirationTime, ScheduledExecutorService timeoutScheduler) {
+            this.cleaner = cleaner;
+            this.expirationTime = expirationTime;
+            this.timeoutScheduler = timeoutScheduler;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                thread = Thread.currentThread();
+            }
+            ScheduledFuture<?> timeout = timeoutScheduler.schedule(this::interrupt, configuration.getCleanUpJobCleanerTimeoutInSeconds(),
+                TimeUnit.SECONDS);
+            try {
+                executeSafely(() -> cleaner.execute(expirationTime));
+            } finally {
+                timeout.cancel(false);
+                synchronized (this) {
+                    thread = null;
+                }
+            }
+        }
+
+        private synchronized void interrupt() {
+            if (thread != null) {
+                LOGGER.warn(LOG_MARKER, format(Messages.CLEANER_0_EXCEEDED_ITS_TIMEOUT_OF_1_SECONDS, cleaner,
+                    configuration.getCleanUpJobCleanerTimeoutInSeconds()));
+                thread.interrupt();
+            }
+        }
+
+    }
+
 }
@@ -15,7 +15,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import com.sap.cloud.lm.sl.cf.persistence.services.FlowableHistoricDataService;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.common.SLException;
 
 @Component
 @Order(20)
@@ -25,28 +27,47 @@ public class FlowableHistoricDataCleaner implements Cleaner {
     private static final int PAGE_SIZE = 100;
 
     private final HistoryService historyService;
+    private final FlowableHistoricDataService historicDataService;
     private final int pageSize;
 
     @Inject
-    public FlowableHistoricDataCleaner(HistoryService historyService) {
-        this(historyService, PAGE_SIZE);
+    public FlowableHistoricDataCleaner(HistoryService historyService, FlowableHistoricDataService historicDataService) {
+        this(historyService, historicDataService, PAGE_SIZE);
     }
 
-    public FlowableHistoricDataCleaner(HistoryService historyService, int pageSize) {
+    public FlowableHistoricDataCleaner(HistoryService historyService, FlowableHistoricDataService historicDataService, int pageSize) {
         this.historyService = historyService;
+        this.historicDataService = historicDataService;
         this.pageSize = pageSize;
     }
 
     @Override
     public void execute(Date expirationTime) {
-        long deletedProcessesCount = 0;
+        long deletedProcessesCount = deleteExpiredProcessesInBulk(expirationTime);
+        // Deletes the processes that could not be deleted in bulk, if any, one by one:
         long expiredProcessesPages = getExpiredProcessesPageCount(expirationTime);
-        for (int i = 0; i < expiredProcessesPages; i++) {
+        for (int i = 0; i < expiredProcessesPages && !Thread.currentThread()
+            .isInterrupted(); i++) {
             deletedProcessesCount += deleteExpiredProcessesPage(expirationTime);
         }
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_HISTORIC_PROCESSES_0, deletedProcessesCount));
     }
 
+    private long deleteExpiredProcessesInBulk(Date expirationTime) {
+        long deletedProcessesCount = 0;
+        try {
+            int deletedProcessesInChunk;
+            do {
+                deletedProcessesInChunk = historicDataService.deleteFinishedProcessesStartedBefore(expirationTime, pageSize);
+                deletedProcessesCount += deletedProcessesInChunk;
+            } while (deletedProcessesInChunk == pageSize && !Thread.currentThread()
+                .isInterrupted());
+        } catch (SLException e) {
+            LOGGER.warn(CleanUpJob.LOG_MARKER, format(Messages.COULD_NOT_DELETE_HISTORIC_PROCESSES_IN_BULK_0, e.getMessage()), e);
+        }
+        return deletedProcessesCount;
+    }
+
     private long getExpiredProcessesPageCount(Date expirationTime) {
         return (long) Math.ceil((double) getExpiredProcessesCount(expirationTime) / pageSize);
     }
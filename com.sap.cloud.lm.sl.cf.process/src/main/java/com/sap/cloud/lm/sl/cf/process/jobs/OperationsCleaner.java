@@ -62,7 +62,8 @@ public class OperationsCleaner implements Cleaner {
                     abortedOperations++;
                 }
             }
-            if (pageSize > activeOperationsPage.size()) {
+            if (pageSize > activeOperationsPage.size() || Thread.currentThread()
+                .isInterrupted()) {
                 return abortedOperations;
             }
             pageIndex++;
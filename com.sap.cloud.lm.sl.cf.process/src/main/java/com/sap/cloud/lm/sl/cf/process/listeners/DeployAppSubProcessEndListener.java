@@ -1,11 +1,16 @@
 package com.sap.cloud.lm.sl.cf.process.listeners;
 
+import javax.inject.Inject;
+
 import org.cloudfoundry.client.lib.domain.CloudServiceBroker;
+import org.flowable.engine.RuntimeService;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.sap.cloud.lm.sl.cf.core.cf.DeploymentMode;
+import com.sap.cloud.lm.sl.cf.core.flowable.FlowableFacade;
 import com.sap.cloud.lm.sl.cf.process.Constants;
 import com.sap.cloud.lm.sl.cf.process.steps.StepsUtil;
 
@@ -15,12 +20,22 @@ public class DeployAppSubProcessEndListener extends AbstractProcessExecutionList
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(DeployAppSubProcessEndListener.class);
 
+    @Inject
+    private FlowableFacade flowableFacade;
+
     @Override
     protected void notifyInternal(DelegateExecution context) throws Exception {
+        RuntimeService runtimeService = flowableFacade.getProcessEngine()
+            .getRuntimeService();
         CloudServiceBroker cloudServiceBrokerExtended = StepsUtil.getCreatedOrUpdatedServiceBroker(context);
 
         if (cloudServiceBrokerExtended != null) {
-            StepsUtil.setVariableInParentProcess(context, Constants.VAR_APP_SERVICE_BROKER_VAR_PREFIX, cloudServiceBrokerExtended);
+            StepsUtil.setVariableInParentProcess(runtimeService, context, Constants.VAR_APP_SERVICE_BROKER_VAR_PREFIX,
+                cloudServiceBrokerExtended);
+        }
+        if (StepsUtil.getDeploymentMode(context) == DeploymentMode.PARALLEL) {
+            // Lets the modules, which are deployed after this one in the same iteration, proceed:
+            StepsUtil.setVariableInParentProcess(runtimeService, context, Constants.VAR_DEPLOYED_MODULE_VAR_PREFIX, true);
         }
     }
 
@@ -44,6 +44,8 @@ public class Messages {
     public static final String ERROR_VALIDATING_APPLICATIONS = "Could not validate applications";
     public static final String COULD_NOT_CONFIGURE_GIT_TO_SKIP_SSL = "Could not configure Git to skip SSL";
     public static final String ERROR_MERGING_ARCHIVE_PARTS = "Error merging archive parts: {0}";
+    public static final String ERROR_COMPRESSING_VARIABLE_VALUE = "Error compressing variable value: {0}";
+    public static final String ERROR_DECOMPRESSING_VARIABLE_VALUE = "Error decompressing variable value: {0}";
     public static final String ERROR_PROCESSING_ARCHIVE_PARTS_CONTENT = "Error processing archive parts content";
     public static final String BUILDING_ARCHIVE_FROM_PARTS = "Building archive from parts...";
     public static final String ERROR_DELETING_ARCHIVE_PARTS_CONTENT = "Error deleting archive parts content";
@@ -117,6 +119,7 @@ public class Messages {
     public static final String ERROR_STARTING_APP_2 = "Starting of application \"{0}\" failed. Download the application logs via the dmol command and check them for more information.";
     public static final String ERROR_EXECUTING_APP_1 = "Error executing application \"{0}\"";
     public static final String ERROR_EXECUTING_APP_2 = "Error executing application \"{0}\": {1}";
+    public static final String MODULES_NOT_DEPLOYED_BECAUSE_OPERATION_FAILED = "Module \"{0}\" cannot be deployed, as the operation failed before modules {1} were deployed";
     public static final String ERROR_PREPARING_TO_EXECUTE_TASKS_ON_APP = "Error preparing to execute tasks on application \"{0}\"";
     public static final String ERROR_EXECUTING_TASK_ON_APP = "Execution of task \"{0}\" failed. Download the application logs \"{1}\", via the dmol command, and check them for more information.";
     public static final String ERROR_DETECTING_COMPONENTS_TO_UNDEPLOY = "Error detecting components to undeploy";
@@ -142,6 +145,7 @@ public class Messages {
     public static final String ERROR_UPDATING_OPTIONAL_SERVICE = "Error updating optional service \"{0}\" from offering \"{1}\" and plan \"{2}\": {3}";
     public static final String ERROR_DELETING_OPTIONAL_SERVICE = "Error deleting optional service \"{0}\" from offering \"{1}\" and plan \"{2}\": {3}";
     public static final String ERROR_MONITORING_CREATION_OF_SERVICES = "Error monitoring creation of services";
+    public static final String INTERRUPTED_WHILE_WAITING_FOR_CONCURRENT_TASKS = "Interrupted while waiting for concurrent tasks to complete";
     public static final String SERVICES_ARE_ALREADY_DELETED = "Services \"{0}\" are already deleted";
 
     // WARN log messages
@@ -149,6 +153,7 @@ public class Messages {
     public static final String CANNOT_RETRIEVE_INSTANCE_OF_SERVICE = "Cannot retrieve instance of service {0}";
     public static final String COULD_NOT_DELETE_PROVIDED_DEPENDENCY = "Could not delete published provided dependency \"{0}\" from configuration registry";
     public static final String COULD_NOT_DELETE_ROUTE_FOR_PORT = "Could not delete route for allocated port \"{0}\"";
+    public static final String COULD_NOT_DELETE_ROUTE = "Could not delete route \"{0}\"";
     public static final String COULD_NOT_DELETE_SERVICE = "Could not delete service \"{0}\", as it does not exist";
     public static final String COULD_NOT_COMPUTE_DEFAULT_DOMAIN = "Could not compute the default domain";
     public static final String COULD_NOT_DELETE_SUBSCRIPTION = "Could not delete subscription for application \"{0}\" and resource \"{1}\"";
@@ -176,7 +181,10 @@ public class Messages {
     public static final String DEFAULT_FAILED_OPERATION_DESCRIPTION = "The service broker returned an error with no description!";
     public static final String ERROR_DURING_CLEAN_UP_0 = "Error during clean-up: {0}";
     public static final String COULD_NOT_DELETE_HISTORIC_PROCESS_0 = "Could not delete historic process \"{0}\"";
+    public static final String COULD_NOT_DELETE_HISTORIC_PROCESSES_IN_BULK_0 = "Could not delete historic processes in bulk: {0}. They will be deleted one by one.";
     public static final String COULD_NOT_ABORT_OPERATION_0 = "Could not abort operation \"{0}\"";
+    public static final String CLEANER_0_EXCEEDED_ITS_TIMEOUT_OF_1_SECONDS = "Cleaner \"{0}\" exceeded its timeout of {1} seconds and will be interrupted. The rest of its data will be cleaned up during the next run of the clean-up job.";
+    public static final String CLEAN_UP_JOB_WAS_INTERRUPTED = "Clean-up job was interrupted";
     public static final String SKIP_SERVICES_DELETION = "Skipping deletion of services, because the command line option \"--delete-services\" is not specified.";
     public static final String UNSUPPORTED_MINOR_VERSION = "Used verion \"{0}\" is higher than the supported ones. Some features might not be implemented.";
     public static final String APPLICATION_NOT_STAGED_CORRECTLY = "Application \"{0}\" was not staged correctly during the previous deployment";
@@ -282,6 +290,7 @@ public class Messages {
     public static final String SERVICE_BROKER_DOES_NOT_EXIST = "Service broker with name \"{0}\" does not exist";
     public static final String EXCEPTION_OCCURED_ERROR_MSG = "Exception occured during execution: \"{0}\"";
     public static final String EXECUTING_HOOK_0 = "Executing hook \"{0}\"";
+    public static final String WAITING_FOR_MODULES_TO_BE_DEPLOYED = "Module \"{0}\" will be deployed after modules {1} are deployed...";
 
     // DEBUG log messages
     public static final String CLIENT_EXTENSIONS_ARE_NOT_SUPPORTED = "Client extensions are not supported";
@@ -346,6 +355,7 @@ public class Messages {
     public static final String PREPARING_MODULES_DEPLOYMENT = "Preparing modules deployment...";
     public static final String COMPUTING_NEXT_MODULES_FOR_PARALLEL_ITERATION = "Computing modules for next parallel iteration...";
     public static final String COMPUTED_NEXT_MODULES_FOR_PARALLEL_ITERATION = "Computed modules for next parallel iteration: {0}";
+    public static final String MODULES_DEPLOYED = "Modules {0} deployed";
     public static final String CHECKING_APP = "Checking application \"{0}\"...";
     public static final String CHECKING_APP_STATUS = "Checking status of application \"{0}\"...";
     public static final String APP_EXISTS = "Application \"{0}\" exists";
@@ -463,6 +473,7 @@ public class Messages {
     public static final String EXCEPTION_CAUGHT = "Exception caught";
     public static final String UNEXPECTED_ERROR = "Unexpected error: {0}";
     public static final String SAVING_ERROR_MESSAGE_FAILED = "Saving error message failed";
+    public static final String SAVING_PROGRESS_MESSAGES_FAILED = "Saving progress messages failed";
     public static final String STEP_FINISHED = "Step \"{0}\" finished";
     public static final String COMPUTING_STATE_OF_OPERATION = "Computing state of operation {0} with ID: {1}";
     public static final String ROUTES_FOR_APPLICATION = "Routes for application {0}: {1}";
@@ -11,13 +11,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.inject.Inject;
+
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.cloudfoundry.client.lib.CloudControllerException;
 import org.cloudfoundry.client.lib.CloudOperationException;
 import org.cloudfoundry.client.lib.domain.CloudApplication;
 import org.cloudfoundry.client.lib.domain.CloudService;
 import org.cloudfoundry.client.lib.domain.CloudServiceBinding;
-import org.cloudfoundry.client.lib.domain.CloudServiceInstance;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
@@ -30,12 +31,17 @@ import com.sap.cloud.lm.sl.cf.core.model.ApplicationMtaMetadata;
 import com.sap.cloud.lm.sl.cf.core.model.DeployedMta;
 import com.sap.cloud.lm.sl.cf.core.model.DeployedMtaModule;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshot;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 import com.sap.cloud.lm.sl.common.SLException;
 
 @Component("checkForCreationConflictsStep")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class CheckForCreationConflictsStep extends SyncFlowableStep {
 
+    @Inject
+    private ServicesSnapshotCache servicesSnapshotCache;
+
     @Override
     protected StepPhase executeStep(ExecutionWrapper execution) throws CloudOperationException, SLException {
         DeployedMta deployedMta = StepsUtil.getDeployedMta(execution.getContext());
@@ -73,24 +79,25 @@ public class CheckForCreationConflictsStep extends SyncFlowableStep {
     private void validateServicesToCreate(CloudControllerClient client, DelegateExecution context, DeployedMta deployedMta,
         List<CloudApplication> deployedApps) {
         List<CloudServiceExtended> servicesToCreate = StepsUtil.getServicesToCreate(context);
-        Map<String, CloudService> existingServicesMap = createExistingServicesMap(client.getServices());
+        ServicesSnapshot servicesSnapshot = servicesSnapshotCache.get(StepsUtil.getCorrelationId(context), client);
+        Map<String, CloudService> existingServicesMap = createExistingServicesMap(servicesSnapshot.getServices());
         Set<String> servicesInDeployedMta = deployedMta != null ? deployedMta.getServices() : Collections.emptySet();
         for (CloudServiceExtended service : servicesToCreate) {
             if (existingServicesMap.containsKey(service.getName())) {
-                validateExistingServiceAssociation(service, client, deployedApps, servicesInDeployedMta);
+                validateExistingServiceAssociation(service, client, servicesSnapshot, deployedApps, servicesInDeployedMta);
             }
         }
     }
 
     private void validateExistingServiceAssociation(CloudServiceExtended serviceToCreate, CloudControllerClient client,
-        List<CloudApplication> deployedApps, Set<String> servicesInDeployedMta) {
+        ServicesSnapshot servicesSnapshot, List<CloudApplication> deployedApps, Set<String> servicesInDeployedMta) {
 
         getStepLogger().debug(Messages.VALIDATING_EXISTING_SERVICE_ASSOCIATION, serviceToCreate.getName());
         if (servicesInDeployedMta.contains(serviceToCreate.getName())) {
             return;
         }
 
-        List<CloudServiceBinding> bindings = getServiceBindings(client, serviceToCreate);
+        List<CloudServiceBinding> bindings = getServiceBindings(client, servicesSnapshot, serviceToCreate);
         if (bindings.isEmpty()) {
             getStepLogger().warn(Messages.SERVICE_DOESNT_HAVE_BOUND_COMPONENTS, serviceToCreate.getName());
             return;
@@ -128,9 +135,12 @@ public class CheckForCreationConflictsStep extends SyncFlowableStep {
             .contains(service.getName());
     }
 
-    private List<CloudServiceBinding> getServiceBindings(CloudControllerClient client, CloudServiceExtended service) {
-        CloudServiceInstance serviceInstance = client.getServiceInstance(service.getName());
-        return serviceInstance.getBindings();
+    private List<CloudServiceBinding> getServiceBindings(CloudControllerClient client, ServicesSnapshot servicesSnapshot,
+        CloudServiceExtended service) {
+        List<CloudServiceBinding> bindings = servicesSnapshot.getServiceBindings(service.getName());
+        // The services that were changed after the snapshot was taken are invalidated in it:
+        return bindings != null ? bindings : client.getServiceInstance(service.getName())
+            .getBindings();
     }
 
     private void validateApplicationsToDeploy(DelegateExecution context, DeployedMta deployedMta, List<CloudApplication> deployedApps) {
@@ -1,6 +1,8 @@
 package com.sap.cloud.lm.sl.cf.process.steps;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.ListUtils;
@@ -37,6 +39,9 @@ public class ComputeNextModulesStep extends SyncFlowableStep {
         // Set next iteration data
         List<Module> modulesForNextIteration = computeApplicationsForNextIteration(allModulesToDeploy, dependencyChecker);
         StepsUtil.setModulesToIterateInParallel(execution.getContext(), modulesForNextIteration);
+        // The modules may have been deployed already in a previous phase of the process (e.g. before being restarted), so they are marked
+        // as deployed only once they are deployed in this iteration:
+        StepsUtil.removeDeployedModules(execution.getContext(), modulesForNextIteration);
 
         // Mark next iteration data as computed
         StepsUtil.setIteratedModulesInParallel(execution.getContext(), ListUtils.union(completedModules, modulesForNextIteration));
@@ -49,8 +54,22 @@ public class ComputeNextModulesStep extends SyncFlowableStep {
         allModulesToDeploy.removeIf(module -> dependencyChecker.getAlreadyDeployedModules()
             .contains(module.getName()));
 
+        // The modules are deployed in the same iteration as the modules they depend on, as their deployment waits only for the deployment
+        // of these modules to complete (see WaitForModuleDependenciesStep) and not for the deployment of the whole iteration:
+        Set<String> modulesForNextIteration = new HashSet<>();
+        boolean modulesForNextIterationChanged = true;
+        while (modulesForNextIterationChanged) {
+            modulesForNextIterationChanged = false;
+            for (Module module : allModulesToDeploy) {
+                if (!modulesForNextIteration.contains(module.getName())
+                    && dependencyChecker.areAllDependenciesSatisfied(module, modulesForNextIteration)) {
+                    modulesForNextIteration.add(module.getName());
+                    modulesForNextIterationChanged = true;
+                }
+            }
+        }
         return allModulesToDeploy.stream()
-            .filter(dependencyChecker::areAllDependenciesSatisfied)
+            .filter(module -> modulesForNextIteration.contains(module.getName()))
             .collect(Collectors.toList());
     }
 }
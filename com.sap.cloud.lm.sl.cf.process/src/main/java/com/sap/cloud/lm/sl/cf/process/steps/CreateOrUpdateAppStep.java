@@ -47,6 +47,7 @@ import com.sap.cloud.lm.sl.cf.process.util.ElementUpdater.UpdateBehavior;
 import com.sap.cloud.lm.sl.cf.process.util.EnvironmentApplicationAttributeUpdater;
 import com.sap.cloud.lm.sl.cf.process.util.MemoryApplicationAttributeUpdater;
 import com.sap.cloud.lm.sl.cf.process.util.ServiceOperationUtil;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 import com.sap.cloud.lm.sl.cf.process.util.StagingApplicationAttributeUpdater;
 import com.sap.cloud.lm.sl.cf.process.util.UrisApplicationAttributeUpdater;
 import com.sap.cloud.lm.sl.common.SLException;
@@ -64,6 +65,9 @@ public class CreateOrUpdateAppStep extends SyncFlowableStep {
     @Autowired
     protected ApplicationConfiguration configuration;
 
+    @Autowired
+    private ServicesSnapshotCache servicesSnapshotCache;
+
     protected Supplier<Boolean> shouldPrettyPrint = () -> true;
 
     @Override
@@ -81,7 +85,12 @@ public class CreateOrUpdateAppStep extends SyncFlowableStep {
 
             flowHandler.handleApplicationAttributes();
             flowHandler.injectServiceKeysCredentialsInAppEnv();
-            flowHandler.handleApplicationServices();
+            try {
+                flowHandler.handleApplicationServices();
+            } finally {
+                // The bindings of the services are changed, even if binding or unbinding some of them failed:
+                invalidateServices(execution.getContext(), app, existingApp);
+            }
             flowHandler.handleApplicationEnv();
 
             flowHandler.printStepEndMessage();
@@ -97,6 +106,15 @@ public class CreateOrUpdateAppStep extends SyncFlowableStep {
         }
     }
 
+    private void invalidateServices(DelegateExecution context, CloudApplicationExtended app, CloudApplication existingApp) {
+        Set<String> services = new HashSet<>(app.getServices());
+        if (existingApp != null) {
+            services.addAll(existingApp.getServices());
+        }
+        String correlationId = StepsUtil.getCorrelationId(context);
+        services.forEach(service -> servicesSnapshotCache.invalidate(correlationId, service));
+    }
+
     private StepFlowHandler createStepFlowHandler(ExecutionWrapper execution, CloudControllerClient client, CloudApplicationExtended app,
         CloudApplication existingApp) {
         if (existingApp == null) {
@@ -17,7 +17,6 @@ import com.sap.cloud.lm.sl.cf.core.model.ConfigurationEntry;
 import com.sap.cloud.lm.sl.cf.core.util.ConfigurationEntriesUtil;
 import com.sap.cloud.lm.sl.cf.process.Constants;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
-import com.sap.cloud.lm.sl.common.NotFoundException;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
 
 @Component("deleteDiscontinuedConfigurationEntriesStep")
@@ -43,10 +42,11 @@ public class DeleteDiscontinuedConfigurationEntriesStep extends SyncFlowableStep
 
         List<ConfigurationEntry> entriesToDelete = getEntriesToDelete(mtaId, target, publishedEntries);
         for (ConfigurationEntry entry : entriesToDelete) {
-            try {
-                getStepLogger().info(MessageFormat.format(Messages.DELETING_DISCONTINUED_DEPENDENCY_0, entry.getProviderId()));
-                configurationEntryDao.remove(entry.getId());
-            } catch (NotFoundException e) {
+            getStepLogger().info(MessageFormat.format(Messages.DELETING_DISCONTINUED_DEPENDENCY_0, entry.getProviderId()));
+        }
+        List<Long> deletedEntryIds = configurationEntryDao.remove(getEntryIds(entriesToDelete));
+        for (ConfigurationEntry entry : entriesToDelete) {
+            if (!deletedEntryIds.contains(entry.getId())) {
                 getStepLogger().warn(Messages.COULD_NOT_DELETE_PROVIDED_DEPENDENCY, entry.getProviderId());
             }
         }
@@ -1,24 +1,38 @@
 package com.sap.cloud.lm.sl.cf.process.steps;
 
 import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
 
 import org.apache.commons.collections4.ListUtils;
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.cloudfoundry.client.lib.CloudControllerException;
 import org.cloudfoundry.client.lib.CloudOperationException;
 import org.cloudfoundry.client.lib.domain.CloudApplication;
+import org.cloudfoundry.client.lib.domain.CloudRoute;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import com.sap.cloud.lm.sl.cf.core.cf.clients.RouteCleaner;
 import com.sap.cloud.lm.sl.cf.core.helpers.ClientHelper;
+import com.sap.cloud.lm.sl.cf.core.util.UriUtil;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.cf.process.util.ConcurrentTaskRunner;
 
 @Component("deleteIdleRoutesStep")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class DeleteIdleRoutesStep extends SyncFlowableStep {
 
+    private static final int MAX_PARALLEL_ROUTE_DELETIONS = 8;
+    private static final ConcurrentTaskRunner ROUTE_DELETIONS_RUNNER = new ConcurrentTaskRunner("route-deleter",
+        MAX_PARALLEL_ROUTE_DELETIONS);
+
+    @Inject
+    private RouteCleaner routeCleaner;
+
     @Override
     protected StepPhase executeStep(ExecutionWrapper execution) {
         try {
@@ -36,9 +50,8 @@ public class DeleteIdleRoutesStep extends SyncFlowableStep {
             List<String> idleUris = ListUtils.subtract(existingApp.getUris(), app.getUris());
             getStepLogger().debug(Messages.IDLE_URIS_FOR_APPLICATION, idleUris);
 
-            for (String idleUri : idleUris) {
-                deleteRoute(idleUri, client);
-                getStepLogger().debug(Messages.ROUTE_DELETED, idleUri);
+            if (!idleUris.isEmpty()) {
+                deleteRoutes(client, StepsUtil.getSpaceId(execution.getContext()), idleUris);
             }
 
             getStepLogger().debug(Messages.IDLE_URIS_DELETED);
@@ -50,16 +63,75 @@ public class DeleteIdleRoutesStep extends SyncFlowableStep {
         }
     }
 
-    private void deleteRoute(String uri, CloudControllerClient client) {
+    private void deleteRoutes(CloudControllerClient client, String spaceGuid, List<String> uris) {
+        List<CloudRoute> spaceRoutes = routeCleaner.getRoutes(client, spaceGuid);
+        // The failure of one deletion does not stop the others. The first failure is rethrown after all of them have completed:
+        List<RouteDeletion> routeDeletions = ROUTE_DELETIONS_RUNNER.run(uris, uri -> deleteRoute(client, spaceRoutes, uri));
+        // The outcomes are logged here, because the step logger may be used only by the thread of the step:
+        RuntimeException firstFailure = null;
+        for (RouteDeletion routeDeletion : routeDeletions) {
+            logRouteDeletion(routeDeletion);
+            if (routeDeletion.failure != null && firstFailure == null) {
+                firstFailure = routeDeletion.failure;
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    private RouteDeletion deleteRoute(CloudControllerClient client, List<CloudRoute> spaceRoutes, String uri) {
+        RouteDeletion routeDeletion = new RouteDeletion(uri);
         try {
-            new ClientHelper(client).deleteRoute(uri);
+            Optional<CloudRoute> route = findRoute(spaceRoutes, uri);
+            if (route.isPresent()) {
+                routeCleaner.deleteRoute(client, route.get());
+            } else {
+                // Routes that are not matched by host and domain, like the TCP ones, are looked up by the client:
+                new ClientHelper(client).deleteRoute(uri);
+            }
         } catch (CloudOperationException e) {
-            if (!e.getStatusCode()
+            if (e.getStatusCode()
                 .equals(HttpStatus.CONFLICT)) {
-                throw e;
+                routeDeletion.conflict = true;
+            } else {
+                routeDeletion.failure = e;
             }
-            getStepLogger().info(Messages.ROUTE_NOT_DELETED, uri);
+        } catch (RuntimeException e) {
+            routeDeletion.failure = e;
+        }
+        return routeDeletion;
+    }
+
+    private void logRouteDeletion(RouteDeletion routeDeletion) {
+        if (routeDeletion.failure != null) {
+            getStepLogger().warn(routeDeletion.failure, Messages.COULD_NOT_DELETE_ROUTE, routeDeletion.uri);
+        } else if (routeDeletion.conflict) {
+            getStepLogger().info(Messages.ROUTE_NOT_DELETED, routeDeletion.uri);
+        } else {
+            getStepLogger().debug(Messages.ROUTE_DELETED, routeDeletion.uri);
+        }
+    }
+
+    private Optional<CloudRoute> findRoute(List<CloudRoute> routes, String uri) {
+        return routes.stream()
+            .filter(route -> UriUtil.routeMatchesUri(route, uri))
+            .findFirst();
+    }
+
+    /**
+     * The outcome of the deletion of a single route: deleted, not deleted because it is still in use, or failed.
+     */
+    private static class RouteDeletion {
+
+        private final String uri;
+        private boolean conflict;
+        private RuntimeException failure;
+
+        RouteDeletion(String uri) {
+            this.uri = uri;
         }
+
     }
 
 }
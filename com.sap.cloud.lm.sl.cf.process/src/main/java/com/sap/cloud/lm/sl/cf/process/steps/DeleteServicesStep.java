@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -32,7 +33,12 @@ import com.sap.cloud.lm.sl.cf.client.lib.domain.ImmutableCloudServiceExtended;
 import com.sap.cloud.lm.sl.cf.core.cf.clients.EventsGetter;
 import com.sap.cloud.lm.sl.cf.core.cf.services.ServiceOperationType;
 import com.sap.cloud.lm.sl.cf.core.security.serialization.SecureSerializationFacade;
+import com.sap.cloud.lm.sl.cf.core.util.UserMessageLogger;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.cf.process.util.ConcurrentTaskRunner;
+import com.sap.cloud.lm.sl.cf.process.util.DeferredUserMessageLogger;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshot;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 import com.sap.cloud.lm.sl.common.SLException;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
 
@@ -40,11 +46,18 @@ import com.sap.cloud.lm.sl.common.util.JsonUtil;
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class DeleteServicesStep extends AsyncFlowableStep {
 
+    private static final int MAX_PARALLEL_SERVICE_OPERATIONS = 8;
+    private static final ConcurrentTaskRunner SERVICE_OPERATIONS_RUNNER = new ConcurrentTaskRunner("service-deleter",
+        MAX_PARALLEL_SERVICE_OPERATIONS);
+
     private SecureSerializationFacade secureSerializer = new SecureSerializationFacade();
 
     @Inject
     private EventsGetter eventsGetter;
 
+    @Inject
+    private ServicesSnapshotCache servicesSnapshotCache;
+
     @Override
     protected StepPhase executeAsyncStep(ExecutionWrapper execution) throws Exception {
         try {
@@ -59,7 +72,12 @@ public class DeleteServicesStep extends AsyncFlowableStep {
                 return StepPhase.DONE;
             }
 
-            Map<String, CloudServiceExtended> servicesData = getServicesData(servicesToDelete, execution);
+            String correlationId = StepsUtil.getCorrelationId(execution.getContext());
+            // The applications, which were bound to the services, may have been unbound or deleted since the snapshot was taken:
+            servicesSnapshotCache.invalidate(correlationId);
+            ServicesSnapshot servicesSnapshot = servicesSnapshotCache.get(correlationId, client);
+
+            Map<String, CloudServiceExtended> servicesData = getServicesData(servicesToDelete, servicesSnapshot);
             List<String> servicesWithoutData = getServicesWithoutData(servicesToDelete, servicesData);
             if (!servicesWithoutData.isEmpty()) {
                 execution.getStepLogger()
@@ -68,7 +86,12 @@ public class DeleteServicesStep extends AsyncFlowableStep {
             }
             StepsUtil.setServicesData(execution.getContext(), servicesData);
 
-            Map<String, ServiceOperationType> triggeredServiceOperations = deleteServices(client, servicesToDelete);
+            Map<String, ServiceOperationType> triggeredServiceOperations;
+            try {
+                triggeredServiceOperations = deleteServices(client, servicesSnapshot, servicesToDelete);
+            } finally {
+                servicesSnapshotCache.invalidate(correlationId);
+            }
 
             execution.getStepLogger()
                 .debug(Messages.TRIGGERED_SERVICE_OPERATIONS, JsonUtil.toJson(triggeredServiceOperations, true));
@@ -82,11 +105,9 @@ public class DeleteServicesStep extends AsyncFlowableStep {
         }
     }
 
-    private Map<String, CloudServiceExtended> getServicesData(List<String> serviceNames, ExecutionWrapper execution) {
-        CloudControllerClient client = execution.getControllerClient();
-
-        return serviceNames.parallelStream()
-            .map(name -> client.getService(name, false))
+    private Map<String, CloudServiceExtended> getServicesData(List<String> serviceNames, ServicesSnapshot servicesSnapshot) {
+        return serviceNames.stream()
+            .map(servicesSnapshot::getService)
             .filter(Objects::nonNull)
             .map(service -> ImmutableCloudServiceExtended.builder()
                 .metadata(service.getMetadata())
@@ -101,65 +122,99 @@ public class DeleteServicesStep extends AsyncFlowableStep {
             .collect(Collectors.toList());
     }
 
-    private Map<String, ServiceOperationType> deleteServices(CloudControllerClient client, List<String> serviceNames) {
+    private Map<String, ServiceOperationType> deleteServices(CloudControllerClient client, ServicesSnapshot servicesSnapshot,
+        List<String> serviceNames) {
         Map<String, ServiceOperationType> triggeredServiceOperations = new HashMap<>();
-
-        for (String serviceName : serviceNames) {
-            try {
-                prepareServicesToDelete(client, serviceName);
-                deleteService(client, serviceName);
-                triggeredServiceOperations.put(serviceName, ServiceOperationType.DELETE);
-            } catch (CloudException e) {
-                processException(e, client.getServiceInstance(serviceName), serviceName);
+        BoundApplications boundApplications = new BoundApplications(client);
+
+        List<ServiceDeletion> serviceDeletions = SERVICE_OPERATIONS_RUNNER.run(serviceNames,
+            serviceName -> deleteService(client, servicesSnapshot, boundApplications, serviceName));
+        // The messages of the deletions are logged here, because the step logger may be used only by the thread of the step:
+        RuntimeException firstFailure = null;
+        for (ServiceDeletion serviceDeletion : serviceDeletions) {
+            serviceDeletion.messages.logTo(getStepLogger());
+            if (serviceDeletion.operation != null) {
+                triggeredServiceOperations.put(serviceDeletion.serviceName, serviceDeletion.operation);
             }
+            if (serviceDeletion.failure != null && firstFailure == null) {
+                firstFailure = serviceDeletion.failure;
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
         }
         return triggeredServiceOperations;
     }
 
-    private void prepareServicesToDelete(CloudControllerClient client, String serviceName) {
-        unbindService(client, serviceName);
-        deleteServiceKeys(client, serviceName);
+    private ServiceDeletion deleteService(CloudControllerClient client, ServicesSnapshot servicesSnapshot,
+        BoundApplications boundApplications, String serviceName) {
+        ServiceDeletion serviceDeletion = new ServiceDeletion(serviceName);
+        try {
+            serviceDeletion.operation = deleteService(client, servicesSnapshot, boundApplications, serviceName, serviceDeletion.messages);
+        } catch (RuntimeException e) {
+            serviceDeletion.failure = e;
+        }
+        return serviceDeletion;
+    }
+
+    private ServiceOperationType deleteService(CloudControllerClient client, ServicesSnapshot servicesSnapshot,
+        BoundApplications boundApplications, String serviceName, UserMessageLogger messages) {
+        try {
+            prepareServicesToDelete(client, servicesSnapshot, boundApplications, serviceName, messages);
+            deleteService(client, serviceName, messages);
+            return ServiceOperationType.DELETE;
+        } catch (CloudException e) {
+            processException(e, client.getServiceInstance(serviceName), serviceName, messages);
+            return null;
+        }
     }
 
-    private void unbindService(CloudControllerClient client, String serviceName) {
-        CloudServiceInstance serviceInstance = client.getServiceInstance(serviceName);
-        List<CloudServiceBinding> bindings = serviceInstance.getBindings();
+    private void prepareServicesToDelete(CloudControllerClient client, ServicesSnapshot servicesSnapshot,
+        BoundApplications boundApplications, String serviceName, UserMessageLogger messages) {
+        unbindService(client, servicesSnapshot, boundApplications, serviceName, messages);
+        deleteServiceKeys(client, servicesSnapshot, serviceName, messages);
+    }
+
+    private void unbindService(CloudControllerClient client, ServicesSnapshot servicesSnapshot, BoundApplications boundApplications,
+        String serviceName, UserMessageLogger messages) {
+        List<CloudServiceBinding> bindings = servicesSnapshot.getServiceBindings(serviceName);
         if (bindings.isEmpty()) {
             return;
         }
-        logBindings(bindings);
+        logBindings(bindings, messages);
         for (CloudServiceBinding binding : bindings) {
-            CloudApplication application = StepsUtil.getBoundApplication(client.getApplications(), binding.getApplicationGuid());
+            CloudApplication application = boundApplications.get(binding.getApplicationGuid());
             if (application == null) {
                 throw new IllegalStateException(
                     MessageFormat.format(Messages.COULD_NOT_FIND_APPLICATION_WITH_GUID_0, binding.getApplicationGuid()));
             }
-            getStepLogger().info(Messages.UNBINDING_APP_FROM_SERVICE, application.getName(), serviceName);
+            messages.info(Messages.UNBINDING_APP_FROM_SERVICE, application.getName(), serviceName);
             client.unbindService(application.getName(), serviceName);
         }
     }
 
-    private void deleteServiceKeys(CloudControllerClient client, String serviceName) {
-        CloudService service = client.getService(serviceName);
+    private void deleteServiceKeys(CloudControllerClient client, ServicesSnapshot servicesSnapshot, String serviceName,
+        UserMessageLogger messages) {
+        CloudService service = servicesSnapshot.getService(serviceName);
         if (service.isUserProvided()) {
             return;
         }
-        List<CloudServiceKey> serviceKeys = client.getServiceKeys(serviceName);
+        List<CloudServiceKey> serviceKeys = servicesSnapshot.getServiceKeys(serviceName);
         for (CloudServiceKey serviceKey : serviceKeys) {
-            getStepLogger().info(Messages.DELETING_SERVICE_KEY_FOR_SERVICE, serviceKey.getName(), serviceName);
+            messages.info(Messages.DELETING_SERVICE_KEY_FOR_SERVICE, serviceKey.getName(), serviceName);
             client.deleteServiceKey(serviceName, serviceKey.getName());
         }
     }
 
-    private void deleteService(CloudControllerClient client, String serviceName) {
-        getStepLogger().info(Messages.DELETING_SERVICE, serviceName);
+    private void deleteService(CloudControllerClient client, String serviceName, UserMessageLogger messages) {
+        messages.info(Messages.DELETING_SERVICE, serviceName);
         client.deleteService(serviceName);
-        getStepLogger().debug(Messages.SERVICE_DELETED, serviceName);
+        messages.debug(Messages.SERVICE_DELETED, serviceName);
     }
 
-    private void processException(Exception e, CloudServiceInstance serviceInstance, String serviceName) {
+    private void processException(Exception e, CloudServiceInstance serviceInstance, String serviceName, UserMessageLogger messages) {
         if (e instanceof CloudOperationException) {
-            e = evaluateCloudOperationException((CloudOperationException) e, serviceName);
+            e = evaluateCloudOperationException((CloudOperationException) e, serviceName, messages);
             if (e == null) {
                 return;
             }
@@ -167,9 +222,10 @@ public class DeleteServicesStep extends AsyncFlowableStep {
         wrapAndThrowException(e, serviceInstance, serviceName);
     }
 
-    private CloudOperationException evaluateCloudOperationException(CloudOperationException e, String serviceName) {
+    private CloudOperationException evaluateCloudOperationException(CloudOperationException e, String serviceName,
+        UserMessageLogger messages) {
         if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-            getStepLogger().warn(e, Messages.COULD_NOT_DELETE_SERVICE, serviceName);
+            messages.warn(e, Messages.COULD_NOT_DELETE_SERVICE, serviceName);
             return null;
         }
         if (e.getStatusCode() == HttpStatus.BAD_GATEWAY) {
@@ -193,8 +249,8 @@ public class DeleteServicesStep extends AsyncFlowableStep {
             e.getMessage());
     }
 
-    private void logBindings(List<CloudServiceBinding> bindings) {
-        getStepLogger().debug(Messages.SERVICE_BINDINGS_EXISTS, secureSerializer.toJson(bindings));
+    private void logBindings(List<CloudServiceBinding> bindings, UserMessageLogger messages) {
+        messages.debug(Messages.SERVICE_BINDINGS_EXISTS, secureSerializer.toJson(bindings));
     }
 
     @Override
@@ -202,4 +258,41 @@ public class DeleteServicesStep extends AsyncFlowableStep {
         return Arrays.asList(new PollServiceDeleteOperationsExecution(eventsGetter));
     }
 
+    /**
+     * The outcome of the deletion of a single service, which is logged and reported by the thread of the step.
+     */
+    private static class ServiceDeletion {
+
+        private final String serviceName;
+        private final DeferredUserMessageLogger messages = new DeferredUserMessageLogger();
+        private ServiceOperationType operation;
+        private RuntimeException failure;
+
+        ServiceDeletion(String serviceName) {
+            this.serviceName = serviceName;
+        }
+
+    }
+
+    /**
+     * Lists the applications of the space only once per step and only if any of the deleted services has bindings.
+     */
+    private static class BoundApplications {
+
+        private final CloudControllerClient client;
+        private List<CloudApplication> applications;
+
+        BoundApplications(CloudControllerClient client) {
+            this.client = client;
+        }
+
+        synchronized CloudApplication get(UUID applicationGuid) {
+            if (applications == null) {
+                applications = client.getApplications();
+            }
+            return StepsUtil.getBoundApplication(applications, applicationGuid);
+        }
+
+    }
+
 }
@@ -2,7 +2,9 @@ package com.sap.cloud.lm.sl.cf.process.steps;
 
 import java.text.MessageFormat;
 import java.util.List;
-import java.util.function.Function;
+import java.util.function.BiFunction;
+
+import javax.inject.Inject;
 
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.cloudfoundry.client.lib.CloudControllerException;
@@ -12,7 +14,7 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
-import com.sap.cloud.lm.sl.cf.core.cf.detect.DeployedComponentsDetector;
+import com.sap.cloud.lm.sl.cf.core.cf.detect.DeployedComponentsIndex;
 import com.sap.cloud.lm.sl.cf.core.model.DeployedComponents;
 import com.sap.cloud.lm.sl.cf.core.model.DeployedMta;
 import com.sap.cloud.lm.sl.cf.core.security.serialization.SecureSerializationFacade;
@@ -27,8 +29,11 @@ public class DetectDeployedMtaStep extends SyncFlowableStep {
 
     private SecureSerializationFacade secureSerializer = new SecureSerializationFacade();
 
-    protected Function<List<CloudApplication>, DeployedComponents> componentsDetector = deployedApps -> new DeployedComponentsDetector()
-        .detectAllDeployedComponents(deployedApps);
+    @Inject
+    private DeployedComponentsIndex deployedComponentsIndex;
+
+    protected BiFunction<String, List<CloudApplication>, DeployedComponents> componentsDetector = (spaceId,
+        deployedApps) -> deployedComponentsIndex.detectAllDeployedComponents(spaceId, deployedApps);
 
     @Override
     protected StepPhase executeStep(ExecutionWrapper execution) {
@@ -42,7 +47,7 @@ public class DetectDeployedMtaStep extends SyncFlowableStep {
             String mtaId = (String) execution.getContext()
                 .getVariable(Constants.PARAM_MTA_ID);
 
-            DeployedMta deployedMta = componentsDetector.apply(deployedApps)
+            DeployedMta deployedMta = componentsDetector.apply(StepsUtil.getSpaceId(execution.getContext()), deployedApps)
                 .findDeployedMta(mtaId);
             if (deployedMta == null) {
                 getStepLogger().info(Messages.NO_DEPLOYED_MTA_DETECTED);
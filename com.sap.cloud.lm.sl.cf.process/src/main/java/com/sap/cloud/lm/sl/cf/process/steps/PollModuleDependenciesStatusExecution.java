@@ -0,0 +1,51 @@
+package com.sap.cloud.lm.sl.cf.process.steps;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.delegate.DelegateExecution;
+
+import com.sap.cloud.lm.sl.cf.core.flowable.FlowableFacade;
+import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.cf.web.api.model.State;
+
+public class PollModuleDependenciesStatusExecution implements AsyncExecution {
+
+    private final FlowableFacade flowableFacade;
+
+    public PollModuleDependenciesStatusExecution(FlowableFacade flowableFacade) {
+        this.flowableFacade = flowableFacade;
+    }
+
+    @Override
+    public AsyncExecutionState execute(ExecutionWrapper execution) {
+        DelegateExecution context = execution.getContext();
+        List<String> modulesToWaitFor = WaitForModuleDependenciesStep.getModulesToWaitFor(context);
+        RuntimeService runtimeService = flowableFacade.getProcessEngine()
+            .getRuntimeService();
+        boolean allModulesDeployed = modulesToWaitFor.stream()
+            .allMatch(module -> StepsUtil.isModuleDeployedInParentProcess(runtimeService, context, module));
+        if (allModulesDeployed) {
+            execution.getStepLogger()
+                .debug(Messages.MODULES_DEPLOYED, modulesToWaitFor);
+            return AsyncExecutionState.FINISHED;
+        }
+        // The modules are never deployed, if the deployment of one of them has failed and is not retried. The module fails as well, so
+        // that it is not polled for as long as the operation is in error, and is retried together with the module that has failed:
+        if (hasOperationFailed(context)) {
+            execution.getStepLogger()
+                .error(Messages.MODULES_NOT_DEPLOYED_BECAUSE_OPERATION_FAILED, StepsUtil.getModuleToDeploy(context)
+                    .getName(), modulesToWaitFor);
+            return AsyncExecutionState.ERROR;
+        }
+        return AsyncExecutionState.RUNNING;
+    }
+
+    private boolean hasOperationFailed(DelegateExecution context) {
+        String correlationId = StepsUtil.getCorrelationId(context);
+        return flowableFacade.getProcessInstanceStates(Collections.singletonList(correlationId))
+            .get(correlationId) == State.ERROR;
+    }
+
+}
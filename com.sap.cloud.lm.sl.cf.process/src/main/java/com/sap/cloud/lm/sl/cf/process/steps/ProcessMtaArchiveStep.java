@@ -2,6 +2,7 @@ package com.sap.cloud.lm.sl.cf.process.steps;
 
 import java.util.Map;
 import java.util.function.Function;
+import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
 import javax.inject.Inject;
@@ -30,6 +31,8 @@ import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class ProcessMtaArchiveStep extends SyncFlowableStep {
 
+    private static final String DEPLOYMENT_DESCRIPTOR_ENTRY_NAME = "META-INF/mtad.yaml";
+
     @Inject
     private OperationDao operationDao;
     @Inject
@@ -67,7 +70,7 @@ public class ProcessMtaArchiveStep extends SyncFlowableStep {
                 StepsUtil.setDeploymentDescriptor(context, deploymentDescriptor);
             });
 
-        fileService.processFileContent(deploymentDescriptorProcessor);
+        fileService.processArchiveEntriesContent(deploymentDescriptorProcessor, DEPLOYMENT_DESCRIPTOR_ENTRY_NAME::equalsIgnoreCase);
 
         FileDownloadProcessor manifestProcessor = new DefaultFileDownloadProcessor(StepsUtil.getSpaceId(context), appArchiveId,
             appArchiveStream -> {
@@ -97,7 +100,7 @@ public class ProcessMtaArchiveStep extends SyncFlowableStep {
 
                 StepsUtil.setMtaArchiveElements(context, mtaArchiveElements);
             });
-        fileService.processFileContent(manifestProcessor);
+        fileService.processArchiveEntriesContent(manifestProcessor, JarFile.MANIFEST_NAME::equalsIgnoreCase);
     }
 
     protected MtaArchiveHelper getHelper(Manifest manifest) {
@@ -45,10 +45,19 @@ public class ProcessStepHelper {
         logDebug(MessageFormat.format(Messages.STEP_FINISHED, context.getCurrentFlowElement()
             .getName()));
 
+        flushProgressMessages();
         processLogsPersister.persistLogs(StepsUtil.getCorrelationId(context), StepsUtil.getTaskId(context));
         context.setVariable(Constants.VAR_STEP_EXECUTION, state.toString());
     }
 
+    private void flushProgressMessages() {
+        try {
+            progressMessageService.flush();
+        } catch (SLException e) {
+            getProcessLogger().error(Messages.SAVING_PROGRESS_MESSAGES_FAILED, e);
+        }
+    }
+
     void preExecuteStep(DelegateExecution context, StepPhase initialPhase) {
         String taskId = context.getCurrentActivityId();
         context.setVariable(Constants.TASK_ID, taskId);
@@ -80,6 +89,8 @@ public class ProcessStepHelper {
         getProcessLogger().error(Messages.EXCEPTION_CAUGHT, t);
 
         storeExceptionInProgressMessageService(context, t);
+        // The operation is failed as soon as the step fails, so its error message should be visible to those who read it right after that:
+        flushProgressMessages();
 
         if (t instanceof ContentException) {
             StepsUtil.setErrorType(context, ErrorType.CONTENT_ERROR);
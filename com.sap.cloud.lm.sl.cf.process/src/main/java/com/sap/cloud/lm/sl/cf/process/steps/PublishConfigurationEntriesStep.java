@@ -1,7 +1,6 @@
 package com.sap.cloud.lm.sl.cf.process.steps;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -58,22 +57,10 @@ public class PublishConfigurationEntriesStep extends SyncFlowableStep {
     }
 
     private List<ConfigurationEntry> publish(List<ConfigurationEntry> entriesToPublish) {
-        List<ConfigurationEntry> publishedEntries = new ArrayList<>();
         for (ConfigurationEntry entry : entriesToPublish) {
-            ConfigurationEntry publishedConfigurationEntry = publishConfigurationEntry(entry);
-            publishedEntries.add(publishedConfigurationEntry);
-        }
-        return publishedEntries;
-    }
-
-    private ConfigurationEntry publishConfigurationEntry(ConfigurationEntry entry) {
-        infoConfigurationPublishment(entry);
-        ConfigurationEntry currentEntry = getExistingEntry(entry);
-        if (currentEntry == null) {
-            return configurationEntryDao.add(entry);
-        } else {
-            return configurationEntryDao.update(currentEntry.getId(), entry);
+            infoConfigurationPublishment(entry);
         }
+        return configurationEntryDao.publish(entriesToPublish);
     }
 
     private void infoConfigurationPublishment(ConfigurationEntry entry) {
@@ -82,12 +69,4 @@ public class PublishConfigurationEntriesStep extends SyncFlowableStep {
         }
     }
 
-    private ConfigurationEntry getExistingEntry(ConfigurationEntry targetEntry) {
-        List<ConfigurationEntry> existingEntries = configurationEntryDao.find(targetEntry.getProviderNid(), targetEntry.getProviderId(),
-            targetEntry.getProviderVersion()
-                .toString(),
-            targetEntry.getTargetSpace(), Collections.emptyMap(), null);
-        return existingEntries.isEmpty() ? null : existingEntries.get(0);
-    }
-
 }
@@ -16,6 +16,7 @@ import com.sap.cloud.lm.sl.cf.core.cf.services.ServiceOperationType;
 import com.sap.cloud.lm.sl.cf.core.exec.MethodExecution;
 import com.sap.cloud.lm.sl.cf.core.exec.MethodExecution.ExecutionState;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
 
 public abstract class ServiceStep extends AsyncFlowableStep {
@@ -26,13 +27,20 @@ public abstract class ServiceStep extends AsyncFlowableStep {
 
     @Inject
     private ServiceGetter serviceInstanceGetter;
-    
+
+    @Inject
+    private ServicesSnapshotCache servicesSnapshotCache;
     
     @Override
     protected StepPhase executeAsyncStep(ExecutionWrapper execution) throws Exception {
         CloudServiceExtended serviceToCreate = StepsUtil.getServiceToProcess(execution.getContext());
-        MethodExecution<String> methodExecution = executeOperation(execution.getContext(), execution.getControllerClient(),
-            serviceToCreate);
+        MethodExecution<String> methodExecution;
+        try {
+            methodExecution = executeOperation(execution.getContext(), execution.getControllerClient(), serviceToCreate);
+        } finally {
+            // The service is invalidated even if the operation failed, as it may have been changed partially:
+            servicesSnapshotCache.invalidate(StepsUtil.getCorrelationId(execution.getContext()), serviceToCreate.getName());
+        }
         if (methodExecution.getState()
             .equals(ExecutionState.FINISHED)) {
             return StepPhase.DONE;
@@ -28,7 +28,6 @@ import org.cloudfoundry.client.lib.domain.UploadToken;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.delegate.DelegateExecution;
-import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.variable.api.delegate.VariableScope;
 import org.flowable.variable.api.history.HistoricVariableInstance;
@@ -61,6 +60,8 @@ import com.sap.cloud.lm.sl.cf.persistence.services.ProcessLoggerProvider;
 import com.sap.cloud.lm.sl.cf.process.Constants;
 import com.sap.cloud.lm.sl.cf.process.analytics.model.ServiceAction;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.cf.process.util.JsonBinaryCodec;
+import com.sap.cloud.lm.sl.cf.process.util.ParsedVariableCache;
 import com.sap.cloud.lm.sl.cf.process.util.StepLogger;
 import com.sap.cloud.lm.sl.common.SLException;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
@@ -74,6 +75,10 @@ import com.sap.cloud.lm.sl.mta.model.Module;
 
 public class StepsUtil {
 
+    private static final int MAX_PARSED_VARIABLES_IN_CACHE = 100;
+    private static final ParsedVariableCache PARSED_VARIABLE_CACHE = new ParsedVariableCache(MAX_PARSED_VARIABLES_IN_CACHE);
+    private static final JsonBinaryCodec JSON_BINARY_CODEC = new JsonBinaryCodec();
+
     public static org.apache.log4j.Logger getLogger(DelegateExecution context, String name, ProcessLoggerProvider processLoggerProvider) {
         return processLoggerProvider.getLogger(context, name);
     }
@@ -297,10 +302,18 @@ public class StepsUtil {
         setAsJsonBinaries(scope, Constants.VAR_ITERATED_MODULES_IN_PARALLEL, modules);
     }
 
+    public static List<Module> getModulesToIterateInParallel(VariableScope scope) {
+        return getFromJsonBinaries(scope, Constants.VAR_MODULES_TO_ITERATE_IN_PARALLEL, Module.class);
+    }
+
     public static void setModulesToIterateInParallel(VariableScope scope, List<? extends Module> modules) {
         setAsJsonBinaries(scope, Constants.VAR_MODULES_TO_ITERATE_IN_PARALLEL, modules);
     }
 
+    public static DeploymentMode getDeploymentMode(VariableScope scope) {
+        return (DeploymentMode) scope.getVariable(Constants.VAR_DEPLOYMENT_MODE);
+    }
+
     public static void setDeploymentMode(VariableScope scope, DeploymentMode deploymentMode) {
         scope.setVariable(Constants.VAR_DEPLOYMENT_MODE, deploymentMode);
     }
@@ -441,7 +454,7 @@ public class StepsUtil {
             return Collections.emptyList();
         }
         byte[] deletedEntriesByteArray = (byte[]) deletedEntries.getValue();
-        return Arrays.asList(JsonUtil.fromJsonBinary(deletedEntriesByteArray, ConfigurationEntry[].class));
+        return Arrays.asList(JSON_BINARY_CODEC.decode(deletedEntriesByteArray, ConfigurationEntry[].class));
     }
 
     static List<ConfigurationEntry> getDeletedEntriesFromAllProcesses(VariableScope scope, FlowableFacade flowableFacade) {
@@ -471,7 +484,7 @@ public class StepsUtil {
             return Collections.emptyList();
         }
         byte[] binaryJson = (byte[]) publishedEntries.getValue();
-        return Arrays.asList(JsonUtil.fromJsonBinary(binaryJson, ConfigurationEntry[].class));
+        return Arrays.asList(JSON_BINARY_CODEC.decode(binaryJson, ConfigurationEntry[].class));
     }
 
     static List<ConfigurationEntry> getPublishedEntriesFromSubProcesses(VariableScope scope, FlowableFacade flowableFacade) {
@@ -487,7 +500,8 @@ public class StepsUtil {
         setAsJsonBinary(scope, Constants.VAR_PUBLISHED_ENTRIES, publishedEntries);
     }
 
-    public static void setVariableInParentProcess(DelegateExecution context, String variablePrefix, Object variableValue) {
+    public static void setVariableInParentProcess(RuntimeService runtimeService, DelegateExecution context, String variablePrefix,
+        Object variableValue) {
         String moduleName = StepsUtil.getApp(context)
             .getModuleName();
         if (moduleName == null) {
@@ -495,17 +509,28 @@ public class StepsUtil {
         }
         String exportedVariableName = variablePrefix + moduleName;
 
-        RuntimeService runtimeService = Context.getProcessEngineConfiguration()
-            .getRuntimeService();
+        byte[] binaryJson = variableValue == null ? null : JSON_BINARY_CODEC.encode(variableValue);
+        runtimeService.setVariable(getSuperExecutionId(runtimeService, context), exportedVariableName, binaryJson);
+    }
+
+    /**
+     * Checks whether the deployment of the module by another subprocess of the parent process has completed. The variables of the parent
+     * process are read directly, as the subprocess has only a copy of the ones that were set when it was started.
+     */
+    public static boolean isModuleDeployedInParentProcess(RuntimeService runtimeService, DelegateExecution context, String moduleName) {
+        return runtimeService.getVariable(getSuperExecutionId(runtimeService, context),
+            Constants.VAR_DEPLOYED_MODULE_VAR_PREFIX + moduleName) != null;
+    }
+
+    public static void removeDeployedModules(VariableScope scope, List<Module> modules) {
+        modules.forEach(module -> scope.removeVariable(Constants.VAR_DEPLOYED_MODULE_VAR_PREFIX + module.getName()));
+    }
 
-        String superExecutionId = context.getParentId();
+    private static String getSuperExecutionId(RuntimeService runtimeService, DelegateExecution context) {
         Execution superExecutionResult = runtimeService.createExecutionQuery()
-            .executionId(superExecutionId)
+            .executionId(context.getParentId())
             .singleResult();
-        superExecutionId = superExecutionResult.getSuperExecutionId();
-
-        byte[] binaryJson = variableValue == null ? null : JsonUtil.toJsonBinary(variableValue);
-        runtimeService.setVariable(superExecutionId, exportedVariableName, binaryJson);
+        return superExecutionResult.getSuperExecutionId();
     }
 
     static void setDeployedMta(VariableScope scope, DeployedMta deployedMta) {
@@ -517,15 +542,19 @@ public class StepsUtil {
     }
 
     public static DeploymentDescriptor getDeploymentDescriptor(VariableScope scope) {
-        return getFromJsonString(scope, Constants.VAR_MTA_DEPLOYMENT_DESCRIPTOR, DeploymentDescriptor.class);
+        return getFromJsonBinaryOrString(scope, Constants.VAR_MTA_DEPLOYMENT_DESCRIPTOR, DeploymentDescriptor.class);
     }
 
     public static DeploymentDescriptor getDeploymentDescriptorWithSystemParameters(VariableScope scope) {
-        return getFromJsonString(scope, Constants.VAR_MTA_DEPLOYMENT_DESCRIPTOR_WITH_SYSTEM_PARAMETERS, DeploymentDescriptor.class);
+        return getFromJsonBinaryOrString(scope, Constants.VAR_MTA_DEPLOYMENT_DESCRIPTOR_WITH_SYSTEM_PARAMETERS, DeploymentDescriptor.class);
     }
 
+    /**
+     * The complete deployment descriptor is read by many steps and for every module, so it is parsed once and shared by them. It should
+     * not be modified by them.
+     */
     public static DeploymentDescriptor getCompleteDeploymentDescriptor(VariableScope scope) {
-        return getFromJsonString(scope, Constants.VAR_COMPLETE_MTA_DEPLOYMENT_DESCRIPTOR, DeploymentDescriptor.class);
+        return getFromCachedJsonBinaryOrString(scope, Constants.VAR_COMPLETE_MTA_DEPLOYMENT_DESCRIPTOR, DeploymentDescriptor.class);
     }
 
     public static Module findModuleInDeploymentDescriptor(VariableScope scope, String module) {
@@ -552,15 +581,16 @@ public class StepsUtil {
     }
 
     public static void setDeploymentDescriptor(VariableScope scope, DeploymentDescriptor deploymentDescriptor) {
-        setAsJsonString(scope, Constants.VAR_MTA_DEPLOYMENT_DESCRIPTOR, deploymentDescriptor);
+        setAsJsonBinary(scope, Constants.VAR_MTA_DEPLOYMENT_DESCRIPTOR, deploymentDescriptor);
     }
 
     public static void setDeploymentDescriptorWithSystemParameters(VariableScope scope, DeploymentDescriptor deploymentDescriptor) {
-        setAsJsonString(scope, Constants.VAR_MTA_DEPLOYMENT_DESCRIPTOR_WITH_SYSTEM_PARAMETERS, deploymentDescriptor);
+        setAsJsonBinary(scope, Constants.VAR_MTA_DEPLOYMENT_DESCRIPTOR_WITH_SYSTEM_PARAMETERS, deploymentDescriptor);
     }
 
     public static void setCompleteDeploymentDescriptor(VariableScope scope, DeploymentDescriptor deploymentDescriptor) {
-        setAsJsonString(scope, Constants.VAR_COMPLETE_MTA_DEPLOYMENT_DESCRIPTOR, deploymentDescriptor);
+        setAsJsonBinary(scope, Constants.VAR_COMPLETE_MTA_DEPLOYMENT_DESCRIPTOR, deploymentDescriptor);
+        invalidateParsedVariable(scope, Constants.VAR_COMPLETE_MTA_DEPLOYMENT_DESCRIPTOR);
     }
 
     static void setExtensionDescriptorChain(VariableScope scope, List<ExtensionDescriptor> extensionDescriptors) {
@@ -882,7 +912,7 @@ public class StepsUtil {
     }
 
     public static void setServicesData(VariableScope scope, Map<String, CloudServiceExtended> servicesData) {
-        scope.setVariable(Constants.VAR_SERVICES_DATA, JsonUtil.toJsonBinary(servicesData));
+        scope.setVariable(Constants.VAR_SERVICES_DATA, JSON_BINARY_CODEC.encode(servicesData));
     }
 
     public static Map<String, CloudServiceExtended> getServicesData(VariableScope scope) {
@@ -1064,6 +1094,39 @@ public class StepsUtil {
         return JsonUtil.fromJson(stringJson, type);
     }
 
+    private static <T> T getFromCachedJsonBinaryOrString(VariableScope scope, String name, Class<T> classOfT) {
+        if (!(scope instanceof DelegateExecution)) {
+            return getFromJsonBinaryOrString(scope, name, classOfT);
+        }
+        String processInstanceId = ((DelegateExecution) scope).getProcessInstanceId();
+        Object json = scope.getVariable(name);
+        return PARSED_VARIABLE_CACHE.get(processInstanceId, name, json, value -> fromJsonBinaryOrString(value, toTypeReference(classOfT)));
+    }
+
+    /**
+     * Reads variables, which were stored as JSON strings before they started to be stored as JSON binaries.
+     */
+    private static <T> T getFromJsonBinaryOrString(VariableScope scope, String name, Class<T> classOfT) {
+        Object json = scope.getVariable(name);
+        if (json == null) {
+            return null;
+        }
+        return fromJsonBinaryOrString(json, toTypeReference(classOfT));
+    }
+
+    private static <T> T fromJsonBinaryOrString(Object json, TypeReference<T> type) {
+        if (json instanceof String) {
+            return JsonUtil.fromJson((String) json, type);
+        }
+        return JSON_BINARY_CODEC.decode((byte[]) json, type);
+    }
+
+    private static void invalidateParsedVariable(VariableScope scope, String name) {
+        if (scope instanceof DelegateExecution) {
+            PARSED_VARIABLE_CACHE.invalidate(((DelegateExecution) scope).getProcessInstanceId(), name);
+        }
+    }
+
     public static <T> T getFromJsonBinary(VariableScope scope, String name, Class<T> classOfT) {
         return getFromJsonBinary(scope, name, toTypeReference(classOfT));
     }
@@ -1081,8 +1144,7 @@ public class StepsUtil {
         if (jsonBinary == null) {
             return defaultValue;
         }
-        String jsonString = new String(jsonBinary, StandardCharsets.UTF_8);
-        return JsonUtil.fromJson(jsonString, type);
+        return JSON_BINARY_CODEC.decode(jsonBinary, type);
     }
 
     public static <T> List<T> getFromJsonStrings(VariableScope scope, String name, Class<T> classOfT) {
@@ -1125,7 +1187,7 @@ public class StepsUtil {
             return defaultValue;
         }
         return jsonBinaries.stream()
-            .map(jsonBinary -> JsonUtil.fromJsonBinary(jsonBinary, type))
+            .map(jsonBinary -> JSON_BINARY_CODEC.decode(jsonBinary, type))
             .collect(Collectors.toList());
     }
 
@@ -1142,7 +1204,7 @@ public class StepsUtil {
             scope.setVariable(name, null);
             return;
         }
-        byte[] jsonBinary = JsonUtil.toJsonBinary(value);
+        byte[] jsonBinary = JSON_BINARY_CODEC.encode(value);
         scope.setVariable(name, jsonBinary);
     }
 
@@ -1172,7 +1234,7 @@ public class StepsUtil {
             return;
         }
         List<byte[]> jsonBinaries = values.stream()
-            .map(JsonUtil::toJsonBinary)
+            .map(JSON_BINARY_CODEC::encode)
             .collect(Collectors.toList());
         scope.setVariable(name, jsonBinaries);
     }
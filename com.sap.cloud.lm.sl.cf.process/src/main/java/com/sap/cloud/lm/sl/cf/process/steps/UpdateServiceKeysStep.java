@@ -6,6 +6,8 @@ import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.inject.Inject;
+
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.cloudfoundry.client.lib.domain.CloudServiceKey;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -18,12 +20,16 @@ import com.sap.cloud.lm.sl.cf.core.exec.MethodExecution.ExecutionState;
 import com.sap.cloud.lm.sl.cf.process.Constants;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
 import com.sap.cloud.lm.sl.cf.process.util.ServiceOperationExecutor;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 
 @Component("updateServiceKeysStep")
 public class UpdateServiceKeysStep extends ServiceStep {
 
     private ServiceOperationExecutor serviceOperationExecutor = new ServiceOperationExecutor();
-    
+
+    @Inject
+    private ServicesSnapshotCache servicesSnapshotCache;
+
     @Override
     protected List<AsyncExecution> getAsyncStepExecutions(ExecutionWrapper execution) {
         throw new UnsupportedOperationException("Update service keys is not a pollable operation.");
@@ -36,7 +42,7 @@ public class UpdateServiceKeysStep extends ServiceStep {
         List<CloudServiceKey> serviceKeys = serviceKeysMap.get(service.getName());
 
         List<CloudServiceKey> existingServiceKeys = serviceOperationExecutor.executeServiceOperation(service,
-            (Supplier<List<CloudServiceKey>>) () -> client.getServiceKeys(service.getName()), getStepLogger());
+            (Supplier<List<CloudServiceKey>>) () -> getExistingServiceKeys(service, execution, client), getStepLogger());
 
         if (existingServiceKeys == null) {
             return methodExecution;
@@ -46,6 +52,20 @@ public class UpdateServiceKeysStep extends ServiceStep {
         List<CloudServiceKey> serviceKeysToUpdate = getServiceKeysToUpdate(serviceKeys, existingServiceKeys);
         List<CloudServiceKey> serviceKeysToDelete = getServiceKeysToDelete(serviceKeys, existingServiceKeys);
 
+        updateServiceKeys(execution, client, serviceKeysToCreate, serviceKeysToUpdate, serviceKeysToDelete);
+        return methodExecution;
+    }
+
+    private List<CloudServiceKey> getExistingServiceKeys(CloudServiceExtended service, DelegateExecution execution,
+        CloudControllerClient client) {
+        List<CloudServiceKey> existingServiceKeys = servicesSnapshotCache.get(StepsUtil.getCorrelationId(execution), client)
+            .getServiceKeys(service.getName());
+        // The services that were created after the snapshot was taken are not part of it:
+        return existingServiceKeys != null ? existingServiceKeys : client.getServiceKeys(service.getName());
+    }
+
+    private void updateServiceKeys(DelegateExecution execution, CloudControllerClient client, List<CloudServiceKey> serviceKeysToCreate,
+        List<CloudServiceKey> serviceKeysToUpdate, List<CloudServiceKey> serviceKeysToDelete) {
         if (canDeleteServiceKeys(execution)) {
             deleteServiceKeys(client, serviceKeysToDelete);
             // Recreate the service keys, which should be updated, as direct update is not supported
@@ -59,7 +79,6 @@ public class UpdateServiceKeysStep extends ServiceStep {
                 .getName()));
         }
         createServiceKeys(client, serviceKeysToCreate);
-        return methodExecution;
     }
 
     private List<CloudServiceKey> getServiceKeysToCreate(List<CloudServiceKey> serviceKeys, List<CloudServiceKey> existingServiceKeys) {
@@ -6,6 +6,7 @@ import static com.sap.cloud.lm.sl.common.util.JsonUtil.toJson;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,7 +27,6 @@ import org.cloudfoundry.client.lib.domain.CloudSpace;
 import org.cloudfoundry.client.lib.domain.ImmutableCloudApplication;
 import org.cloudfoundry.client.lib.domain.ImmutableCloudOrganization;
 import org.cloudfoundry.client.lib.domain.ImmutableCloudSpace;
-import org.flowable.engine.delegate.DelegateExecution;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -51,7 +51,10 @@ import com.sap.cloud.lm.sl.cf.core.model.ConfigurationSubscription.RequiredDepen
 import com.sap.cloud.lm.sl.cf.core.model.SupportedParameters;
 import com.sap.cloud.lm.sl.cf.core.security.serialization.SecureSerializationFacade;
 import com.sap.cloud.lm.sl.cf.core.util.ApplicationConfiguration;
+import com.sap.cloud.lm.sl.cf.core.util.UserMessageLogger;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.cf.process.util.ConcurrentTaskRunner;
+import com.sap.cloud.lm.sl.cf.process.util.DeferredUserMessageLogger;
 import com.sap.cloud.lm.sl.common.SLException;
 import com.sap.cloud.lm.sl.common.util.Pair;
 import com.sap.cloud.lm.sl.mta.helpers.VisitableObject;
@@ -87,6 +90,10 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
 
     private static final String DUMMY_VERSION = "1.0.0";
 
+    private static final int MAX_PARALLEL_SUBSCRIBER_UPDATES = 8;
+    private static final ConcurrentTaskRunner SUBSCRIBER_UPDATES_RUNNER = new ConcurrentTaskRunner("subscriber-updater",
+        MAX_PARALLEL_SUBSCRIBER_UPDATES);
+
     private SecureSerializationFacade secureSerializer = new SecureSerializationFacade();
 
     protected BiFunction<ClientHelper, String, Pair<String, String>> orgAndSpaceCalculator = (client, spaceId) -> client
@@ -112,20 +119,19 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
             List<ConfigurationEntry> deletedEntries = StepsUtil.getDeletedEntriesFromAllProcesses(execution.getContext(), flowableFacade);
             List<ConfigurationEntry> updatedEntries = ListUtils.union(publishedEntries, deletedEntries);
 
-            CloudControllerClient clientForCurrentSpace = execution.getControllerClient();
+            CloudTarget currentTarget = new CloudTarget(StepsUtil.getOrg(execution.getContext()),
+                StepsUtil.getSpace(execution.getContext()));
+            List<Subscriber> subscribers = getSubscribers(execution, subscriptionsDao.findAll(updatedEntries));
 
+            List<SubscriberUpdate> subscriberUpdates = SUBSCRIBER_UPDATES_RUNNER.run(subscribers,
+                subscriber -> updateSubscriber(currentTarget, subscriber));
+            logSubscriberUpdates(subscriberUpdates);
             List<CloudApplication> updatedSubscribers = new ArrayList<>();
             List<CloudApplication> updatedServiceBrokerSubscribers = new ArrayList<>();
-            for (ConfigurationSubscription subscription : subscriptionsDao.findAll(updatedEntries)) {
-                ClientHelper clientHelper = new ClientHelper(clientForCurrentSpace);
-                Pair<String, String> orgAndSpace = orgAndSpaceCalculator.apply(clientHelper, subscription.getSpaceId());
-                if (orgAndSpace == null) {
-                    getStepLogger().warn(Messages.COULD_NOT_COMPUTE_ORG_AND_SPACE, subscription.getSpaceId());
-                    continue;
-                }
-                CloudApplication updatedApplication = updateSubscriber(execution, orgAndSpace, subscription);
+            for (SubscriberUpdate subscriberUpdate : subscriberUpdates) {
+                CloudApplication updatedApplication = subscriberUpdate.updatedApplication;
                 if (updatedApplication != null) {
-                    updatedApplication = addOrgAndSpaceIfNecessary(updatedApplication, orgAndSpace);
+                    updatedApplication = addOrgAndSpaceIfNecessary(updatedApplication, subscriberUpdate.subscriber.orgAndSpace);
                     addApplicationToProperList(updatedSubscribers, updatedServiceBrokerSubscribers, updatedApplication);
                 }
             }
@@ -139,6 +145,54 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         }
     }
 
+    private List<Subscriber> getSubscribers(ExecutionWrapper execution, List<ConfigurationSubscription> subscriptions) {
+        CloudControllerClient clientForCurrentSpace = execution.getControllerClient();
+        Map<String, Pair<String, String>> orgsAndSpaces = computeOrgsAndSpaces(new ClientHelper(clientForCurrentSpace), subscriptions);
+        List<Subscriber> subscribers = new ArrayList<>();
+        for (ConfigurationSubscription subscription : subscriptions) {
+            Pair<String, String> orgAndSpace = orgsAndSpaces.get(subscription.getSpaceId());
+            if (orgAndSpace == null) {
+                // The space could not be looked up, which has already been reported once for all of its subscribers:
+                continue;
+            }
+            CloudControllerClient client = getClient(execution, orgAndSpace, subscription);
+            if (client != null) {
+                subscribers.add(new Subscriber(subscription, orgAndSpace, client));
+            }
+        }
+        return subscribers;
+    }
+
+    private Map<String, Pair<String, String>> computeOrgsAndSpaces(ClientHelper clientHelper,
+        List<ConfigurationSubscription> subscriptions) {
+        // Many subscribers are usually in the same spaces, so each of them is looked up only once:
+        List<String> spaceIds = subscriptions.stream()
+            .map(ConfigurationSubscription::getSpaceId)
+            .distinct()
+            .collect(Collectors.toList());
+        List<SpaceLookup> spaceLookups = SUBSCRIBER_UPDATES_RUNNER.run(spaceIds, spaceId -> computeOrgAndSpace(clientHelper, spaceId));
+        Map<String, Pair<String, String>> result = new HashMap<>();
+        for (SpaceLookup spaceLookup : spaceLookups) {
+            if (spaceLookup.failure != null) {
+                getStepLogger().warn(spaceLookup.failure, Messages.COULD_NOT_COMPUTE_ORG_AND_SPACE, spaceLookup.spaceId);
+            } else if (spaceLookup.orgAndSpace == null) {
+                getStepLogger().warn(Messages.COULD_NOT_COMPUTE_ORG_AND_SPACE, spaceLookup.spaceId);
+            }
+            result.put(spaceLookup.spaceId, spaceLookup.orgAndSpace);
+        }
+        return result;
+    }
+
+    private SpaceLookup computeOrgAndSpace(ClientHelper clientHelper, String spaceId) {
+        SpaceLookup spaceLookup = new SpaceLookup(spaceId);
+        try {
+            spaceLookup.orgAndSpace = orgAndSpaceCalculator.apply(clientHelper, spaceId);
+        } catch (CloudOperationException e) {
+            spaceLookup.failure = e;
+        }
+        return spaceLookup;
+    }
+
     private void addApplicationToProperList(List<CloudApplication> updatedSubscribers,
         List<CloudApplication> updatedServiceBrokerSubscribers, CloudApplication updatedApplication) {
         ApplicationAttributes appAttributes = ApplicationAttributes.fromApplication(updatedApplication);
@@ -188,38 +242,61 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         return new ArrayList<>(applicationsMap.values());
     }
 
-    private CloudApplication updateSubscriber(ExecutionWrapper execution, Pair<String, String> orgAndSpace,
-        ConfigurationSubscription subscription) {
-        String appName = subscription.getAppName();
-        String mtaId = subscription.getMtaId();
-        String subscriptionName = getRequiredDependency(subscription).getName();
+    private SubscriberUpdate updateSubscriber(CloudTarget currentTarget, Subscriber subscriber) {
+        SubscriberUpdate subscriberUpdate = new SubscriberUpdate(subscriber);
         try {
-            return attemptToUpdateSubscriber(execution.getContext(), getClient(execution, orgAndSpace), subscription);
+            subscriberUpdate.updatedApplication = attemptToUpdateSubscriber(currentTarget, subscriber.client, subscriber.subscription,
+                subscriberUpdate.messages);
         } catch (CloudOperationException | SLException e) {
-            getStepLogger().warn(e, Messages.COULD_NOT_UPDATE_SUBSCRIBER, appName, mtaId, subscriptionName);
-            return null;
+            subscriberUpdate.warning = e;
+        } catch (RuntimeException e) {
+            subscriberUpdate.failure = e;
         }
+        return subscriberUpdate;
     }
 
-    private CloudApplication attemptToUpdateSubscriber(DelegateExecution context, CloudControllerClient client,
-        ConfigurationSubscription subscription) {
+    private void logSubscriberUpdates(List<SubscriberUpdate> subscriberUpdates) {
+        // The messages of the updates are logged here, because the step logger may be used only by the thread of the step:
+        RuntimeException firstFailure = null;
+        for (SubscriberUpdate subscriberUpdate : subscriberUpdates) {
+            subscriberUpdate.messages.logTo(getStepLogger());
+            if (subscriberUpdate.warning != null) {
+                warnSubscriberCouldNotBeUpdated(subscriberUpdate.warning, subscriberUpdate.subscriber.subscription);
+            }
+            if (subscriberUpdate.failure != null && firstFailure == null) {
+                firstFailure = subscriberUpdate.failure;
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    private void warnSubscriberCouldNotBeUpdated(Exception e, ConfigurationSubscription subscription) {
+        String appName = subscription.getAppName();
+        String mtaId = subscription.getMtaId();
+        String subscriptionName = getRequiredDependency(subscription).getName();
+        getStepLogger().warn(e, Messages.COULD_NOT_UPDATE_SUBSCRIBER, appName, mtaId, subscriptionName);
+    }
+
+    private CloudApplication attemptToUpdateSubscriber(CloudTarget currentTarget, CloudControllerClient client,
+        ConfigurationSubscription subscription, UserMessageLogger messages) {
         HandlerFactory handlerFactory = new HandlerFactory(MAJOR_SCHEMA_VERSION);
 
         DeploymentDescriptor dummyDescriptor = buildDummyDescriptor(subscription, handlerFactory);
-        getStepLogger().debug(com.sap.cloud.lm.sl.cf.core.message.Messages.DEPLOYMENT_DESCRIPTOR, toJson(dummyDescriptor, true));
+        messages.debug(com.sap.cloud.lm.sl.cf.core.message.Messages.DEPLOYMENT_DESCRIPTOR, toJson(dummyDescriptor, true));
 
         ConfigurationReferencesResolver resolver = handlerFactory.getConfigurationReferencesResolver(entriesDao,
-            new DummyConfigurationFilterParser(subscription.getFilter()),
-            new CloudTarget(StepsUtil.getOrg(context), StepsUtil.getSpace(context)), configuration);
+            new DummyConfigurationFilterParser(subscription.getFilter()), currentTarget, configuration);
         resolver.resolve(dummyDescriptor);
-        getStepLogger().debug(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR, secureSerializer.toJson(dummyDescriptor));
+        messages.debug(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR, secureSerializer.toJson(dummyDescriptor));
         dummyDescriptor = handlerFactory
             .getDescriptorReferenceResolver(dummyDescriptor, new ResolverBuilder(), new ResolverBuilder(), new ResolverBuilder())
             .resolve();
-        getStepLogger().debug(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR, secureSerializer.toJson(dummyDescriptor));
+        messages.debug(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR, secureSerializer.toJson(dummyDescriptor));
 
         ApplicationCloudModelBuilder applicationCloudModelBuilder = handlerFactory.getApplicationCloudModelBuilder(dummyDescriptor,
-            shouldUsePrettyPrinting(), null, "", getStepLogger());
+            shouldUsePrettyPrinting(), null, "", messages);
 
         Module module = dummyDescriptor.getModules()
             .get(0);
@@ -237,7 +314,7 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
             return null;
         }
 
-        getStepLogger().info(Messages.UPDATING_SUBSCRIBER, subscription.getAppName(), subscription.getMtaId(),
+        messages.info(Messages.UPDATING_SUBSCRIBER, subscription.getAppName(), subscription.getMtaId(),
             getRequiredDependency(subscription).getName());
         client.updateApplicationEnv(existingApplication.getName(), currentEnvironment);
         return existingApplication;
@@ -297,8 +374,14 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
             .get(0);
     }
 
-    private CloudControllerClient getClient(ExecutionWrapper execution, Pair<String, String> orgAndSpace) {
-        return execution.getControllerClient(orgAndSpace._1, orgAndSpace._2);
+    private CloudControllerClient getClient(ExecutionWrapper execution, Pair<String, String> orgAndSpace,
+        ConfigurationSubscription subscription) {
+        try {
+            return execution.getControllerClient(orgAndSpace._1, orgAndSpace._2);
+        } catch (CloudOperationException | SLException e) {
+            warnSubscriberCouldNotBeUpdated(e, subscription);
+            return null;
+        }
     }
 
     private DeploymentDescriptor buildDummyDescriptor(ConfigurationSubscription subscription, HandlerFactory handlerFactory) {
@@ -329,6 +412,52 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         return true;
     }
 
+    private static class Subscriber {
+
+        private final ConfigurationSubscription subscription;
+        private final Pair<String, String> orgAndSpace;
+        private final CloudControllerClient client;
+
+        Subscriber(ConfigurationSubscription subscription, Pair<String, String> orgAndSpace, CloudControllerClient client) {
+            this.subscription = subscription;
+            this.orgAndSpace = orgAndSpace;
+            this.client = client;
+        }
+
+    }
+
+    /**
+     * The outcome of the lookup of the org and space of a single space ID, which is logged by the thread of the step.
+     */
+    private static class SpaceLookup {
+
+        private final String spaceId;
+        private Pair<String, String> orgAndSpace;
+        private CloudOperationException failure;
+
+        SpaceLookup(String spaceId) {
+            this.spaceId = spaceId;
+        }
+
+    }
+
+    /**
+     * The outcome of the update of a single subscriber, which is logged and reported by the thread of the step.
+     */
+    private static class SubscriberUpdate {
+
+        private final Subscriber subscriber;
+        private final DeferredUserMessageLogger messages = new DeferredUserMessageLogger();
+        private CloudApplication updatedApplication;
+        private Exception warning;
+        private RuntimeException failure;
+
+        SubscriberUpdate(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+    }
+
     private static class ReferenceDetector extends ReferencingPropertiesVisitor {
 
         public ReferenceDetector(String name) {
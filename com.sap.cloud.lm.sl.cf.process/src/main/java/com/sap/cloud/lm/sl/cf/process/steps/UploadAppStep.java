@@ -36,7 +36,6 @@ import com.sap.cloud.lm.sl.cf.persistence.services.FileStorageException;
 import com.sap.cloud.lm.sl.cf.process.Constants;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
 import com.sap.cloud.lm.sl.cf.process.util.ApplicationArchiveContext;
-import com.sap.cloud.lm.sl.cf.process.util.ApplicationArchiveReader;
 import com.sap.cloud.lm.sl.cf.process.util.ApplicationDigestDetector;
 import com.sap.cloud.lm.sl.cf.process.util.ApplicationZipBuilder;
 import com.sap.cloud.lm.sl.common.SLException;
@@ -50,8 +49,6 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
     @Inject
     protected ApplicationConfiguration configuration;
     @Inject
-    protected ApplicationArchiveReader applicationArchiveReader;
-    @Inject
     protected ApplicationZipBuilder applicationZipBuilder;
 
     @Override
@@ -74,9 +71,8 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
             getStepLogger().debug(Messages.UPLOADING_FILE_0_FOR_APP_1, fileName, app.getName());
 
-            String newApplicationDigest = getNewApplicationDigest(execution, appArchiveId, fileName);
-            detectApplicationFileDigestChanges(execution, app, client, newApplicationDigest);
-            UploadToken uploadToken = asyncUploadFiles(execution, client, app, appArchiveId, fileName);
+            ExtractedApplication extractedApplication = extractApplication(execution, appArchiveId, fileName);
+            UploadToken uploadToken = processExtractedApplication(execution, client, app, fileName, extractedApplication);
             getStepLogger().debug(Messages.STARTED_ASYNC_UPLOAD_OF_APP_0, app.getName());
             StepsUtil.setUploadToken(uploadToken, execution.getContext());
         } catch (CloudOperationException coe) {
@@ -90,49 +86,48 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
         return StepPhase.POLL;
     }
 
-    private String getNewApplicationDigest(ExecutionWrapper execution, String appArchiveId, String fileName) throws FileStorageException {
+    private ExtractedApplication extractApplication(ExecutionWrapper execution, String appArchiveId, String fileName)
+        throws FileStorageException {
         DelegateExecution context = execution.getContext();
-        StringBuilder digestStringBuilder = new StringBuilder();
-        FileDownloadProcessor fileDownloadProcessor = new DefaultFileDownloadProcessor(StepsUtil.getSpaceId(context), appArchiveId,
+        ExtractedApplication extractedApplication = new ExtractedApplication();
+        // The module is extracted and its digest is calculated in a single pass over its part of the MTAR:
+        FileDownloadProcessor extractApplicationProcessor = new DefaultFileDownloadProcessor(StepsUtil.getSpaceId(context), appArchiveId,
             appArchiveStream -> {
                 long maxSize = configuration.getMaxResourceFileSize();
                 ApplicationArchiveContext applicationArchiveContext = createApplicationArchiveContext(appArchiveStream, fileName, maxSize);
-                digestStringBuilder.append(applicationArchiveReader.calculateApplicationDigest(applicationArchiveContext));
+                extractedApplication.path = extractFromMtar(applicationArchiveContext);
+                extractedApplication.digest = applicationArchiveContext.getApplicationDigestCalculator()
+                    .getDigest();
             });
 
-        fileService.processFileContent(fileDownloadProcessor);
+        fileService.processArchiveEntriesContent(extractApplicationProcessor, entryName -> entryName.startsWith(fileName));
 
-        return digestStringBuilder.toString();
+        return extractedApplication;
     }
 
     protected ApplicationArchiveContext createApplicationArchiveContext(InputStream appArchiveStream, String fileName, long maxSize) {
         return new ApplicationArchiveContext(appArchiveStream, fileName, maxSize);
     }
 
-    private UploadToken asyncUploadFiles(ExecutionWrapper execution, CloudControllerClient client, CloudApplication app,
-        String appArchiveId, String fileName) throws FileStorageException {
-        UploadToken uploadToken = new UploadToken();
-        DelegateExecution context = execution.getContext();
-        FileDownloadProcessor uploadFileToControllerProcessor = new DefaultFileDownloadProcessor(StepsUtil.getSpaceId(context),
-            appArchiveId, appArchiveStream -> {
-                Path filePath = null;
-                long maxSize = configuration.getMaxResourceFileSize();
-                try {
-                    ApplicationArchiveContext applicationArchiveContext = createApplicationArchiveContext(appArchiveStream, fileName,
-                        maxSize);
-                    filePath = extractFromMtar(applicationArchiveContext);
-                    upload(execution, client, app, filePath, uploadToken);
-                } catch (IOException e) {
-                    cleanUp(filePath);
-                    throw new SLException(e, Messages.ERROR_RETRIEVING_MTA_MODULE_CONTENT, fileName);
-                } catch (CloudOperationException e) {
-                    cleanUp(filePath);
-                    throw e;
-                }
-            });
-
-        fileService.processFileContent(uploadFileToControllerProcessor);
+    private UploadToken processExtractedApplication(ExecutionWrapper execution, CloudControllerClient client, CloudApplication app,
+        String fileName, ExtractedApplication extractedApplication) {
+        Path filePath = extractedApplication.path;
+        try {
+            detectApplicationFileDigestChanges(execution, app, client, extractedApplication.digest);
+            return asyncUploadFiles(execution, client, app, filePath);
+        } catch (IOException e) {
+            cleanUp(filePath);
+            throw new SLException(e, Messages.ERROR_RETRIEVING_MTA_MODULE_CONTENT, fileName);
+        } catch (RuntimeException e) {
+            cleanUp(filePath);
+            throw e;
+        }
+    }
 
+    private UploadToken asyncUploadFiles(ExecutionWrapper execution, CloudControllerClient client, CloudApplication app, Path filePath)
+        throws IOException {
+        UploadToken uploadToken = new UploadToken();
+        upload(execution, client, app, filePath, uploadToken);
         return uploadToken;
     }
 
@@ -191,6 +186,13 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
         }
     }
 
+    private static class ExtractedApplication {
+
+        private Path path;
+        private String digest;
+
+    }
+
     class MonitorUploadStatusCallback implements UploadStatusCallbackExtended {
 
         private final CloudApplication app;
@@ -0,0 +1,65 @@
+package com.sap.cloud.lm.sl.cf.process.steps;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.flowable.engine.delegate.DelegateExecution;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+import com.sap.cloud.lm.sl.cf.core.flowable.FlowableFacade;
+import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.mta.model.Module;
+
+/**
+ * Waits for the modules, which the module depends on and which are deployed in the same parallel iteration, to be deployed. This lets the
+ * module be deployed as soon as the modules it depends on are deployed, instead of after all modules of their iteration are deployed.
+ * <p>
+ * The step does not time out, as the time it waits is the time it takes to deploy these modules, and the deployment of each of them has
+ * its own timeouts. It fails instead, if the operation fails while it waits (see {@link PollModuleDependenciesStatusExecution}).
+ */
+@Component("waitForModuleDependenciesStep")
+@Scope(BeanDefinition.SCOPE_PROTOTYPE)
+public class WaitForModuleDependenciesStep extends AsyncFlowableStep {
+
+    @Inject
+    private FlowableFacade flowableFacade;
+
+    @Override
+    protected StepPhase executeAsyncStep(ExecutionWrapper execution) {
+        List<String> modulesToWaitFor = getModulesToWaitFor(execution.getContext());
+        if (modulesToWaitFor.isEmpty()) {
+            return StepPhase.DONE;
+        }
+        getStepLogger().info(Messages.WAITING_FOR_MODULES_TO_BE_DEPLOYED, StepsUtil.getModuleToDeploy(execution.getContext())
+            .getName(), modulesToWaitFor);
+        return StepPhase.POLL;
+    }
+
+    @Override
+    protected List<AsyncExecution> getAsyncStepExecutions(ExecutionWrapper execution) {
+        return Arrays.asList(new PollModuleDependenciesStatusExecution(flowableFacade));
+    }
+
+    static List<String> getModulesToWaitFor(DelegateExecution context) {
+        Module module = StepsUtil.getModuleToDeploy(context);
+        if (module == null || module.getMajorSchemaVersion() < 3) {
+            return Collections.emptyList();
+        }
+        Set<String> modulesInIteration = StepsUtil.getModulesToIterateInParallel(context)
+            .stream()
+            .map(Module::getName)
+            .collect(Collectors.toSet());
+        return module.getDeployedAfter()
+            .stream()
+            .filter(modulesInIteration::contains)
+            .collect(Collectors.toList());
+    }
+
+}
@@ -11,6 +11,7 @@ import java.util.zip.ZipOutputStream;
 import javax.inject.Inject;
 
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.output.NullOutputStream;
 import org.cloudfoundry.client.lib.io.UtcAdjustedZipEntry;
 import org.springframework.stereotype.Component;
 
@@ -57,12 +58,16 @@ public class ApplicationZipBuilder {
         try (ZipOutputStream zipOutputStream = new ZipOutputStream(fileOutputStream)) {
             String moduleFileName = applicationArchiveContext.getModuleFileName();
             do {
-                if (!isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext) && !zipEntry.isDirectory()) {
-                    zipOutputStream.putNextEntry(createNewZipEntry(zipEntry.getName(), moduleFileName));
-                    copy(applicationArchiveContext.getZipInputStream(), zipOutputStream, applicationArchiveContext);
-                    zipOutputStream.closeEntry();
-
+                if (zipEntry.isDirectory()) {
+                    continue;
+                }
+                if (isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext)) {
+                    skip(applicationArchiveContext);
+                    continue;
                 }
+                zipOutputStream.putNextEntry(createNewZipEntry(zipEntry.getName(), moduleFileName));
+                copy(applicationArchiveContext.getZipInputStream(), zipOutputStream, applicationArchiveContext);
+                zipOutputStream.closeEntry();
             } while ((zipEntry = applicationArchiveReader.getNextEntryByName(moduleFileName, applicationArchiveContext)) != null);
         }
     }
@@ -75,7 +80,9 @@ public class ApplicationZipBuilder {
         throws IOException {
         String moduleFileName = applicationArchiveContext.getModuleFileName();
         do {
-            if (!isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext)) {
+            if (isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext)) {
+                skip(applicationArchiveContext);
+            } else {
                 copy(applicationArchiveContext.getZipInputStream(), fileOutputStream, applicationArchiveContext);
             }
         } while ((zipEntry = applicationArchiveReader.getNextEntryByName(moduleFileName, applicationArchiveContext)) != null);
@@ -86,10 +93,16 @@ public class ApplicationZipBuilder {
             .contains(zipEntryName);
     }
 
+    private void skip(ApplicationArchiveContext applicationArchiveContext) throws IOException {
+        // The entry is not written, but it is still part of the application digest:
+        copy(applicationArchiveContext.getZipInputStream(), NullOutputStream.NULL_OUTPUT_STREAM, applicationArchiveContext);
+    }
+
     protected void copy(InputStream input, OutputStream output, ApplicationArchiveContext applicationArchiveContext) throws IOException {
         byte[] buffer = new byte[BUFFER_SIZE];
         int numberOfReadBytes = 0;
         long maxSizeInBytes = applicationArchiveContext.getMaxSizeInBytes();
+        DigestCalculator applicationDigestCalculator = applicationArchiveContext.getApplicationDigestCalculator();
         while ((numberOfReadBytes = input.read(buffer)) != -1) {
             long currentSizeInBytes = applicationArchiveContext.getCurrentSizeInBytes();
             if (currentSizeInBytes + numberOfReadBytes > maxSizeInBytes) {
@@ -97,6 +110,7 @@ public class ApplicationZipBuilder {
             }
             output.write(buffer, 0, numberOfReadBytes);
             applicationArchiveContext.calculateCurrentSizeInBytes(numberOfReadBytes);
+            applicationDigestCalculator.updateDigest(buffer, 0, numberOfReadBytes);
         }
     }
 
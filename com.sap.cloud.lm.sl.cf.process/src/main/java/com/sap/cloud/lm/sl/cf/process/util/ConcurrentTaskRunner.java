@@ -0,0 +1,66 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.common.SLException;
+
+/**
+ * Runs the independent tasks of a step concurrently on a bounded pool of daemon threads. Steps keep their runner in a constant, so that
+ * its pool is shared by all processes and limits the number of requests sent to the controller in parallel in total.
+ */
+public class ConcurrentTaskRunner {
+
+    private final ExecutorService executor;
+
+    public ConcurrentTaskRunner(String threadName, int maxParallelTasks) {
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxParallelTasks, maxParallelTasks, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = threadPoolExecutor;
+    }
+
+    /**
+     * Applies the task to each of the inputs and waits for all of them to complete. If any of the tasks fails, the exception of the first
+     * failed one is rethrown, but only after the others have completed, so that none of them keeps running after the step has failed.
+     *
+     * @return the results of the task, in the order of the inputs
+     */
+    public <T, R> List<R> run(List<T> inputs, Function<T, R> task) {
+        List<Callable<R>> callables = inputs.stream()
+            .map(input -> (Callable<R>) () -> task.apply(input))
+            .collect(Collectors.toList());
+        try {
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : executor.invokeAll(callables)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new SLException(e, Messages.INTERRUPTED_WHILE_WAITING_FOR_CONCURRENT_TASKS);
+        } catch (ExecutionException e) {
+            // The tasks are functions, so they can fail only with unchecked exceptions:
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw (Error) e.getCause();
+        }
+    }
+
+}
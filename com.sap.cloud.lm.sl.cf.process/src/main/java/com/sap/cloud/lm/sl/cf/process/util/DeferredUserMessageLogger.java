@@ -0,0 +1,125 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.sap.cloud.lm.sl.cf.core.util.UserMessageLogger;
+
+/**
+ * Records the messages of a task, which is run by a {@link ConcurrentTaskRunner}, so that they can be logged on the thread of the step
+ * after the task has completed. The {@link StepLogger} cannot be used by such tasks directly, because it reads the execution of the step,
+ * which may be accessed only by the thread of the engine.
+ */
+public class DeferredUserMessageLogger implements UserMessageLogger {
+
+    private final List<Consumer<UserMessageLogger>> messages = new ArrayList<>();
+
+    /**
+     * Logs the recorded messages, in the order in which they were recorded, with the specified logger.
+     */
+    public void logTo(UserMessageLogger logger) {
+        messages.forEach(message -> message.accept(logger));
+    }
+
+    public void logFlowableTask() {
+        messages.add(UserMessageLogger::logFlowableTask);
+    }
+
+    public void infoWithoutProgressMessage(String pattern, Object... arguments) {
+        messages.add(logger -> logger.infoWithoutProgressMessage(pattern, arguments));
+    }
+
+    public void infoWithoutProgressMessage(String message) {
+        messages.add(logger -> logger.infoWithoutProgressMessage(message));
+    }
+
+    public void info(String pattern, Object... arguments) {
+        messages.add(logger -> logger.info(pattern, arguments));
+    }
+
+    public void info(String message) {
+        messages.add(logger -> logger.info(message));
+    }
+
+    public void errorWithoutProgressMessage(Exception e, String pattern, Object... arguments) {
+        messages.add(logger -> logger.errorWithoutProgressMessage(e, pattern, arguments));
+    }
+
+    public void errorWithoutProgressMessage(Exception e, String message) {
+        messages.add(logger -> logger.errorWithoutProgressMessage(e, message));
+    }
+
+    public void errorWithoutProgressMessage(String pattern, Object... arguments) {
+        messages.add(logger -> logger.errorWithoutProgressMessage(pattern, arguments));
+    }
+
+    public void errorWithoutProgressMessage(String message) {
+        messages.add(logger -> logger.errorWithoutProgressMessage(message));
+    }
+
+    public void error(Exception e, String pattern, Object... arguments) {
+        messages.add(logger -> logger.error(e, pattern, arguments));
+    }
+
+    public void error(Exception e, String message) {
+        messages.add(logger -> logger.error(e, message));
+    }
+
+    public void error(String pattern, Object... arguments) {
+        messages.add(logger -> logger.error(pattern, arguments));
+    }
+
+    public void error(String message) {
+        messages.add(logger -> logger.error(message));
+    }
+
+    public void warnWithoutProgressMessage(Exception e, String pattern, Object... arguments) {
+        messages.add(logger -> logger.warnWithoutProgressMessage(e, pattern, arguments));
+    }
+
+    public void warnWithoutProgressMessage(Exception e, String message) {
+        messages.add(logger -> logger.warnWithoutProgressMessage(e, message));
+    }
+
+    public void warnWithoutProgressMessage(String pattern, Object... arguments) {
+        messages.add(logger -> logger.warnWithoutProgressMessage(pattern, arguments));
+    }
+
+    public void warnWithoutProgressMessage(String message) {
+        messages.add(logger -> logger.warnWithoutProgressMessage(message));
+    }
+
+    public void warn(Exception e, String pattern, Object... arguments) {
+        messages.add(logger -> logger.warn(e, pattern, arguments));
+    }
+
+    public void warn(Exception e, String message) {
+        messages.add(logger -> logger.warn(e, message));
+    }
+
+    public void warn(String pattern, Object... arguments) {
+        messages.add(logger -> logger.warn(pattern, arguments));
+    }
+
+    public void warn(String message) {
+        messages.add(logger -> logger.warn(message));
+    }
+
+    public void debug(String pattern, Object... arguments) {
+        messages.add(logger -> logger.debug(pattern, arguments));
+    }
+
+    public void debug(String message) {
+        messages.add(logger -> logger.debug(message));
+    }
+
+    public void trace(String pattern, Object... arguments) {
+        messages.add(logger -> logger.trace(pattern, arguments));
+    }
+
+    public void trace(String message) {
+        messages.add(logger -> logger.trace(message));
+    }
+
+}
@@ -63,6 +63,7 @@ public class FlowableExceptionEventHandler {
         String processInstanceId = getProcessInstanceId(flowableEngineEvent);
         progressMessageService.add(new ProgressMessage(processInstanceId, taskId, ProgressMessageType.ERROR, errorMessage,
             new Timestamp(System.currentTimeMillis())));
+        progressMessageService.flush();
     }
 
     private String getCurrentTaskId(FlowableEngineEvent flowableEngineEvent) {
@@ -0,0 +1,85 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.common.SLException;
+import com.sap.cloud.lm.sl.common.util.JsonUtil;
+
+/**
+ * Encodes the values of process variables as JSON binaries. The engine stores binaries in its byte array table and copies them into its
+ * history, so the binaries of large values are compressed. Binaries without a GZIP header are decoded as plain JSON, which keeps the
+ * values stored before the compression was introduced readable.
+ */
+public class JsonBinaryCodec {
+
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 4 * 1024; // 4 KB
+
+    private static final int GZIP_MAGIC_FIRST_BYTE = GZIPInputStream.GZIP_MAGIC & 0xff;
+    private static final int GZIP_MAGIC_SECOND_BYTE = (GZIPInputStream.GZIP_MAGIC >> 8) & 0xff;
+
+    private final int compressionThreshold;
+
+    public JsonBinaryCodec() {
+        this(DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * @param compressionThreshold the size of the JSON binaries, from which on they are compressed
+     */
+    public JsonBinaryCodec(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public byte[] encode(Object value) {
+        byte[] jsonBinary = JsonUtil.toJsonBinary(value);
+        if (jsonBinary.length < compressionThreshold) {
+            return jsonBinary;
+        }
+        return compress(jsonBinary);
+    }
+
+    public <T> T decode(byte[] binary, TypeReference<T> type) {
+        return JsonUtil.fromJsonBinary(decompressIfCompressed(binary), type);
+    }
+
+    public <T> T decode(byte[] binary, Class<T> classOfT) {
+        return JsonUtil.fromJsonBinary(decompressIfCompressed(binary), classOfT);
+    }
+
+    static boolean isCompressed(byte[] binary) {
+        // A JSON document cannot start with these bytes:
+        return binary.length >= 2 && (binary[0] & 0xff) == GZIP_MAGIC_FIRST_BYTE && (binary[1] & 0xff) == GZIP_MAGIC_SECOND_BYTE;
+    }
+
+    private byte[] compress(byte[] binary) {
+        ByteArrayOutputStream compressedBinary = new ByteArrayOutputStream(binary.length / 4);
+        try (OutputStream compressingStream = new GZIPOutputStream(compressedBinary)) {
+            compressingStream.write(binary);
+        } catch (IOException e) {
+            throw new SLException(e, Messages.ERROR_COMPRESSING_VARIABLE_VALUE, e.getMessage());
+        }
+        return compressedBinary.toByteArray();
+    }
+
+    private byte[] decompressIfCompressed(byte[] binary) {
+        if (!isCompressed(binary)) {
+            return binary;
+        }
+        try (InputStream decompressingStream = new GZIPInputStream(new ByteArrayInputStream(binary))) {
+            return IOUtils.toByteArray(decompressingStream);
+        } catch (IOException e) {
+            throw new SLException(e, Messages.ERROR_DECOMPRESSING_VARIABLE_VALUE, e.getMessage());
+        }
+    }
+
+}
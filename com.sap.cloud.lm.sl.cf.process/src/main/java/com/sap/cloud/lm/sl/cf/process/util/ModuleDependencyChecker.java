@@ -1,12 +1,13 @@
 package com.sap.cloud.lm.sl.cf.process.util;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.cloudfoundry.client.lib.CloudControllerClient;
-import org.cloudfoundry.client.lib.domain.CloudApplication;
 
 import com.sap.cloud.lm.sl.mta.model.Module;
 
@@ -15,6 +16,7 @@ public class ModuleDependencyChecker {
     private Set<String> modulesForDeployment;
     private Set<String> modulesNotForDeployment;
     private Set<String> modulesAlreadyDeployed;
+    private Map<String, Boolean> modulesPresentInSpace = new HashMap<>();
     private CloudControllerClient client;
 
     public ModuleDependencyChecker(CloudControllerClient client, List<Module> allModulesInDescriptor, List<Module> allModulesToDeploy,
@@ -46,28 +48,35 @@ public class ModuleDependencyChecker {
     }
 
     public boolean areAllDependenciesSatisfied(Module module) {
+        return areAllDependenciesSatisfied(module, Collections.emptySet());
+    }
+
+    /**
+     * Checks whether the module can be deployed in the same iteration as the given modules, if its deployment waits for theirs to complete
+     * first.
+     */
+    public boolean areAllDependenciesSatisfied(Module module, Set<String> modulesToWaitFor) {
         if (module.getMajorSchemaVersion() < 3) {
             return true;
         }
 
         return module.getDeployedAfter()
-            .isEmpty() || modulesAlreadyDeployed.containsAll(module.getDeployedAfter())
-            || areAllDependenciesAlreadyPresent(module.getDeployedAfter());
+            .stream()
+            .allMatch(dependency -> isDependencySatisfied(dependency, modulesToWaitFor));
     }
 
-    private boolean areAllDependenciesAlreadyPresent(List<String> deployedAfter) {
-        List<CloudApplication> modulesNotFoundInSpace = deployedAfter.stream()
-            .filter(modulesNotForDeployment::contains)
-            .map(deployAfterDependency -> client.getApplication(deployAfterDependency, false))
-            .filter(Objects::isNull)
-            .collect(Collectors.toList());
-
-        List<String> modulesNotYetDeployed = deployedAfter.stream()
-            .filter(modulesForDeployment::contains)
-            .filter(module -> !modulesAlreadyDeployed.contains(module))
-            .collect(Collectors.toList());
+    private boolean isDependencySatisfied(String dependency, Set<String> modulesToWaitFor) {
+        if (modulesAlreadyDeployed.contains(dependency) || modulesToWaitFor.contains(dependency)) {
+            return true;
+        }
+        if (modulesNotForDeployment.contains(dependency)) {
+            return isPresentInSpace(dependency);
+        }
+        return !modulesForDeployment.contains(dependency);
+    }
 
-        return modulesNotFoundInSpace.isEmpty() && modulesNotYetDeployed.isEmpty();
+    private boolean isPresentInSpace(String module) {
+        return modulesPresentInSpace.computeIfAbsent(module, name -> client.getApplication(name, false) != null);
     }
 
     public Set<String> getModulesForDeployment() {
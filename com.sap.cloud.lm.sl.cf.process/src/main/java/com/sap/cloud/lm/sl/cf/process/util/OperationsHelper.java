@@ -3,6 +3,7 @@ package com.sap.cloud.lm.sl.cf.process.util;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -54,8 +55,15 @@ public class OperationsHelper {
     }
 
     private void addOngoingOperationsState(List<Operation> existingOngoingOperations) {
+        List<String> processIds = existingOngoingOperations.stream()
+            .filter(ongoingOperation -> ongoingOperation.getState() == null)
+            .map(Operation::getProcessId)
+            .collect(Collectors.toList());
+        Map<String, State> processStates = flowableFacade.getProcessInstanceStates(processIds);
         for (Operation ongoingOperation : existingOngoingOperations) {
-            addState(ongoingOperation);
+            if (ongoingOperation.getState() == null) {
+                ongoingOperation.setState(handleComputedState(ongoingOperation, processStates.get(ongoingOperation.getProcessId())));
+            }
         }
     }
 
@@ -67,7 +75,10 @@ public class OperationsHelper {
         if (ongoingOperation.getState() != null) {
             return ongoingOperation.getState();
         }
-        State state = computeState(ongoingOperation);
+        return handleComputedState(ongoingOperation, computeState(ongoingOperation));
+    }
+
+    private State handleComputedState(Operation ongoingOperation, State state) {
         // Fixes bug XSBUG-2035: Inconsistency in 'operation', 'act_hi_procinst' and 'act_ru_execution' tables
         if (ongoingOperation.hasAcquiredLock() && (state.equals(State.ABORTED) || state.equals(State.FINISHED))) {
             ongoingOperation.acquiredLock(false);
@@ -0,0 +1,85 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Caches the objects parsed from the serialized variables of processes, so that the steps that read the same variable do not parse it
+ * again. The serialized value, from which an object was parsed, serves as its version. The cached object is returned only if the variable
+ * still has the same serialized value, so setting the variable to a new value invalidates it, even if it is set without going through
+ * {@link #invalidate(String, String)}.
+ * <p>
+ * The cached objects are shared by the steps of a process, so they should not be modified by them.
+ */
+public class ParsedVariableCache {
+
+    private final Map<String, ParsedVariable> parsedVariables;
+
+    public ParsedVariableCache(int maxSize) {
+        this.parsedVariables = new LinkedHashMap<String, ParsedVariable>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsedVariable> eldest) {
+                return size() > maxSize;
+            }
+
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <S, T> T get(String processInstanceId, String name, S serializedValue, Function<S, T> parser) {
+        if (serializedValue == null) {
+            return null;
+        }
+        String key = getKey(processInstanceId, name);
+        ParsedVariable parsedVariable = getParsedVariable(key);
+        if (parsedVariable != null && Objects.deepEquals(parsedVariable.serializedValue, serializedValue)) {
+            return (T) parsedVariable.value;
+        }
+        // The value is parsed without holding the lock, because parsing large values takes time:
+        T value = parser.apply(serializedValue);
+        putParsedVariable(key, new ParsedVariable(serializedValue, value));
+        return value;
+    }
+
+    public void invalidate(String processInstanceId, String name) {
+        removeParsedVariable(getKey(processInstanceId, name));
+    }
+
+    private synchronized ParsedVariable getParsedVariable(String key) {
+        return parsedVariables.get(key);
+    }
+
+    private synchronized void putParsedVariable(String key, ParsedVariable parsedVariable) {
+        parsedVariables.put(key, parsedVariable);
+    }
+
+    private synchronized void removeParsedVariable(String key) {
+        parsedVariables.remove(key);
+    }
+
+    synchronized int size() {
+        return parsedVariables.size();
+    }
+
+    private String getKey(String processInstanceId, String name) {
+        return processInstanceId + "/" + name;
+    }
+
+    private static class ParsedVariable {
+
+        private final Object serializedValue;
+        private final Object value;
+
+        ParsedVariable(Object serializedValue, Object value) {
+            this.serializedValue = serializedValue;
+            this.value = value;
+        }
+
+    }
+
+}
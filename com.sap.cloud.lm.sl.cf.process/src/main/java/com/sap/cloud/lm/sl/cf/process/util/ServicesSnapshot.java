@@ -0,0 +1,81 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.cloudfoundry.client.lib.domain.CloudService;
+import org.cloudfoundry.client.lib.domain.CloudServiceBinding;
+import org.cloudfoundry.client.lib.domain.CloudServiceKey;
+
+/**
+ * The services of a space, as they were when the snapshot was taken, together with their bindings and keys. The bindings and the keys are
+ * loaded for all services at once, the first time the bindings or the keys of any of them are needed.
+ * <p>
+ * The services that were created after the snapshot was taken are not part of it, and the services that were changed after it was taken are
+ * invalidated in it. For both, the getters return {@code null} and the callers should fall back to looking them up directly.
+ */
+public class ServicesSnapshot {
+
+    private final Map<String, CloudService> services = new LinkedHashMap<>();
+    private final Set<String> invalidatedServices = new HashSet<>();
+    private final Supplier<Map<String, List<CloudServiceBinding>>> serviceBindingsLoader;
+    private final Supplier<Map<String, List<CloudServiceKey>>> serviceKeysLoader;
+    private Map<String, List<CloudServiceBinding>> serviceBindings;
+    private Map<String, List<CloudServiceKey>> serviceKeys;
+
+    public ServicesSnapshot(List<CloudService> services, Supplier<Map<String, List<CloudServiceBinding>>> serviceBindingsLoader,
+        Supplier<Map<String, List<CloudServiceKey>>> serviceKeysLoader) {
+        services.forEach(service -> this.services.put(service.getName(), service));
+        this.serviceBindingsLoader = serviceBindingsLoader;
+        this.serviceKeysLoader = serviceKeysLoader;
+    }
+
+    /**
+     * Returns all services in the snapshot, including the invalidated ones, as changing a service does not change whether it exists.
+     */
+    public synchronized List<CloudService> getServices() {
+        return new ArrayList<>(services.values());
+    }
+
+    public synchronized CloudService getService(String serviceName) {
+        if (!isUpToDate(serviceName)) {
+            return null;
+        }
+        return services.get(serviceName);
+    }
+
+    public synchronized List<CloudServiceBinding> getServiceBindings(String serviceName) {
+        if (!isUpToDate(serviceName)) {
+            return null;
+        }
+        if (serviceBindings == null) {
+            serviceBindings = serviceBindingsLoader.get();
+        }
+        return serviceBindings.getOrDefault(serviceName, Collections.emptyList());
+    }
+
+    public synchronized List<CloudServiceKey> getServiceKeys(String serviceName) {
+        if (!isUpToDate(serviceName)) {
+            return null;
+        }
+        if (serviceKeys == null) {
+            serviceKeys = serviceKeysLoader.get();
+        }
+        return serviceKeys.getOrDefault(serviceName, Collections.emptyList());
+    }
+
+    synchronized void invalidateService(String serviceName) {
+        invalidatedServices.add(serviceName);
+    }
+
+    private boolean isUpToDate(String serviceName) {
+        return services.containsKey(serviceName) && !invalidatedServices.contains(serviceName);
+    }
+
+}
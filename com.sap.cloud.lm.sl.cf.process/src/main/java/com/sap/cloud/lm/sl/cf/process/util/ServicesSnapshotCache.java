@@ -0,0 +1,166 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.cloudfoundry.client.lib.CloudControllerClient;
+import org.cloudfoundry.client.lib.domain.CloudService;
+import org.cloudfoundry.client.lib.domain.CloudServiceBinding;
+import org.cloudfoundry.client.lib.domain.CloudServiceKey;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudServiceKey;
+import org.springframework.stereotype.Component;
+
+import com.sap.cloud.lm.sl.cf.core.cf.clients.ServiceBindingsAndKeysGetter;
+
+/**
+ * Keeps a {@link ServicesSnapshot} per operation, so that the steps of an operation, including the ones of its parallel subprocesses, do
+ * not list the services of the space and their bindings and keys over and over again. The snapshots are identified by the correlation IDs
+ * of the operations.
+ * <p>
+ * The steps that create, update or bind services, or change their keys, should invalidate the changed services in the snapshot of their
+ * operation, so that only these services are looked up directly afterwards. The steps that delete services should invalidate the whole
+ * snapshot. A snapshot, whose loading overlapped with an invalidation for the same operation, is not cached at all, as it may already be
+ * outdated. The snapshots also expire after a few minutes, as the services of the space may be changed by others as well.
+ */
+@Component
+public class ServicesSnapshotCache {
+
+    private static final int DEFAULT_MAX_SNAPSHOTS = 64;
+    private static final long DEFAULT_MAX_SNAPSHOT_AGE_IN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final ServiceBindingsAndKeysGetter serviceBindingsAndKeysGetter;
+    private final long maxSnapshotAgeInMillis;
+    private final Map<String, OperationSnapshot> snapshots;
+
+    @Inject
+    public ServicesSnapshotCache(ServiceBindingsAndKeysGetter serviceBindingsAndKeysGetter) {
+        this(serviceBindingsAndKeysGetter, DEFAULT_MAX_SNAPSHOTS, DEFAULT_MAX_SNAPSHOT_AGE_IN_MILLIS);
+    }
+
+    ServicesSnapshotCache(ServiceBindingsAndKeysGetter serviceBindingsAndKeysGetter, int maxSnapshots, long maxSnapshotAgeInMillis) {
+        this.serviceBindingsAndKeysGetter = serviceBindingsAndKeysGetter;
+        this.maxSnapshotAgeInMillis = maxSnapshotAgeInMillis;
+        this.snapshots = new LinkedHashMap<String, OperationSnapshot>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OperationSnapshot> eldest) {
+                return size() > maxSnapshots;
+            }
+
+        };
+    }
+
+    public ServicesSnapshot get(String correlationId, CloudControllerClient client) {
+        OperationSnapshot operationSnapshot;
+        long invalidationsCountBeforeLoading;
+        synchronized (this) {
+            operationSnapshot = snapshots.computeIfAbsent(correlationId, id -> new OperationSnapshot());
+            if (operationSnapshot.cachedSnapshot != null && !isExpired(operationSnapshot.cachedSnapshot)) {
+                return operationSnapshot.cachedSnapshot.snapshot;
+            }
+            invalidationsCountBeforeLoading = operationSnapshot.invalidationsCount;
+        }
+        // The snapshot is loaded without holding the lock, because listing the services of a space takes time:
+        ServicesSnapshot snapshot = loadSnapshot(client);
+        putSnapshotIfNotInvalidated(correlationId, operationSnapshot, new CachedSnapshot(snapshot), invalidationsCountBeforeLoading);
+        return snapshot;
+    }
+
+    public synchronized void invalidate(String correlationId) {
+        OperationSnapshot operationSnapshot = snapshots.get(correlationId);
+        if (operationSnapshot != null) {
+            operationSnapshot.cachedSnapshot = null;
+            operationSnapshot.invalidationsCount++;
+        }
+    }
+
+    public synchronized void invalidate(String correlationId, String serviceName) {
+        OperationSnapshot operationSnapshot = snapshots.get(correlationId);
+        if (operationSnapshot == null) {
+            return;
+        }
+        if (operationSnapshot.cachedSnapshot != null) {
+            operationSnapshot.cachedSnapshot.snapshot.invalidateService(serviceName);
+        }
+        // A snapshot that is being loaded may or may not contain the change, so it must not be cached:
+        operationSnapshot.invalidationsCount++;
+    }
+
+    private ServicesSnapshot loadSnapshot(CloudControllerClient client) {
+        List<CloudService> services = client.getServices();
+        Map<UUID, CloudService> servicesByGuid = services.stream()
+            .collect(Collectors.toMap(service -> service.getMetadata()
+                .getGuid(), service -> service));
+        return new ServicesSnapshot(services, () -> loadServiceBindings(client, servicesByGuid),
+            () -> loadServiceKeys(client, servicesByGuid));
+    }
+
+    private Map<String, List<CloudServiceBinding>> loadServiceBindings(CloudControllerClient client,
+        Map<UUID, CloudService> servicesByGuid) {
+        Map<String, List<CloudServiceBinding>> serviceBindings = new HashMap<>();
+        serviceBindingsAndKeysGetter.getServiceBindings(client, servicesByGuid.keySet())
+            .forEach((serviceGuid, bindings) -> serviceBindings.put(servicesByGuid.get(serviceGuid)
+                .getName(), bindings));
+        return serviceBindings;
+    }
+
+    private Map<String, List<CloudServiceKey>> loadServiceKeys(CloudControllerClient client, Map<UUID, CloudService> servicesByGuid) {
+        Map<String, List<CloudServiceKey>> serviceKeys = new HashMap<>();
+        serviceBindingsAndKeysGetter.getServiceKeys(client, servicesByGuid.keySet())
+            .forEach((serviceGuid, keys) -> {
+                CloudService service = servicesByGuid.get(serviceGuid);
+                serviceKeys.put(service.getName(), keys.stream()
+                    .map(key -> ImmutableCloudServiceKey.copyOf(key)
+                        .withService(service))
+                    .collect(Collectors.toList()));
+            });
+        return serviceKeys;
+    }
+
+    private boolean isExpired(CachedSnapshot cachedSnapshot) {
+        return System.currentTimeMillis() - cachedSnapshot.takenAt >= maxSnapshotAgeInMillis;
+    }
+
+    private synchronized void putSnapshotIfNotInvalidated(String correlationId, OperationSnapshot operationSnapshot,
+        CachedSnapshot cachedSnapshot, long invalidationsCountBeforeLoading) {
+        // The invalidations of an evicted operation are lost, so its snapshot is cached only if it has not been evicted in the meantime:
+        if (snapshots.get(correlationId) == operationSnapshot && operationSnapshot.invalidationsCount == invalidationsCountBeforeLoading) {
+            operationSnapshot.cachedSnapshot = cachedSnapshot;
+        }
+    }
+
+    synchronized int size() {
+        return (int) snapshots.values()
+            .stream()
+            .filter(operationSnapshot -> operationSnapshot.cachedSnapshot != null)
+            .count();
+    }
+
+    private static class OperationSnapshot {
+
+        private CachedSnapshot cachedSnapshot;
+        private long invalidationsCount;
+
+    }
+
+    private static class CachedSnapshot {
+
+        private final ServicesSnapshot snapshot;
+        private final long takenAt = System.currentTimeMillis();
+
+        CachedSnapshot(ServicesSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+    }
+
+}
@@ -1,7 +1,12 @@
 package com.sap.cloud.lm.sl.cf.process.jobs;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -34,6 +39,57 @@ public class CleanUpJobTest {
             .execute(Mockito.any());
     }
 
+    @Test
+    public void testIndependentCleanersAreExecutedConcurrently() {
+        CountDownLatch executingCleaners = new CountDownLatch(2);
+        AtomicBoolean cleanersWereExecutedConcurrently = new AtomicBoolean(true);
+        Cleaner cleaner = expirationTime -> {
+            executingCleaners.countDown();
+            cleanersWereExecutedConcurrently.compareAndSet(true, await(executingCleaners));
+        };
+        List<Cleaner> cleaners = Arrays.asList(cleaner, cleaner);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(new ApplicationConfiguration(), cleaners);
+        cleanUpJob.execute(null);
+
+        assertTrue(cleanersWereExecutedConcurrently.get());
+    }
+
+    @Test
+    public void testCleanerIsInterruptedWhenItExceedsItsTimeout() {
+        ApplicationConfiguration applicationConfiguration = Mockito.mock(ApplicationConfiguration.class);
+        Mockito.when(applicationConfiguration.getMaxTtlForOldData())
+            .thenReturn(ApplicationConfiguration.DEFAULT_MAX_TTL_FOR_OLD_DATA);
+        Mockito.when(applicationConfiguration.getCleanUpJobParallelism())
+            .thenReturn(ApplicationConfiguration.DEFAULT_CLEAN_UP_JOB_PARALLELISM);
+        Mockito.when(applicationConfiguration.getCleanUpJobCleanerTimeoutInSeconds())
+            .thenReturn(1);
+        AtomicBoolean cleanerWasInterrupted = new AtomicBoolean();
+        Cleaner cleaner = expirationTime -> {
+            try {
+                new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                cleanerWasInterrupted.set(true);
+            }
+        };
+        Cleaner nextCleaner = Mockito.mock(Cleaner.class);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(applicationConfiguration, Arrays.asList(cleaner, nextCleaner));
+        cleanUpJob.execute(null);
+
+        assertTrue(cleanerWasInterrupted.get());
+        Mockito.verify(nextCleaner)
+            .execute(Mockito.any());
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
     private CleanUpJob createCleanUpJob(ApplicationConfiguration applicationConfiguration, List<Cleaner> cleaners) {
         CleanUpJob cleanUpJob = new CleanUpJob();
         cleanUpJob.configuration = applicationConfiguration;
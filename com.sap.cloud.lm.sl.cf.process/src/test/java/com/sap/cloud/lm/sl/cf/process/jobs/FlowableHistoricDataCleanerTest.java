@@ -1,8 +1,11 @@
 package com.sap.cloud.lm.sl.cf.process.jobs;
 
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -21,6 +24,9 @@ import org.mockito.AdditionalAnswers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.sap.cloud.lm.sl.cf.persistence.services.FlowableHistoricDataService;
+import com.sap.cloud.lm.sl.common.SLException;
+
 public class FlowableHistoricDataCleanerTest {
 
     private static final Date EXPIRATION_TIME = new Date(5000);
@@ -31,12 +37,14 @@ public class FlowableHistoricDataCleanerTest {
 
     @Mock
     private HistoryService historyService;
+    @Mock
+    private FlowableHistoricDataService historicDataService;
     private FlowableHistoricDataCleaner cleaner;
 
     @BeforeEach
     public void initMocks() {
         MockitoAnnotations.initMocks(this);
-        this.cleaner = new FlowableHistoricDataCleaner(historyService, PAGE_SIZE);
+        this.cleaner = new FlowableHistoricDataCleaner(historyService, historicDataService, PAGE_SIZE);
     }
 
     @Test
@@ -96,4 +104,29 @@ public class FlowableHistoricDataCleanerTest {
         verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_2);
     }
 
+    @Test
+    public void testExecuteInBulk() {
+        HistoricProcessInstanceQuery query = mockHistoricProcessInstanceQueryWithPages(Collections.emptyList());
+        when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
+        when(historicDataService.deleteFinishedProcessesStartedBefore(EXPIRATION_TIME, PAGE_SIZE)).thenReturn(PAGE_SIZE, 1);
+
+        cleaner.execute(EXPIRATION_TIME);
+        verify(historicDataService, times(2)).deleteFinishedProcessesStartedBefore(EXPIRATION_TIME, PAGE_SIZE);
+        verify(historyService, never()).deleteHistoricProcessInstance(anyString());
+    }
+
+    @Test
+    public void testExecuteFallsBackToDeletingProcessesOneByOne() {
+        HistoricProcessInstance process1 = mockHistoricProcessInstanceWithId(OPERATION_ID_1);
+        List<HistoricProcessInstance> page1 = Arrays.asList(process1);
+
+        HistoricProcessInstanceQuery query = mockHistoricProcessInstanceQueryWithPages(Arrays.asList(page1));
+        when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
+        when(historicDataService.deleteFinishedProcessesStartedBefore(EXPIRATION_TIME, PAGE_SIZE))
+            .thenThrow(new SLException("Table \"ACT_HI_PROCINST\" not found"));
+
+        cleaner.execute(EXPIRATION_TIME);
+        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_1);
+    }
+
 }
@@ -0,0 +1,92 @@
+package com.sap.cloud.lm.sl.cf.process.listeners;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ExecutionQuery;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.sap.cloud.lm.sl.cf.client.lib.domain.ImmutableCloudApplicationExtended;
+import com.sap.cloud.lm.sl.cf.core.cf.DeploymentMode;
+import com.sap.cloud.lm.sl.cf.core.flowable.FlowableFacade;
+import com.sap.cloud.lm.sl.cf.process.Constants;
+import com.sap.cloud.lm.sl.cf.process.mock.MockDelegateExecution;
+import com.sap.cloud.lm.sl.cf.process.steps.StepsUtil;
+import com.sap.cloud.lm.sl.common.util.JsonUtil;
+
+public class DeployAppSubProcessEndListenerTest {
+
+    private static final String MODULE_NAME = "foo";
+    private static final String PARENT_EXECUTION_ID = "parent-execution";
+    private static final String SUPER_EXECUTION_ID = "super-execution";
+
+    private DelegateExecution context = MockDelegateExecution.createSpyInstance();
+
+    @Mock
+    private FlowableFacade flowableFacade;
+    @Mock
+    private ProcessEngine processEngine;
+    @Mock
+    private RuntimeService runtimeService;
+
+    @InjectMocks
+    private DeployAppSubProcessEndListener listener = new DeployAppSubProcessEndListener();
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        prepareContext();
+        prepareRuntimeService();
+    }
+
+    private void prepareContext() {
+        context.setVariable(Constants.VAR_APP_TO_PROCESS, JsonUtil.toJson(ImmutableCloudApplicationExtended.builder()
+            .name(MODULE_NAME)
+            .moduleName(MODULE_NAME)
+            .build()));
+        when(context.getParentId()).thenReturn(PARENT_EXECUTION_ID);
+    }
+
+    private void prepareRuntimeService() {
+        when(flowableFacade.getProcessEngine()).thenReturn(processEngine);
+        when(processEngine.getRuntimeService()).thenReturn(runtimeService);
+        ExecutionQuery executionQuery = Mockito.mock(ExecutionQuery.class);
+        when(runtimeService.createExecutionQuery()).thenReturn(executionQuery);
+        when(executionQuery.executionId(PARENT_EXECUTION_ID)).thenReturn(executionQuery);
+        Execution parentExecution = Mockito.mock(Execution.class);
+        when(executionQuery.singleResult()).thenReturn(parentExecution);
+        when(parentExecution.getSuperExecutionId()).thenReturn(SUPER_EXECUTION_ID);
+    }
+
+    @Test
+    public void testDeployedModuleIsSetInParentProcessInParallelMode() throws Exception {
+        StepsUtil.setDeploymentMode(context, DeploymentMode.PARALLEL);
+
+        listener.notifyInternal(context);
+
+        verify(runtimeService).setVariable(eq(SUPER_EXECUTION_ID), eq(Constants.VAR_DEPLOYED_MODULE_VAR_PREFIX + MODULE_NAME), any());
+    }
+
+    @Test
+    public void testDeployedModuleIsNotSetInParentProcessInSequentialMode() throws Exception {
+        StepsUtil.setDeploymentMode(context, DeploymentMode.SEQUENTIAL);
+
+        listener.notifyInternal(context);
+
+        verify(runtimeService, never()).setVariable(anyString(), anyString(), any());
+    }
+
+}
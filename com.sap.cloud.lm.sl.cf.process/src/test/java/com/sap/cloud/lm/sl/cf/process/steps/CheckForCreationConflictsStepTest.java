@@ -25,6 +25,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
+import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import com.sap.cloud.lm.sl.cf.client.lib.domain.CloudApplicationExtended;
@@ -35,6 +36,8 @@ import com.sap.cloud.lm.sl.cf.core.model.DeployedMta;
 import com.sap.cloud.lm.sl.cf.core.model.DeployedMtaModule;
 import com.sap.cloud.lm.sl.cf.core.util.NameUtil;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshot;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 import com.sap.cloud.lm.sl.common.SLException;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
 import com.sap.cloud.lm.sl.common.util.TestUtil;
@@ -46,6 +49,8 @@ public class CheckForCreationConflictsStepTest extends SyncFlowableStepTest<Chec
     private final String expectedExceptionMessage;
     private Map<CloudServiceExtended, CloudServiceInstance> existingServiceInstances;
     private boolean shouldWarn;
+    @Mock
+    private ServicesSnapshotCache servicesSnapshotCache;
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
@@ -202,19 +207,10 @@ public class CheckForCreationConflictsStepTest extends SyncFlowableStepTest<Chec
     private void prepareExistingServices() {
         List<CloudService> existingServices = new ArrayList<>();
         stepInput.existingServices.forEach(service -> existingServices.add(service));
-        Mockito.when(client.getServices())
-            .thenReturn(existingServices);
-        prepareServiceInstances();
-
-    }
-
-    private void prepareServiceInstances() {
-        existingServiceInstances.forEach((service, instance) -> prepareServiceInstance(service, instance));
-    }
-
-    private void prepareServiceInstance(CloudServiceExtended service, CloudServiceInstance instance) {
-        Mockito.when(client.getServiceInstance(service.getName()))
-            .thenReturn(instance);
+        Map<String, List<CloudServiceBinding>> serviceBindings = new HashMap<>();
+        existingServiceInstances.forEach((service, instance) -> serviceBindings.put(service.getName(), instance.getBindings()));
+        Mockito.when(servicesSnapshotCache.get(Mockito.any(), Mockito.eq(client)))
+            .thenReturn(new ServicesSnapshot(existingServices, () -> serviceBindings, Collections::emptyMap));
     }
 
     @Override
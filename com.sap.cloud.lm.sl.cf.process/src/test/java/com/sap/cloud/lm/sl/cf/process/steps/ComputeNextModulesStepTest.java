@@ -0,0 +1,101 @@
+package com.sap.cloud.lm.sl.cf.process.steps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.cf.process.Constants;
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+import com.sap.cloud.lm.sl.mta.model.Module;
+
+public class ComputeNextModulesStepTest extends SyncFlowableStepTest<ComputeNextModulesStep> {
+
+    private static final Module MODULE_A = createModule("a");
+    private static final Module MODULE_B = createModule("b", "a");
+    private static final Module MODULE_C = createModule("c");
+    private static final Module MODULE_D = createModule("d", "e");
+    private static final Module MODULE_E = createModule("e");
+
+    @Test
+    public void testChainIsDeployedInTheSameIterationAsIndependentModules() {
+        // The dependent module is listed first, so it can be added to the iteration only after the module it depends on has been:
+        prepareContext(Arrays.asList(MODULE_B, MODULE_A, MODULE_C), Collections.emptyList());
+
+        step.execute(context);
+
+        assertStepFinishedSuccessfully();
+        assertEquals(Arrays.asList("b", "a", "c"), getNames(StepsUtil.getModulesToIterateInParallel(context)));
+        assertEquals(Arrays.asList("b", "a", "c"), getNames(StepsUtil.getIteratedModulesInParallel(context)));
+    }
+
+    @Test
+    public void testModuleWhoseDependencyIsMissingIsNotDeployed() {
+        // Module "e" is neither deployed, nor present in the space:
+        prepareContext(Arrays.asList(MODULE_A, MODULE_D), Collections.emptyList());
+
+        step.execute(context);
+
+        assertStepFinishedSuccessfully();
+        assertEquals(Arrays.asList("a"), getNames(StepsUtil.getModulesToIterateInParallel(context)));
+    }
+
+    @Test
+    public void testAlreadyDeployedModulesAreNotDeployedAgain() {
+        prepareContext(Arrays.asList(MODULE_A, MODULE_B, MODULE_C), Arrays.asList(MODULE_A));
+
+        step.execute(context);
+
+        assertStepFinishedSuccessfully();
+        assertEquals(Arrays.asList("b", "c"), getNames(StepsUtil.getModulesToIterateInParallel(context)));
+        assertEquals(Arrays.asList("a", "b", "c"), getNames(StepsUtil.getIteratedModulesInParallel(context)));
+    }
+
+    @Test
+    public void testModulesDeployedInPreviousPhaseAreNotMarkedAsDeployedWhenRestarted() {
+        prepareContext(Arrays.asList(MODULE_A, MODULE_B), Collections.emptyList());
+        step.execute(context);
+        // The deployments of the modules have completed (see DeployAppSubProcessEndListener):
+        context.setVariable(Constants.VAR_DEPLOYED_MODULE_VAR_PREFIX + "a", true);
+        context.setVariable(Constants.VAR_DEPLOYED_MODULE_VAR_PREFIX + "b", true);
+        // The modules are restarted (see PrepareAppsRestartStep):
+        prepareContext(Arrays.asList(MODULE_A, MODULE_B), Collections.emptyList());
+
+        step.execute(context);
+
+        assertStepFinishedSuccessfully();
+        assertEquals(Arrays.asList("a", "b"), getNames(StepsUtil.getModulesToIterateInParallel(context)));
+        assertNull(context.getVariable(Constants.VAR_DEPLOYED_MODULE_VAR_PREFIX + "a"));
+        assertNull(context.getVariable(Constants.VAR_DEPLOYED_MODULE_VAR_PREFIX + "b"));
+    }
+
+    private void prepareContext(List<Module> modulesToDeploy, List<Module> completedModules) {
+        StepsUtil.setDeploymentDescriptor(context, DeploymentDescriptor.createV3()
+            .setModules(Arrays.asList(MODULE_A, MODULE_B, MODULE_C, MODULE_D, MODULE_E)));
+        StepsUtil.setModulesToDeploy(context, modulesToDeploy);
+        StepsUtil.setIteratedModulesInParallel(context, completedModules);
+    }
+
+    private List<String> getNames(List<Module> modules) {
+        return modules.stream()
+            .map(Module::getName)
+            .collect(Collectors.toList());
+    }
+
+    private static Module createModule(String name, String... deployedAfter) {
+        return Module.createV3()
+            .setName(name)
+            .setDeployedAfter(Arrays.asList(deployedAfter));
+    }
+
+    @Override
+    protected ComputeNextModulesStep createStep() {
+        return new ComputeNextModulesStep();
+    }
+
+}
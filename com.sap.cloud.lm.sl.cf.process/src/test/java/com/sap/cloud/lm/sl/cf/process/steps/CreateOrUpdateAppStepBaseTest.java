@@ -6,15 +6,19 @@ import java.util.List;
 import java.util.Map;
 
 import org.cloudfoundry.client.lib.domain.CloudServiceKey;
+import org.mockito.Mock;
 
 import com.sap.cloud.lm.sl.cf.client.lib.domain.CloudApplicationExtended;
 import com.sap.cloud.lm.sl.cf.client.lib.domain.CloudServiceExtended;
 import com.sap.cloud.lm.sl.cf.client.lib.domain.ImmutableCloudServiceExtended;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 
 public abstract class CreateOrUpdateAppStepBaseTest extends SyncFlowableStepTest<CreateOrUpdateAppStep> {
 
     protected StepInput stepInput;
     protected CloudApplicationExtended application;
+    @Mock
+    protected ServicesSnapshotCache servicesSnapshotCache;
 
     protected static class StepInput {
         List<CloudApplicationExtended> applications = Collections.emptyList();
@@ -25,6 +25,7 @@ import com.sap.cloud.lm.sl.cf.core.cf.clients.ServiceInstanceGetter;
 import com.sap.cloud.lm.sl.cf.core.cf.clients.ServiceWithAlternativesCreator;
 import com.sap.cloud.lm.sl.cf.core.exec.MethodExecution;
 import com.sap.cloud.lm.sl.cf.core.exec.MethodExecution.ExecutionState;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
 import com.sap.cloud.lm.sl.common.util.TestUtil;
 
@@ -40,6 +41,8 @@ public class CreateServiceStepTest extends SyncFlowableStepTest<CreateServiceSte
     private ServiceInstanceGetter serviceInstanceGetter;
     @Mock
     private ServiceWithAlternativesCreator.Factory serviceCreatorFactory;
+    @Mock
+    private ServicesSnapshotCache servicesSnapshotCache;
 
     @Parameters
     public static Iterable<Object[]> getParameters() {
@@ -107,9 +107,7 @@ public class DeleteDiscontinuedConfigurationEntriesStepTest extends SyncFlowable
         assertEquals(toJson(getEntriesToDelete()),
             toJson(StepsUtil.getDeletedEntriesFromProcess(flowableFacadeFacade, context.getProcessInstanceId())));
 
-        for (Long id : (stepInput.idsOfExpectedEntriesToDelete)) {
-            verify(configurationEntryDao).remove(id);
-        }
+        verify(configurationEntryDao).remove(stepInput.idsOfExpectedEntriesToDelete);
     }
 
     private List<ConfigurationEntry> getEntriesToDelete() {
@@ -1,24 +1,40 @@
 package com.sap.cloud.lm.sl.cf.process.steps;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.cloudfoundry.client.lib.CloudOperationException;
+import org.cloudfoundry.client.lib.domain.CloudRoute;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudDomain;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudMetadata;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudRoute;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.sap.cloud.lm.sl.cf.client.lib.domain.CloudApplicationExtended;
 import com.sap.cloud.lm.sl.cf.client.lib.domain.ImmutableCloudApplicationExtended;
+import com.sap.cloud.lm.sl.cf.core.cf.clients.RouteCleaner;
 import com.sap.cloud.lm.sl.cf.core.util.ApplicationURI;
+import com.sap.cloud.lm.sl.cf.process.message.Messages;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
 import com.sap.cloud.lm.sl.common.util.TestUtil;
 
@@ -27,6 +43,9 @@ public class DeleteIdleRoutesStepTest extends SyncFlowableStepTest<DeleteIdleRou
     private CloudApplicationExtended expectedAppToDeploy;
     private CloudApplicationExtended appToDeploy;
 
+    @Mock
+    private RouteCleaner routeCleaner;
+
     public static Stream<Arguments> testExecute() {
         return Stream.of(
         // @formatter:off
@@ -60,6 +79,51 @@ public class DeleteIdleRoutesStepTest extends SyncFlowableStepTest<DeleteIdleRou
         }
     }
 
+    @Test
+    public void testExecuteWithRoutesResolvedInTheSpace() {
+        CloudRoute idleRoute1 = createRoute("module-1-idle", "domain.com");
+        CloudRoute idleRoute2 = createRoute("module-2-idle", "domain.com");
+        when(routeCleaner.getRoutes(eq(client), any())).thenReturn(Arrays.asList(idleRoute1, idleRoute2));
+        loadParameters("app-to-deploy-1.json");
+        prepareContext(Arrays.asList("module-1-idle.domain.com", "module-2-idle.domain.com"));
+
+        step.execute(context);
+
+        assertStepFinishedSuccessfully();
+        verify(routeCleaner).deleteRoute(client, idleRoute1);
+        verify(routeCleaner).deleteRoute(client, idleRoute2);
+        verify(client, never()).deleteRoute(anyString(), anyString());
+    }
+
+    @Test
+    public void testExecuteWithFailedDeletion() {
+        CloudRoute idleRoute1 = createRoute("module-1-idle", "domain.com");
+        CloudRoute idleRoute2 = createRoute("module-2-idle", "domain.com");
+        when(routeCleaner.getRoutes(eq(client), any())).thenReturn(Arrays.asList(idleRoute1, idleRoute2));
+        doThrow(new CloudOperationException(HttpStatus.INTERNAL_SERVER_ERROR)).when(routeCleaner)
+            .deleteRoute(client, idleRoute1);
+        loadParameters("app-to-deploy-1.json");
+        prepareContext(Arrays.asList("module-1-idle.domain.com", "module-2-idle.domain.com"));
+
+        assertThrows(RuntimeException.class, () -> step.execute(context));
+
+        verify(routeCleaner).deleteRoute(client, idleRoute2);
+        verify(stepLogger).warn(any(CloudOperationException.class), eq(Messages.COULD_NOT_DELETE_ROUTE), eq("module-1-idle.domain.com"));
+        verify(stepLogger).debug(Messages.ROUTE_DELETED, "module-2-idle.domain.com");
+    }
+
+    private CloudRoute createRoute(String host, String domain) {
+        return ImmutableCloudRoute.builder()
+            .metadata(ImmutableCloudMetadata.builder()
+                .guid(UUID.randomUUID())
+                .build())
+            .host(host)
+            .domain(ImmutableCloudDomain.builder()
+                .name(domain)
+                .build())
+            .build();
+    }
+
     private void loadParameters(String appDetailsFile) {
         expectedAppToDeploy = JsonUtil.fromJson(TestUtil.getResourceAsString(appDetailsFile, getClass()),
             new TypeReference<CloudApplicationExtended>() {
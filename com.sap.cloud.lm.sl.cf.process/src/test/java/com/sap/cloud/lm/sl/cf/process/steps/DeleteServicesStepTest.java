@@ -51,6 +51,8 @@ import com.sap.cloud.lm.sl.cf.client.lib.domain.CloudServiceExtended;
 import com.sap.cloud.lm.sl.cf.client.lib.domain.ImmutableCloudServiceExtended;
 import com.sap.cloud.lm.sl.cf.core.cf.clients.EventsGetter;
 import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshot;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 import com.sap.cloud.lm.sl.common.SLException;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
 import com.sap.cloud.lm.sl.common.util.TestUtil;
@@ -79,6 +81,9 @@ public class DeleteServicesStepTest extends SyncFlowableStepTest<DeleteServicesS
     @Mock
     private EventsGetter eventsGetter;
 
+    @Mock
+    private ServicesSnapshotCache servicesSnapshotCache;
+
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
@@ -147,6 +152,8 @@ public class DeleteServicesStepTest extends SyncFlowableStepTest<DeleteServicesS
         verifyClient();
         verifyServiceUnbinding();
         verifyServiceKeyDeletion();
+        Mockito.verify(servicesSnapshotCache, Mockito.atLeastOnce())
+               .invalidate(Mockito.any());
     }
 
     @SuppressWarnings("unchecked")
@@ -188,21 +195,15 @@ public class DeleteServicesStepTest extends SyncFlowableStepTest<DeleteServicesS
     }
 
     private void prepareClient() {
+        Mockito.when(servicesSnapshotCache.get(Mockito.any(), Matchers.eq(client)))
+               .thenReturn(createServicesSnapshot());
         for (SimpleService service : stepInput.servicesToDelete) {
-            Mockito.when(client.getService(Matchers.eq(service.name), Matchers.anyBoolean()))
-                   .thenReturn(createCloudService(service));
-            Mockito.when(client.getService(service.name))
-                   .thenReturn(createCloudService(service));
             Mockito.when(client.getServiceInstance(service.name))
                    .thenReturn(createCloudServiceInstance(service));
             if (service.hasBoundApplications) {
                 Mockito.when(client.getApplications())
                     .thenReturn(Arrays.asList(createCloudApplication(metadata)));
             }
-            if (service.hasServiceKeys) {
-                Mockito.when(client.getServiceKeys(service.name))
-                    .thenReturn(Arrays.asList(createCloudServiceKey(metadata)));
-            }
             if (service.httpErrorCodeToReturnOnDelete != null) {
                 HttpStatus httpStatusToReturnOnDelete = HttpStatus.valueOf(service.httpErrorCodeToReturnOnDelete);
                 Mockito.doThrow(new CloudOperationException(httpStatusToReturnOnDelete))
@@ -212,6 +213,24 @@ public class DeleteServicesStepTest extends SyncFlowableStepTest<DeleteServicesS
         }
     }
 
+    private ServicesSnapshot createServicesSnapshot() {
+        List<CloudService> services = stepInput.servicesToDelete.stream()
+            .map(this::createCloudService)
+            .collect(Collectors.toList());
+        Map<String, List<CloudServiceBinding>> serviceBindings = stepInput.servicesToDelete.stream()
+            .collect(Collectors.toMap(service -> service.name, this::createCloudServiceBindings));
+        Map<String, List<CloudServiceKey>> serviceKeys = stepInput.servicesToDelete.stream()
+            .collect(Collectors.toMap(service -> service.name, this::createCloudServiceKeys));
+        return new ServicesSnapshot(services, () -> serviceBindings, () -> serviceKeys);
+    }
+
+    private List<CloudServiceKey> createCloudServiceKeys(SimpleService service) {
+        if (!service.hasServiceKeys) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(createCloudServiceKey(metadata));
+    }
+
     private CloudApplication createCloudApplication(CloudMetadata metadata) {
         return ImmutableCloudApplication.builder()
             .metadata(metadata)
@@ -336,6 +355,8 @@ public class DeleteServicesStepTest extends SyncFlowableStepTest<DeleteServicesS
                        .unbindService(Mockito.anyString(), Mockito.eq(service.name));
             }
         }
+        Mockito.verify(client, Mockito.atMost(1))
+               .getApplications();
     }
 
     private void verifyServiceKeyDeletion() {
@@ -78,7 +78,7 @@ public class DetectDeployedMtaStepTest extends SyncFlowableStepTest<DetectDeploy
     @Before
     public void setUp() throws Exception {
         prepareContext();
-        step.componentsDetector = (deployedApps) -> componentsDetector.detectAllDeployedComponents(deployedApps);
+        step.componentsDetector = (spaceId, deployedApps) -> componentsDetector.detectAllDeployedComponents(deployedApps);
     }
 
     private void prepareContext() throws Exception {
@@ -0,0 +1,118 @@
+package com.sap.cloud.lm.sl.cf.process.steps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ExecutionQuery;
+import org.junit.Before;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import com.sap.cloud.lm.sl.cf.process.Constants;
+import com.sap.cloud.lm.sl.cf.web.api.model.State;
+import com.sap.cloud.lm.sl.mta.model.Module;
+
+@RunWith(Parameterized.class)
+public class PollModuleDependenciesStatusExecutionTest extends AsyncStepOperationTest<WaitForModuleDependenciesStep> {
+
+    private static final String PARENT_EXECUTION_ID = "parent-execution";
+    private static final String SUPER_EXECUTION_ID = "super-execution";
+    private static final Module MODULE_A = Module.createV3()
+        .setName("a");
+    private static final Module MODULE_B = Module.createV3()
+        .setName("b")
+        .setDeployedAfter(Arrays.asList("a"));
+
+    private final Object deployedModuleVariable;
+    private final State operationState;
+    private final AsyncExecutionState expectedStatus;
+
+    @Mock
+    private ProcessEngine processEngine;
+    @Mock
+    private RuntimeService runtimeService;
+
+    @Parameters
+    public static Iterable<Object[]> getParameters() {
+        return Arrays.asList(new Object[][] {
+// @formatter:off
+            // (0) The module, which the module depends on, is not yet deployed:
+            {
+                null, State.RUNNING, AsyncExecutionState.RUNNING,
+            },
+            // (1) The module, which the module depends on, is deployed:
+            {
+                true, State.RUNNING, AsyncExecutionState.FINISHED,
+            },
+            // (2) The operation has failed before the module, which the module depends on, was deployed:
+            {
+                null, State.ERROR, AsyncExecutionState.ERROR,
+            },
+            // (3) The operation has failed in another module after the module, which the module depends on, was deployed:
+            {
+                true, State.ERROR, AsyncExecutionState.FINISHED,
+            },
+// @formatter:on
+        });
+    }
+
+    public PollModuleDependenciesStatusExecutionTest(Object deployedModuleVariable, State operationState,
+        AsyncExecutionState expectedStatus) {
+        this.deployedModuleVariable = deployedModuleVariable;
+        this.operationState = operationState;
+        this.expectedStatus = expectedStatus;
+    }
+
+    @Before
+    public void setUp() {
+        prepareContext();
+        prepareRuntimeService();
+        when(flowableFacadeFacade.getProcessInstanceStates(Collections.singletonList(TEST_CORRELATION_ID)))
+            .thenReturn(Collections.singletonMap(TEST_CORRELATION_ID, operationState));
+    }
+
+    private void prepareContext() {
+        StepsUtil.setModulesToIterateInParallel(context, Arrays.asList(MODULE_A, MODULE_B));
+        StepsUtil.setModuleToDeploy(context, MODULE_B);
+        when(context.getParentId()).thenReturn(PARENT_EXECUTION_ID);
+    }
+
+    private void prepareRuntimeService() {
+        when(flowableFacadeFacade.getProcessEngine()).thenReturn(processEngine);
+        when(processEngine.getRuntimeService()).thenReturn(runtimeService);
+        ExecutionQuery executionQuery = Mockito.mock(ExecutionQuery.class);
+        when(runtimeService.createExecutionQuery()).thenReturn(executionQuery);
+        when(executionQuery.executionId(PARENT_EXECUTION_ID)).thenReturn(executionQuery);
+        Execution parentExecution = Mockito.mock(Execution.class);
+        when(executionQuery.singleResult()).thenReturn(parentExecution);
+        when(parentExecution.getSuperExecutionId()).thenReturn(SUPER_EXECUTION_ID);
+        when(runtimeService.getVariable(SUPER_EXECUTION_ID, Constants.VAR_DEPLOYED_MODULE_VAR_PREFIX + "a"))
+            .thenReturn(deployedModuleVariable);
+    }
+
+    @Override
+    protected WaitForModuleDependenciesStep createStep() {
+        return new WaitForModuleDependenciesStep();
+    }
+
+    @Override
+    protected List<AsyncExecution> getAsyncOperations(ExecutionWrapper wrapper) {
+        return step.getAsyncStepExecutions(wrapper);
+    }
+
+    @Override
+    protected void validateOperationExecutionResult(AsyncExecutionState result) {
+        assertEquals(expectedStatus, result);
+    }
+
+}
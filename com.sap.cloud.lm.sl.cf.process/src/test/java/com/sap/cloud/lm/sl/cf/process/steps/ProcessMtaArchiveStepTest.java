@@ -81,7 +81,7 @@ public class ProcessMtaArchiveStepTest extends SyncFlowableStepTest<ProcessMtaAr
             }
 
         }).when(fileService)
-            .processFileContent(any());
+            .processArchiveEntriesContent(any(), any());
     }
 
     @Test
@@ -10,7 +10,6 @@ import java.util.Objects;
 import org.apache.commons.collections4.CollectionUtils;
 import org.cloudfoundry.client.lib.domain.CloudMetadata;
 import org.junit.Before;
-import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -18,7 +17,6 @@ import org.junit.runners.Parameterized.Parameters;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.sap.cloud.lm.sl.cf.client.lib.domain.CloudApplicationExtended;
 import com.sap.cloud.lm.sl.cf.client.lib.domain.ImmutableCloudApplicationExtended;
 import com.sap.cloud.lm.sl.cf.core.dao.ConfigurationEntryDao;
@@ -38,8 +36,6 @@ public class PublishConfigurationEntriesStepTest extends SyncFlowableStepTest<Pu
 
     }
 
-    private static List<ConfigurationEntry> exisitingConfigurationEntries;
-
     private StepInput input;
     private ConfigurationEntryDao configurationEntryDaoMock = Mockito.mock(ConfigurationEntryDao.class);
 
@@ -67,14 +63,6 @@ public class PublishConfigurationEntriesStepTest extends SyncFlowableStepTest<Pu
         });
     }
 
-    @BeforeClass
-    public static void loadConfigurationEntries() throws Exception {
-        exisitingConfigurationEntries = JsonUtil.fromJson(
-            TestUtil.getResourceAsString("configuration-entries.json", PublishConfigurationEntriesStepTest.class),
-            new TypeReference<List<ConfigurationEntry>>() {
-            });
-    }
-
     @Before
     public void setUp() throws Exception {
         prepareContext();
@@ -82,15 +70,10 @@ public class PublishConfigurationEntriesStepTest extends SyncFlowableStepTest<Pu
         step.configurationEntryDao = configurationEntryDaoMock;
     }
 
+    @SuppressWarnings("unchecked")
     public void prepareDao() throws Exception {
-        for (ConfigurationEntry entry : exisitingConfigurationEntries) {
-            Mockito
-                .when(configurationEntryDaoMock.find(Mockito.matches(entry.getProviderNid()), Mockito.matches(entry.getProviderId()),
-                    Mockito.matches(entry.getProviderVersion()
-                        .toString()),
-                    Mockito.eq(entry.getTargetSpace()), Mockito.any(), Mockito.eq(null)))
-                .thenReturn(Arrays.asList(entry));
-        }
+        Mockito.when(configurationEntryDaoMock.publish(Mockito.anyList()))
+            .thenAnswer(invocation -> invocation.getArguments()[0]);
     }
 
     private void prepareContext() {
@@ -112,17 +95,16 @@ public class PublishConfigurationEntriesStepTest extends SyncFlowableStepTest<Pu
         validateConfigurationEntryDao();
     }
 
+    @SuppressWarnings("unchecked")
     private void validateConfigurationEntryDao() throws Exception {
         if (CollectionUtils.isEmpty(input.entriesToPublish)) {
             Mockito.verify(configurationEntryDaoMock, Mockito.never())
-                .add(Mockito.any());
-            Mockito.verify(configurationEntryDaoMock, Mockito.never())
-                .update(Mockito.anyLong(), Mockito.any());
+                .publish(Mockito.anyList());
+            return;
         }
-        List<ConfigurationEntry> createdEntries = getCreatedEntries();
-        List<ConfigurationEntry> updatedEntries = getUpdatedEntries();
-        assertContainsEntries(input.expectedCreatedEntries, createdEntries);
-        assertContainsEntries(input.expectedUpdatedEntries, updatedEntries);
+        List<ConfigurationEntry> publishedEntries = getPublishedEntries();
+        assertContainsEntries(input.expectedCreatedEntries, publishedEntries);
+        assertContainsEntries(input.expectedUpdatedEntries, publishedEntries);
     }
 
     private void assertContainsEntries(List<ConfigurationEntry> entries, List<ConfigurationEntry> expectedEntries) {
@@ -132,18 +114,12 @@ public class PublishConfigurationEntriesStepTest extends SyncFlowableStepTest<Pu
 
     }
 
-    private List<ConfigurationEntry> getCreatedEntries() {
-        ArgumentCaptor<ConfigurationEntry> configurationEntryCaptor = ArgumentCaptor.forClass(ConfigurationEntry.class);
-        Mockito.verify(configurationEntryDaoMock, Mockito.times(input.expectedCreatedEntries.size()))
-            .add(configurationEntryCaptor.capture());
-        return configurationEntryCaptor.getAllValues();
-    }
-
-    private List<ConfigurationEntry> getUpdatedEntries() {
-        ArgumentCaptor<ConfigurationEntry> configurationEntryCaptor = ArgumentCaptor.forClass(ConfigurationEntry.class);
-        Mockito.verify(configurationEntryDaoMock, Mockito.times(input.expectedUpdatedEntries.size()))
-            .update(Mockito.anyLong(), configurationEntryCaptor.capture());
-        return configurationEntryCaptor.getAllValues();
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private List<ConfigurationEntry> getPublishedEntries() {
+        ArgumentCaptor<List> configurationEntriesCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(configurationEntryDaoMock)
+            .publish(configurationEntriesCaptor.capture());
+        return configurationEntriesCaptor.getValue();
     }
 
     private void assertContainsEntry(List<ConfigurationEntry> entries, ConfigurationEntry expectedEntry) {
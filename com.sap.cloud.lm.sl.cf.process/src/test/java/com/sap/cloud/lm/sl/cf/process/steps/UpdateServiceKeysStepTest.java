@@ -18,10 +18,13 @@ import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import com.sap.cloud.lm.sl.cf.client.lib.domain.ImmutableCloudServiceExtended;
 import com.sap.cloud.lm.sl.cf.core.cf.clients.ServiceInstanceGetter;
 import com.sap.cloud.lm.sl.cf.core.cf.clients.ServiceUpdater;
 import com.sap.cloud.lm.sl.cf.core.exec.MethodExecution;
 import com.sap.cloud.lm.sl.cf.core.exec.MethodExecution.ExecutionState;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshot;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
 import com.sap.cloud.lm.sl.common.util.TestUtil;
 
@@ -37,6 +40,8 @@ public class UpdateServiceKeysStepTest extends SyncFlowableStepTest<UpdateServic
     private ServiceInstanceGetter serviceInstanceGetter;
     @Mock
     protected ServiceUpdater serviceUpdater;
+    @Mock
+    private ServicesSnapshotCache servicesSnapshotCache;
 
     @Parameters
     public static Iterable<Object[]> getParameters() {
@@ -60,6 +65,9 @@ public class UpdateServiceKeysStepTest extends SyncFlowableStepTest<UpdateServic
     }
 
     private void prepareClient() {
+        // The service is not part of the snapshot, so its keys are looked up directly:
+        Mockito.when(servicesSnapshotCache.get(Matchers.any(), Matchers.any()))
+            .thenReturn(new ServicesSnapshot(Collections.emptyList(), Collections::emptyMap, Collections::emptyMap));
         Mockito.when(client.getServiceKeys(stepInput.service.name)).thenReturn(stepInput.existingServiceKeys);
     }
 
@@ -90,6 +98,24 @@ public class UpdateServiceKeysStepTest extends SyncFlowableStepTest<UpdateServic
         }
         assertMethodCalls();
     }
+
+    @Test
+    public void testExistingServiceKeysAreTakenFromSnapshot() throws Exception {
+        // The service is part of the snapshot, so its keys are not looked up directly:
+        Mockito.when(servicesSnapshotCache.get(Matchers.any(), Matchers.any()))
+            .thenReturn(new ServicesSnapshot(Collections.singletonList(ImmutableCloudServiceExtended.builder()
+                .name(stepInput.service.name)
+                .build()), Collections::emptyMap, () -> Collections.singletonMap(stepInput.service.name, stepInput.existingServiceKeys)));
+        prepareResponses(STEP_EXECUTION);
+
+        step.execute(context);
+
+        assertStepPhase(STEP_EXECUTION);
+        Mockito.verify(client, Mockito.never())
+            .getServiceKeys(Matchers.anyString());
+        Mockito.verify(servicesSnapshotCache)
+            .invalidate(Matchers.any(), Matchers.eq(stepInput.service.name));
+    }
     
     private void assertMethodCalls() {
         Mockito.verify(serviceUpdater, Mockito.times(1)).updateServiceTags(Matchers.any(), Matchers.any(), Matchers.any());
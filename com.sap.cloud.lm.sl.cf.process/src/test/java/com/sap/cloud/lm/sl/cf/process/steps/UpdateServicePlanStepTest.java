@@ -18,6 +18,7 @@ import com.sap.cloud.lm.sl.cf.core.cf.clients.ServiceInstanceGetter;
 import com.sap.cloud.lm.sl.cf.core.cf.clients.ServiceUpdater;
 import com.sap.cloud.lm.sl.cf.core.exec.MethodExecution;
 import com.sap.cloud.lm.sl.cf.core.exec.MethodExecution.ExecutionState;
+import com.sap.cloud.lm.sl.cf.process.util.ServicesSnapshotCache;
 import com.sap.cloud.lm.sl.common.util.JsonUtil;
 import com.sap.cloud.lm.sl.common.util.TestUtil;
 
@@ -33,6 +34,8 @@ public class UpdateServicePlanStepTest extends SyncFlowableStepTest<UpdateServic
     private ServiceInstanceGetter serviceInstanceGetter;
     @Mock
     protected ServiceUpdater serviceUpdater;
+    @Mock
+    private ServicesSnapshotCache servicesSnapshotCache;
 
     @Parameters
     public static Iterable<Object[]> getParameters() {
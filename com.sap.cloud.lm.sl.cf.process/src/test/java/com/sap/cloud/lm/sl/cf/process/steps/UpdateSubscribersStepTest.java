@@ -11,6 +11,7 @@ import static org.mockito.Mockito.when;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -282,9 +283,18 @@ public class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscr
         assertStepFinishedSuccessfully();
 
         StepOutput actualOutput = captureStepOutput();
+        sortCallArgumentsOfUpdateApplicationEnvMethod(expectedOutput);
+        sortCallArgumentsOfUpdateApplicationEnvMethod(actualOutput);
         assertEquals(JsonUtil.toJson(expectedOutput, true), JsonUtil.toJson(actualOutput, true));
     }
 
+    private void sortCallArgumentsOfUpdateApplicationEnvMethod(StepOutput output) {
+        // The subscribers are updated concurrently, so the order of the calls is not deterministic:
+        if (output.callArgumentsOfUpdateApplicationEnvMethod != null) {
+            output.callArgumentsOfUpdateApplicationEnvMethod.sort(Comparator.comparing((CloudApplication app) -> JsonUtil.toJson(app)));
+        }
+    }
+
     private StepOutput captureStepOutput() {
         StepOutput result = new StepOutput();
         result.callArgumentsOfUpdateApplicationEnvMethod = new ArrayList<>();
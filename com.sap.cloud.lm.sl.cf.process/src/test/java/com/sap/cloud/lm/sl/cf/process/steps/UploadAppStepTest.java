@@ -189,14 +189,13 @@ public class UploadAppStepTest {
                     return null;
                 }
             }).when(fileService)
-                .processFileContent(any());
+                .processArchiveEntriesContent(any(), any());
         }
 
         private class UploadAppStepMock extends UploadAppStep {
 
             public UploadAppStepMock() {
-                applicationArchiveReader = getApplicationArchiveReader();
-                applicationZipBuilder = getApplicationZipBuilder(applicationArchiveReader);
+                applicationZipBuilder = getApplicationZipBuilder(getApplicationArchiveReader());
             }
 
             @Override
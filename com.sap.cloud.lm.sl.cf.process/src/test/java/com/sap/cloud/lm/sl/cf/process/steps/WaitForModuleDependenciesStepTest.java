@@ -0,0 +1,60 @@
+package com.sap.cloud.lm.sl.cf.process.steps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.cf.process.message.Messages;
+import com.sap.cloud.lm.sl.mta.model.Module;
+
+public class WaitForModuleDependenciesStepTest extends SyncFlowableStepTest<WaitForModuleDependenciesStep> {
+
+    private static final Module MODULE_A = Module.createV3()
+        .setName("a");
+    private static final Module MODULE_B = Module.createV3()
+        .setName("b")
+        .setDeployedAfter(Arrays.asList("a", "c"));
+
+    @Test
+    public void testModuleWithDependenciesInTheIterationWaitsForThem() {
+        prepareContext(MODULE_B);
+
+        step.execute(context);
+
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+        verify(stepLogger).info(Messages.WAITING_FOR_MODULES_TO_BE_DEPLOYED, "b", Arrays.asList("a"));
+    }
+
+    @Test
+    public void testModuleWithoutDependenciesInTheIterationDoesNotWait() {
+        prepareContext(MODULE_A);
+
+        step.execute(context);
+
+        assertStepFinishedSuccessfully();
+    }
+
+    @Test
+    public void testModuleOfOldSchemaVersionDoesNotWait() {
+        prepareContext(Module.createV2()
+            .setName("b"));
+
+        step.execute(context);
+
+        assertStepFinishedSuccessfully();
+    }
+
+    private void prepareContext(Module moduleToDeploy) {
+        StepsUtil.setModulesToIterateInParallel(context, Arrays.asList(MODULE_A, moduleToDeploy));
+        StepsUtil.setModuleToDeploy(context, moduleToDeploy);
+    }
+
+    @Override
+    protected WaitForModuleDependenciesStep createStep() {
+        return new WaitForModuleDependenciesStep();
+    }
+
+}
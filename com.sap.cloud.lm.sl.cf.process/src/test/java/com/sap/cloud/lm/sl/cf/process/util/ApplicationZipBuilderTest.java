@@ -1,5 +1,6 @@
 package com.sap.cloud.lm.sl.cf.process.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -86,6 +87,19 @@ public class ApplicationZipBuilderTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("testCreateNewZip")
+    public void testDigestIsCalculatedDuringExtraction(String mtar, String fileName) {
+        ApplicationArchiveReader reader = new ApplicationArchiveReader();
+        String expectedDigest = reader.calculateApplicationDigest(getApplicationArchiveContext(mtar, fileName));
+
+        ApplicationArchiveContext applicationArchiveContext = getApplicationArchiveContext(mtar, fileName);
+        ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(reader);
+        appPath = zipBuilder.extractApplicationInNewArchive(applicationArchiveContext, logger);
+        assertEquals(expectedDigest, applicationArchiveContext.getApplicationDigestCalculator()
+            .getDigest());
+    }
+
     private ApplicationArchiveContext getApplicationArchiveContext(String mtar, String fileName) {
         return new ApplicationArchiveContext(getClass().getResourceAsStream(mtar), fileName, MAX_UPLOAD_FILE_SIZE);
     }
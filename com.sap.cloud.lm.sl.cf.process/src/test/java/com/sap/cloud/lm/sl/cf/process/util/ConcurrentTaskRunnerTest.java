@@ -0,0 +1,77 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentTaskRunnerTest {
+
+    private final ConcurrentTaskRunner runner = new ConcurrentTaskRunner("test-runner", 4);
+
+    @Test
+    public void testResultsAreInTheOrderOfTheInputs() {
+        List<Integer> inputs = Arrays.asList(5, 1, 4, 2, 3);
+
+        List<Integer> results = runner.run(inputs, input -> {
+            sleep(input * 10);
+            return input * 2;
+        });
+
+        assertEquals(Arrays.asList(10, 2, 8, 4, 6), results);
+    }
+
+    @Test
+    public void testTasksAreRunConcurrently() {
+        CountDownLatch latch = new CountDownLatch(2);
+
+        List<Boolean> results = runner.run(Arrays.asList(1, 2), input -> {
+            latch.countDown();
+            return await(latch);
+        });
+
+        assertEquals(Arrays.asList(true, true), results);
+    }
+
+    @Test
+    public void testFailureIsRethrownAfterAllTasksAreCompleted() {
+        AtomicInteger completedTasks = new AtomicInteger();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> runner.run(Arrays.asList(1, 2, 3), input -> {
+            if (input == 1) {
+                throw new IllegalStateException("Task failed!");
+            }
+            sleep(100);
+            return completedTasks.incrementAndGet();
+        }));
+
+        assertEquals("Task failed!", e.getMessage());
+        assertEquals(2, completedTasks.get());
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            return false;
+        }
+    }
+
+}
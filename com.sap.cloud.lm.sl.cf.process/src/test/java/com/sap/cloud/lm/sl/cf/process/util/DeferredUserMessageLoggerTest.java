@@ -0,0 +1,34 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.sap.cloud.lm.sl.cf.core.util.UserMessageLogger;
+
+public class DeferredUserMessageLoggerTest {
+
+    private final DeferredUserMessageLogger deferredLogger = new DeferredUserMessageLogger();
+    private final UserMessageLogger logger = mock(UserMessageLogger.class);
+
+    @Test
+    public void testMessagesAreLoggedInTheOrderOfRecording() {
+        Exception exception = new IllegalStateException("Not found");
+        deferredLogger.info("Deleting service \"{0}\"...", "foo");
+        deferredLogger.warn(exception, "Could not delete service \"{0}\"", "foo");
+        deferredLogger.debug("Service deleted");
+
+        deferredLogger.logTo(logger);
+
+        InOrder inOrder = inOrder(logger);
+        inOrder.verify(logger)
+            .info("Deleting service \"{0}\"...", "foo");
+        inOrder.verify(logger)
+            .warn(exception, "Could not delete service \"{0}\"", "foo");
+        inOrder.verify(logger)
+            .debug("Service deleted");
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sap.cloud.lm.sl.common.util.JsonUtil;
+
+public class JsonBinaryCodecTest {
+
+    private static final int COMPRESSION_THRESHOLD = 1024;
+    private static final TypeReference<Map<String, String>> MAP_TYPE = new TypeReference<Map<String, String>>() {
+    };
+
+    private final JsonBinaryCodec codec = new JsonBinaryCodec(COMPRESSION_THRESHOLD);
+
+    @Test
+    public void testSmallValuesAreNotCompressed() {
+        Map<String, String> value = Collections.singletonMap("foo", "bar");
+
+        byte[] binary = codec.encode(value);
+
+        assertArrayEquals(JsonUtil.toJsonBinary(value), binary);
+        assertEquals(value, codec.decode(binary, MAP_TYPE));
+    }
+
+    @Test
+    public void testLargeValuesAreCompressed() {
+        Map<String, String> value = createLargeValue();
+
+        byte[] binary = codec.encode(value);
+
+        assertTrue(JsonBinaryCodec.isCompressed(binary));
+        assertTrue(binary.length < JsonUtil.toJsonBinary(value).length);
+        assertEquals(value, codec.decode(binary, MAP_TYPE));
+    }
+
+    @Test
+    public void testValuesStoredWithoutCompressionCanBeDecoded() {
+        Map<String, String> value = createLargeValue();
+        byte[] binary = JsonUtil.toJsonBinary(value);
+
+        assertFalse(JsonBinaryCodec.isCompressed(binary));
+        assertEquals(value, codec.decode(binary, MAP_TYPE));
+    }
+
+    private Map<String, String> createLargeValue() {
+        Map<String, String> value = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            value.put("module-" + i, "https://module-" + i + ".cfapps.example.com");
+        }
+        return value;
+    }
+
+}
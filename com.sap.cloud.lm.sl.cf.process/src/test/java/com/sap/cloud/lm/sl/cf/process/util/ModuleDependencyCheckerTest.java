@@ -0,0 +1,80 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.cloudfoundry.client.lib.CloudControllerClient;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudApplication;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.sap.cloud.lm.sl.mta.model.Module;
+
+public class ModuleDependencyCheckerTest {
+
+    private static final Module MODULE_A = createModule("a");
+    private static final Module MODULE_B = createModule("b", "a");
+    private static final Module MODULE_C = createModule("c", "b", "d");
+    private static final Module MODULE_D = createModule("d");
+
+    private final CloudControllerClient client = Mockito.mock(CloudControllerClient.class);
+
+    @Test
+    public void testDependencyNotYetDeployed() {
+        ModuleDependencyChecker checker = createChecker(Arrays.asList(MODULE_A, MODULE_B), Collections.emptyList());
+
+        assertTrue(checker.areAllDependenciesSatisfied(MODULE_A));
+        assertFalse(checker.areAllDependenciesSatisfied(MODULE_B));
+    }
+
+    @Test
+    public void testDependencyAlreadyDeployed() {
+        ModuleDependencyChecker checker = createChecker(Arrays.asList(MODULE_B), Arrays.asList(MODULE_A));
+
+        assertTrue(checker.areAllDependenciesSatisfied(MODULE_B));
+    }
+
+    @Test
+    public void testDependencyWaitedFor() {
+        ModuleDependencyChecker checker = createChecker(Arrays.asList(MODULE_A, MODULE_B), Collections.emptyList());
+
+        assertTrue(checker.areAllDependenciesSatisfied(MODULE_B, Collections.singleton("a")));
+    }
+
+    @Test
+    public void testDependencyNotForDeploymentIsLookedUpOnce() {
+        Mockito.when(client.getApplication("d", false))
+            .thenReturn(ImmutableCloudApplication.builder()
+                .name("d")
+                .build());
+        ModuleDependencyChecker checker = createChecker(Arrays.asList(MODULE_A, MODULE_B, MODULE_C), Collections.emptyList());
+
+        assertTrue(checker.areAllDependenciesSatisfied(MODULE_C, Collections.singleton("b")));
+        assertTrue(checker.areAllDependenciesSatisfied(MODULE_C, Collections.singleton("b")));
+        Mockito.verify(client, Mockito.times(1))
+            .getApplication("d", false);
+    }
+
+    @Test
+    public void testDependencyNotForDeploymentIsMissing() {
+        ModuleDependencyChecker checker = createChecker(Arrays.asList(MODULE_A, MODULE_B, MODULE_C), Collections.emptyList());
+
+        assertFalse(checker.areAllDependenciesSatisfied(MODULE_C, Collections.singleton("b")));
+    }
+
+    private ModuleDependencyChecker createChecker(List<Module> modulesToDeploy, List<Module> completedModules) {
+        return new ModuleDependencyChecker(client, Arrays.asList(MODULE_A, MODULE_B, MODULE_C, MODULE_D), modulesToDeploy,
+            completedModules);
+    }
+
+    private static Module createModule(String name, String... deployedAfter) {
+        return Module.createV3()
+            .setName(name)
+            .setDeployedAfter(Arrays.asList(deployedAfter));
+    }
+
+}
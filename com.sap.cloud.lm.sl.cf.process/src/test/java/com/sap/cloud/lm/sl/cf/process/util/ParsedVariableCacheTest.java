@@ -0,0 +1,98 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class ParsedVariableCacheTest {
+
+    private static final String PROCESS_INSTANCE_ID = "1";
+    private static final String VARIABLE_NAME = "descriptor";
+
+    private final AtomicInteger parses = new AtomicInteger();
+    private final Function<String, StringBuilder> parser = serializedValue -> {
+        parses.incrementAndGet();
+        return new StringBuilder(serializedValue);
+    };
+
+    @Test
+    public void testGetParsesTheSameValueOnce() {
+        ParsedVariableCache cache = new ParsedVariableCache(10);
+
+        StringBuilder value = cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, "a", parser);
+
+        assertSame(value, cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, new String("a"), parser));
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    public void testGetParsesChangedValue() {
+        ParsedVariableCache cache = new ParsedVariableCache(10);
+
+        StringBuilder value = cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, "a", parser);
+
+        assertEquals("b", cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, "b", parser)
+            .toString());
+        assertNotSame(value, cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, "a", parser));
+        assertEquals(3, parses.get());
+    }
+
+    @Test
+    public void testGetDoesNotShareValuesOfDifferentProcesses() {
+        ParsedVariableCache cache = new ParsedVariableCache(10);
+
+        StringBuilder value = cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, "a", parser);
+
+        assertNotSame(value, cache.get("2", VARIABLE_NAME, "a", parser));
+        assertEquals(2, parses.get());
+    }
+
+    @Test
+    public void testGetComparesBinaryValuesByContent() {
+        ParsedVariableCache cache = new ParsedVariableCache(10);
+        Function<byte[], String> binaryParser = serializedValue -> {
+            parses.incrementAndGet();
+            return new String(serializedValue);
+        };
+
+        String value = cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, new byte[] { 'a' }, binaryParser);
+
+        assertSame(value, cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, new byte[] { 'a' }, binaryParser));
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    public void testInvalidate() {
+        ParsedVariableCache cache = new ParsedVariableCache(10);
+
+        cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, "a", parser);
+        cache.invalidate(PROCESS_INSTANCE_ID, VARIABLE_NAME);
+        cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, "a", parser);
+
+        assertEquals(2, parses.get());
+    }
+
+    @Test
+    public void testGetMissingValue() {
+        ParsedVariableCache cache = new ParsedVariableCache(10);
+
+        assertNull(cache.get(PROCESS_INSTANCE_ID, VARIABLE_NAME, null, parser));
+        assertEquals(0, parses.get());
+    }
+
+    @Test
+    public void testSize() {
+        ParsedVariableCache cache = new ParsedVariableCache(2);
+        for (int i = 0; i < 10; i++) {
+            cache.get(Integer.toString(i), VARIABLE_NAME, "a", parser);
+        }
+        assertEquals(2, cache.size());
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.sap.cloud.lm.sl.cf.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.cloudfoundry.client.lib.CloudControllerClient;
+import org.cloudfoundry.client.lib.domain.CloudService;
+import org.cloudfoundry.client.lib.domain.CloudServiceBinding;
+import org.cloudfoundry.client.lib.domain.CloudServiceKey;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudMetadata;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudServiceBinding;
+import org.cloudfoundry.client.lib.domain.ImmutableCloudServiceKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import com.sap.cloud.lm.sl.cf.client.lib.domain.ImmutableCloudServiceExtended;
+import com.sap.cloud.lm.sl.cf.core.cf.clients.ServiceBindingsAndKeysGetter;
+import com.sap.cloud.lm.sl.cf.core.util.NameUtil;
+
+public class ServicesSnapshotCacheTest {
+
+    private static final String CORRELATION_ID = "1";
+    private static final CloudService SERVICE_1 = createService("service-1");
+    private static final CloudService SERVICE_2 = createService("service-2");
+
+    private final CloudControllerClient client = Mockito.mock(CloudControllerClient.class);
+    private final ServiceBindingsAndKeysGetter serviceBindingsAndKeysGetter = Mockito.mock(ServiceBindingsAndKeysGetter.class);
+
+    @BeforeEach
+    public void setUp() {
+        Mockito.when(client.getServices())
+            .thenReturn(Arrays.asList(SERVICE_1, SERVICE_2));
+    }
+
+    @Test
+    public void testSnapshotIsSharedByTheStepsOfAnOperation() {
+        ServicesSnapshotCache cache = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 60000);
+
+        ServicesSnapshot snapshot = cache.get(CORRELATION_ID, client);
+
+        assertSame(snapshot, cache.get(CORRELATION_ID, client));
+        Mockito.verify(client, Mockito.times(1))
+            .getServices();
+    }
+
+    @Test
+    public void testSnapshotIsNotSharedBetweenOperations() {
+        ServicesSnapshotCache cache = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 60000);
+
+        ServicesSnapshot snapshot = cache.get(CORRELATION_ID, client);
+
+        assertNotSame(snapshot, cache.get("2", client));
+    }
+
+    @Test
+    public void testInvalidatedSnapshotIsLoadedAgain() {
+        ServicesSnapshotCache cache = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 60000);
+
+        ServicesSnapshot snapshot = cache.get(CORRELATION_ID, client);
+        cache.invalidate(CORRELATION_ID);
+
+        assertNotSame(snapshot, cache.get(CORRELATION_ID, client));
+    }
+
+    @Test
+    public void testSnapshotInvalidatedWhileLoadingIsNotCached() {
+        ServicesSnapshotCache cache = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 60000);
+        Mockito.when(client.getServices())
+            .thenAnswer(invocation -> {
+                cache.invalidate(CORRELATION_ID);
+                return Arrays.asList(SERVICE_1, SERVICE_2);
+            });
+
+        cache.get(CORRELATION_ID, client);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSnapshotWithServiceInvalidatedWhileLoadingIsNotCached() {
+        ServicesSnapshotCache cache = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 60000);
+        Mockito.when(client.getServices())
+            .thenAnswer(invocation -> {
+                cache.invalidate(CORRELATION_ID, "service-1");
+                return Arrays.asList(SERVICE_1, SERVICE_2);
+            });
+
+        cache.get(CORRELATION_ID, client);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSnapshotInvalidatedByAnotherOperationWhileLoadingIsCached() {
+        ServicesSnapshotCache cache = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 60000);
+        cache.get("2", client);
+        Mockito.when(client.getServices())
+            .thenAnswer(invocation -> {
+                cache.invalidate("2");
+                return Arrays.asList(SERVICE_1, SERVICE_2);
+            });
+
+        ServicesSnapshot snapshot = cache.get(CORRELATION_ID, client);
+
+        assertSame(snapshot, cache.get(CORRELATION_ID, client));
+    }
+
+    @Test
+    public void testOnlyInvalidatedServiceIsNotTakenFromSnapshot() {
+        ServicesSnapshotCache cache = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 60000);
+
+        ServicesSnapshot snapshot = cache.get(CORRELATION_ID, client);
+        cache.invalidate(CORRELATION_ID, "service-1");
+
+        assertSame(snapshot, cache.get(CORRELATION_ID, client));
+        assertEquals(2, snapshot.getServices()
+            .size());
+        assertNull(snapshot.getService("service-1"));
+        assertNull(snapshot.getServiceBindings("service-1"));
+        assertNull(snapshot.getServiceKeys("service-1"));
+        assertSame(SERVICE_2, snapshot.getService("service-2"));
+    }
+
+    @Test
+    public void testExpiredSnapshotIsLoadedAgain() {
+        ServicesSnapshotCache cache = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 0);
+
+        ServicesSnapshot snapshot = cache.get(CORRELATION_ID, client);
+
+        assertNotSame(snapshot, cache.get(CORRELATION_ID, client));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSnapshotsAreEvicted() {
+        ServicesSnapshotCache cache = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 2, 60000);
+
+        cache.get("1", client);
+        cache.get("2", client);
+        cache.get("3", client);
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testBindingsAreLoadedOnceForAllServices() {
+        CloudServiceBinding binding = ImmutableCloudServiceBinding.builder()
+            .applicationGuid(NameUtil.getUUID("application-1"))
+            .build();
+        Mockito.when(serviceBindingsAndKeysGetter.getServiceBindings(Matchers.eq(client), Matchers.any()))
+            .thenReturn(Collections.singletonMap(getGuid(SERVICE_1), Collections.singletonList(binding)));
+        ServicesSnapshot snapshot = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 60000).get(CORRELATION_ID, client);
+
+        assertEquals(Collections.singletonList(binding), snapshot.getServiceBindings("service-1"));
+        assertTrue(snapshot.getServiceBindings("service-2")
+            .isEmpty());
+        assertNull(snapshot.getServiceBindings("service-3"));
+        Mockito.verify(serviceBindingsAndKeysGetter, Mockito.times(1))
+            .getServiceBindings(Matchers.eq(client), Matchers.any());
+    }
+
+    @Test
+    public void testKeysAreLoadedOnceForAllServices() {
+        CloudServiceKey key = ImmutableCloudServiceKey.builder()
+            .name("key-1")
+            .build();
+        Map<UUID, List<CloudServiceKey>> keys = Collections.singletonMap(getGuid(SERVICE_2), Collections.singletonList(key));
+        Mockito.when(serviceBindingsAndKeysGetter.getServiceKeys(Matchers.eq(client), Matchers.any()))
+            .thenReturn(keys);
+        ServicesSnapshot snapshot = new ServicesSnapshotCache(serviceBindingsAndKeysGetter, 10, 60000).get(CORRELATION_ID, client);
+
+        List<CloudServiceKey> serviceKeys = snapshot.getServiceKeys("service-2");
+
+        assertEquals(1, serviceKeys.size());
+        assertEquals("service-2", serviceKeys.get(0)
+            .getService()
+            .getName());
+        assertTrue(snapshot.getServiceKeys("service-1")
+            .isEmpty());
+        Mockito.verify(serviceBindingsAndKeysGetter, Mockito.times(1))
+            .getServiceKeys(Matchers.eq(client), Matchers.any());
+    }
+
+    private static CloudService createService(String name) {
+        return ImmutableCloudServiceExtended.builder()
+            .metadata(ImmutableCloudMetadata.builder()
+                .guid(NameUtil.getUUID(name))
+                .build())
+            .name(name)
+            .build();
+    }
+
+    private static UUID getGuid(CloudService service) {
+        return service.getMetadata()
+            .getGuid();
+    }
+
+}
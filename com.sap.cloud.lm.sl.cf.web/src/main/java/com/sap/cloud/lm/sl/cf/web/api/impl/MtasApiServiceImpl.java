@@ -14,7 +14,7 @@ import org.glassfish.jersey.process.internal.RequestScoped;
 import org.springframework.stereotype.Component;
 
 import com.sap.cloud.lm.sl.cf.core.cf.CloudControllerClientProvider;
-import com.sap.cloud.lm.sl.cf.core.cf.detect.DeployedComponentsDetector;
+import com.sap.cloud.lm.sl.cf.core.cf.detect.DeployedComponentsIndex;
 import com.sap.cloud.lm.sl.cf.core.model.DeployedComponents;
 import com.sap.cloud.lm.sl.cf.core.model.DeployedMta;
 import com.sap.cloud.lm.sl.cf.core.model.DeployedMtaMetadata;
@@ -39,6 +39,8 @@ public class MtasApiServiceImpl implements MtasApiService {
     private CloudControllerClientProvider clientProvider;
     @Inject
     private AuthorizationChecker authorizationChecker;
+    @Inject
+    private DeployedComponentsIndex deployedComponentsIndex;
 
     public Response getMta(String mtaId, SecurityContext securityContext, String spaceGuid, HttpServletRequest request) {
         authorizationChecker.ensureUserIsAuthorized(request, SecurityContextUtil.getUserInfo(), spaceGuid, ACTION);
@@ -62,7 +64,7 @@ public class MtasApiServiceImpl implements MtasApiService {
 
     private DeployedComponents detectDeployedComponents(String spaceGuid) {
         List<CloudApplication> applications = getCloudFoundryClient(spaceGuid).getApplications(false);
-        return new DeployedComponentsDetector().detectAllDeployedComponents(applications);
+        return deployedComponentsIndex.detectAllDeployedComponents(spaceGuid, applications);
     }
 
     private CloudControllerClient getCloudFoundryClient(String spaceGuid) {
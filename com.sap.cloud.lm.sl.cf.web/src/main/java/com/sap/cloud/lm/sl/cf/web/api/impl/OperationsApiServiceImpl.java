@@ -1,5 +1,6 @@
 package com.sap.cloud.lm.sl.cf.web.api.impl;
 
+import java.io.OutputStream;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -16,8 +17,10 @@ import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.io.IOUtils;
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.cloudfoundry.client.lib.domain.CloudSpace;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -37,6 +40,7 @@ import com.sap.cloud.lm.sl.cf.core.flowable.ResumeProcessAction;
 import com.sap.cloud.lm.sl.cf.core.flowable.RetryProcessAction;
 import com.sap.cloud.lm.sl.cf.core.util.UserInfo;
 import com.sap.cloud.lm.sl.cf.persistence.message.Constants;
+import com.sap.cloud.lm.sl.cf.persistence.model.FileEntry;
 import com.sap.cloud.lm.sl.cf.persistence.model.ProgressMessage;
 import com.sap.cloud.lm.sl.cf.persistence.model.ProgressMessage.ProgressMessageType;
 import com.sap.cloud.lm.sl.cf.persistence.services.FileStorageException;
@@ -132,9 +136,16 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     }
 
     @Override
-    public Response getMtaOperationLogContent(String operationId, String logId, SecurityContext securityContext, String spaceGuid) {
+    public Response getMtaOperationLogContent(String operationId, String logId, Long offset, SecurityContext securityContext,
+        String spaceGuid) {
         try {
-            String content = logsService.getLogContent(spaceGuid, operationId, logId);
+            List<FileEntry> logFiles = logsService.listLogFiles(spaceGuid, operationId, logId);
+            if (logFiles.isEmpty()) {
+                return Response.ok()
+                    .build();
+            }
+            // The content is written directly to the response, so that large logs are never loaded in memory:
+            StreamingOutput content = outputStream -> writeLogContent(logFiles, offset == null ? 0 : Math.max(0, offset), outputStream);
             return Response.ok()
                 .entity(content)
                 .build();
@@ -143,6 +154,14 @@ public class OperationsApiServiceImpl implements OperationsApiService {
         }
     }
 
+    private void writeLogContent(List<FileEntry> logFiles, long offset, OutputStream outputStream) {
+        try {
+            logsService.processLogContent(logFiles, offset, contentStream -> IOUtils.copy(contentStream, outputStream));
+        } catch (FileStorageException e) {
+            throw new ContentException(e);
+        }
+    }
+
     @Override
     public Response startMtaOperation(Operation operation, SecurityContext securityContext, String spaceGuid) {
         String userId = getAuthenticatedUser(securityContext);
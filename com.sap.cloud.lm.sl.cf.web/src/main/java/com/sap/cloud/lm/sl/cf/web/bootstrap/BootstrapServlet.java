@@ -53,6 +53,8 @@ public class BootstrapServlet extends HttpServlet {
     @Autowired(required = false)
     private List<AsyncChange> asyncChanges;
 
+    private AuditLoggingFacadeSLImpl auditLoggingFacade;
+
     @Override
     public void init(ServletConfig config) throws ServletException {
         super.init(config);
@@ -91,6 +93,9 @@ public class BootstrapServlet extends HttpServlet {
     @Override
     public void destroy() {
         destroyExtras();
+        if (auditLoggingFacade != null) {
+            auditLoggingFacade.shutdown();
+        }
     }
 
     protected void initExtras() throws Exception {
@@ -107,7 +112,8 @@ public class BootstrapServlet extends HttpServlet {
 
     private void initializeProviders() {
         // Initialize audit logging provider
-        AuditLoggingProvider.setFacade(new AuditLoggingFacadeSLImpl(dataSource, getUserInfoProvider()));
+        auditLoggingFacade = new AuditLoggingFacadeSLImpl(dataSource, getUserInfoProvider(), configuration);
+        AuditLoggingProvider.setFacade(auditLoggingFacade);
     }
 
     private void executeAsyncDatabaseChanges() {